@@ -15,15 +15,20 @@ import com.marry1q.marry1qbe.domain.account.dto.response.TransactionReviewRespon
 import com.marry1q.marry1qbe.domain.account.dto.response.TransactionResponse;
 import com.marry1q.marry1qbe.domain.account.dto.response.AccountHolderNameResponse;
 import com.marry1q.marry1qbe.domain.account.dto.response.ProductPaymentInfoResponse;
+import com.marry1q.marry1qbe.domain.account.dto.response.TransactionSyncResponse;
+import com.marry1q.marry1qbe.domain.account.dto.response.AutoTransferOutboxResponse;
 import com.marry1q.marry1qbe.domain.account.service.DepositService;
 import com.marry1q.marry1qbe.domain.account.service.WithdrawService;
 import com.marry1q.marry1qbe.domain.account.service.AutoTransferService;
 import com.marry1q.marry1qbe.domain.account.service.AccountService;
+import com.marry1q.marry1qbe.domain.account.service.AutoTransferOutboxService;
 import com.marry1q.marry1qbe.domain.account.exception.InsufficientBalanceException;
 import com.marry1q.marry1qbe.domain.account.exception.WithdrawTransferException;
 import com.marry1q.marry1qbe.domain.account.exception.DepositTransferException;
 import com.marry1q.marry1qbe.domain.account.exception.AutoTransferNotFoundException;
+import com.marry1q.marry1qbe.domain.account.exception.TransferIdempotencyException;
 import com.marry1q.marry1qbe.grobal.exception.ExternalApiException;
+import com.marry1q.marry1qbe.grobal.exception.CustomException;
 import com.marry1q.marry1qbe.grobal.dto.CustomApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -59,6 +64,7 @@ public class AccountController {
     private final WithdrawService withdrawService;
     private final AutoTransferService autoTransferService;
     private final AccountService accountService;
+    private final AutoTransferOutboxService autoTransferOutboxService;
     
     @PostMapping("/deposit")
     @Operation(
@@ -163,6 +169,7 @@ public class AccountController {
     )
     public ResponseEntity<CustomApiResponse<DepositResponse>> deposit(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "멱등성 키 (같은 키로 재요청 시 최초 처리 결과 반환)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody DepositRequest request) {
         
         log.info("=====================================================");
@@ -182,7 +189,7 @@ public class AccountController {
         log.info("=====================================================");
         
         try {
-            DepositResponse response = depositService.processDeposit(request);
+            DepositResponse response = depositService.processDeposit(request, idempotencyKey);
             
             // 거래 완료 후 즉시 동기화 실행 (거래내역 반영)
             try {
@@ -209,6 +216,11 @@ public class AccountController {
             
             return ResponseEntity.ok(CustomApiResponse.success(response, message));
             
+        } catch (TransferIdempotencyException e) {
+            log.warn("이체 멱등성 키 충돌: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(CustomApiResponse.error("TRANSFER_IDEMPOTENCY_CONFLICT", e.getMessage()));
+            
         } catch (WithdrawTransferException e) {
             log.error("출금이체 실패: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -330,6 +342,7 @@ public class AccountController {
     )
     public ResponseEntity<CustomApiResponse<WithdrawResponse>> withdraw(
             @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "멱등성 키 (같은 키로 재요청 시 최초 처리 결과 반환)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody WithdrawRequest request) {
         
         log.info("=====================================================");
@@ -350,7 +363,7 @@ public class AccountController {
         log.info("=====================================================");
         
         try {
-            WithdrawResponse response = withdrawService.processWithdraw(request);
+            WithdrawResponse response = withdrawService.processWithdraw(request, idempotencyKey);
             
             // 거래 완료 후 즉시 동기화 실행 (거래내역 반영)
             try {
@@ -377,6 +390,11 @@ public class AccountController {
             
             return ResponseEntity.ok(CustomApiResponse.success(response, message));
             
+        } catch (TransferIdempotencyException e) {
+            log.warn("이체 멱등성 키 충돌: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(CustomApiResponse.error("TRANSFER_IDEMPOTENCY_CONFLICT", e.getMessage()));
+            
         } catch (InsufficientBalanceException e) {
             log.error("잔액 부족: {}", e.getMessage(), e);
             return ResponseEntity.badRequest()
@@ -471,7 +489,13 @@ public class AccountController {
                     value = """
                     {
                         "status": "SUCCESS",
-                        "message": "거래내역 동기화가 완료되었습니다."
+                        "message": "거래내역 동기화가 완료되었습니다.",
+                        "data": {
+                            "ingestedCount": 12,
+                            "duplicateCount": 30,
+                            "skippedCount": 0,
+                            "failedCount": 0
+                        }
                     }
                     """
                 )
@@ -480,17 +504,18 @@ public class AccountController {
         @ApiResponse(responseCode = "401", description = "인증 실패"),
         @ApiResponse(responseCode = "500", description = "서버 오류")
     })
-    public ResponseEntity<CustomApiResponse<Void>> syncTransactions(
+    public ResponseEntity<CustomApiResponse<TransactionSyncResponse>> syncTransactions(
             @AuthenticationPrincipal UserDetails userDetails) {
         
         log.info("거래내역 동기화 요청 수신 - 사용자: {}", userDetails.getUsername());
         
         try {
-            accountService.syncTransactions();
+            TransactionSyncResponse result = accountService.syncTransactions();
             
-            log.info("거래내역 동기화 성공");
+            log.info("거래내역 동기화 성공 - 저장: {}건, 중복: {}건, 건너뜀: {}건, 실패: {}건", 
+                    result.getIngestedCount(), result.getDuplicateCount(), result.getSkippedCount(), result.getFailedCount());
             
-            return ResponseEntity.ok(CustomApiResponse.success(null, "거래내역 동기화가 완료되었습니다."));
+            return ResponseEntity.ok(CustomApiResponse.success(result, "거래내역 동기화가 완료되었습니다."));
             
         } catch (Exception e) {
             log.error("거래내역 동기화 실패: {}", e.getMessage(), e);
@@ -1242,6 +1267,74 @@ public class AccountController {
                 .body(CustomApiResponse.error("GET_PRODUCT_PAYMENT_INFO_ERROR", e.getMessage()));
         }
     }
+    
+    @GetMapping("/auto-transfers/outbox/dead-letters")
+    @Operation(
+        summary = "자동이체 변경 전송 실패 내역 조회", 
+        description = "수동납입 회차 반영처럼 비동기로 하나은행에 전송하는 자동이체 변경 중, " +
+                "최대 재시도 횟수를 넘겨 전송을 포기한(DEAD) 내역을 최신순으로 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200", 
+            description = "전송 실패 내역 조회 성공",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = AutoTransferOutboxResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<CustomApiResponse<List<AutoTransferOutboxResponse>>> getAutoTransferDeadLetters(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "조회 건수 (최대 100)") @RequestParam(defaultValue = "20") int limit) {
+        
+        log.info("자동이체 변경 전송 실패 내역 조회 요청 - 사용자: {}", userDetails.getUsername());
+        
+        try {
+            List<AutoTransferOutboxResponse> response = autoTransferOutboxService.getDeadLetters(limit);
+            return ResponseEntity.ok(CustomApiResponse.success(response, "자동이체 변경 전송 실패 내역을 조회했습니다."));
+            
+        } catch (Exception e) {
+            log.error("자동이체 변경 전송 실패 내역 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(CustomApiResponse.error("GET_AUTO_TRANSFER_DEAD_LETTERS_ERROR", e.getMessage()));
+        }
+    }
+    
+    @PostMapping("/auto-transfers/outbox/{outboxId}/retry")
+    @Operation(
+        summary = "자동이체 변경 재전송", 
+        description = "전송을 포기한(DEAD) 자동이체 변경을 다시 전송 대기 상태로 돌립니다. 시도 횟수는 초기화됩니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "재전송 요청 성공"),
+        @ApiResponse(responseCode = "400", description = "재전송할 수 없는 내역"),
+        @ApiResponse(responseCode = "401", description = "인증 실패"),
+        @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    public ResponseEntity<CustomApiResponse<AutoTransferOutboxResponse>> retryAutoTransferDeadLetter(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long outboxId) {
+        
+        log.info("자동이체 변경 재전송 요청 - 사용자: {}, outboxId: {}", userDetails.getUsername(), outboxId);
+        
+        try {
+            AutoTransferOutboxResponse response = autoTransferOutboxService.retryDeadLetter(outboxId);
+            return ResponseEntity.ok(CustomApiResponse.success(response, "자동이체 변경을 다시 전송합니다."));
+            
+        } catch (CustomException e) {
+            log.warn("자동이체 변경 재전송 불가: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(CustomApiResponse.error(e.getErrorCode().name(), e.getMessage()));
+            
+        } catch (Exception e) {
+            log.error("자동이체 변경 재전송 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(CustomApiResponse.error("RETRY_AUTO_TRANSFER_OUTBOX_ERROR", e.getMessage()));
+        }
+    }
 
     @PostMapping("/holder-name")
     @Operation(
@@ -0,0 +1,66 @@
+package com.marry1q.marry1qbe.domain.account.dto.response;
+
+import com.marry1q.marry1qbe.domain.account.entity.AutoTransferOutbox;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자동이체 변경 전송 내역 DTO (아웃박스)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "자동이체 변경 전송 내역")
+public class AutoTransferOutboxResponse {
+
+    @Schema(description = "전송 내역 ID", example = "15")
+    private Long outboxId;
+
+    @Schema(description = "작업 (CREATE, UPDATE, DELETE, REPLACE)", example = "REPLACE")
+    private String operation;
+
+    @Schema(description = "대상 자동이체 ID", example = "3")
+    private Long autoTransferId;
+
+    @Schema(description = "입금 계좌번호", example = "110-987654-321098")
+    private String toAccountNumber;
+
+    @Schema(description = "상태 (PENDING, IN_PROGRESS, SENT, DEAD)", example = "DEAD")
+    private String status;
+
+    @Schema(description = "전송 시도 횟수", example = "8")
+    private Integer attempts;
+
+    @Schema(description = "다음 전송 시각")
+    private LocalDateTime nextAttemptAt;
+
+    @Schema(description = "마지막 오류 메시지", example = "하나은행 서버가 다운되었습니다.")
+    private String lastError;
+
+    @Schema(description = "하나은행에 반영된 자동이체 ID", example = "4")
+    private Long resultAutoTransferId;
+
+    @Schema(description = "등록 시각")
+    private LocalDateTime createdAt;
+
+    public static AutoTransferOutboxResponse from(AutoTransferOutbox outbox) {
+        return AutoTransferOutboxResponse.builder()
+                .outboxId(outbox.getOutboxId())
+                .operation(outbox.getOperation().name())
+                .autoTransferId(outbox.getAutoTransferId())
+                .toAccountNumber(outbox.getOrderingKey())
+                .status(outbox.getStatus().name())
+                .attempts(outbox.getAttempts())
+                .nextAttemptAt(outbox.getNextAttemptAt())
+                .lastError(outbox.getLastError())
+                .resultAutoTransferId(outbox.getResultAutoTransferId())
+                .createdAt(outbox.getCreatedAt())
+                .build();
+    }
+}
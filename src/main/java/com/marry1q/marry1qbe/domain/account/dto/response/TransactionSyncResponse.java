@@ -0,0 +1,34 @@
+package com.marry1q.marry1qbe.domain.account.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래내역 동기화 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "거래내역 동기화 결과")
+public class TransactionSyncResponse {
+    
+    @Schema(description = "새로 저장된 거래내역 수", example = "12")
+    private int ingestedCount;
+    
+    @Schema(description = "이미 저장되어 있어 건너뛴 거래내역 수", example = "30")
+    private int duplicateCount;
+    
+    @Schema(description = "형식 오류로 건너뛴 거래내역 수", example = "0")
+    private int skippedCount;
+    
+    @Schema(description = "저장에 실패한 거래내역 수 (다음 동기화에서 다시 조회)", example = "0")
+    private int failedCount;
+    
+    public static TransactionSyncResponse empty() {
+        return new TransactionSyncResponse(0, 0, 0, 0);
+    }
+}
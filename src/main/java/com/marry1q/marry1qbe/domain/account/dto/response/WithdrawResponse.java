@@ -25,6 +25,12 @@ public class WithdrawResponse {
     @Schema(description = "거래 고유 ID", example = "TXN123456789")
     private Long transactionId;
     
+    /**
+     * 은행 거래 고유 ID
+     */
+    @Schema(description = "은행 거래 고유 ID (출금/입금이체 공통)", example = "M202500001U000000001")
+    private String bankTranId;
+    
     /**
      * 모임통장 계좌번호
      */
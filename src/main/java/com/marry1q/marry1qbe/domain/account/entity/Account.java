@@ -10,7 +10,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 @Entity
 @Table(name = "account")
@@ -68,6 +70,22 @@ public class Account {
     @Column(name = "plan1q_product_id")
     private Long plan1qProductId;
     
+    /**
+     * 거래내역 동기화 커서 (마지막으로 반영한 거래의 거래일시/bankTranId)
+     */
+    @Column(name = "sync_cursor_tran_date")
+    private LocalDate syncCursorTranDate;
+    
+    @Column(name = "sync_cursor_tran_time")
+    private LocalTime syncCursorTranTime;
+    
+    @Column(name = "sync_cursor_tran_id", length = 50)
+    private String syncCursorTranId;
+    
+    // 백그라운드 동기화 선점 만료 시각 (서버 간 중복 동기화 방지, 조건부 UPDATE 로만 변경하고 엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "sync_claimed_until", insertable = false, updatable = false)
+    private LocalDateTime syncClaimedUntil;
+    
     /**
      * 실시간 잔액 설정
      */
@@ -82,6 +100,26 @@ public class Account {
         this.lastSyncedAt = LocalDateTime.now();
     }
     
+    /**
+     * 거래내역 동기화 커서 이동 (기존 커서보다 뒤인 경우에만)
+     */
+    public void advanceSyncCursor(LocalDate tranDate, LocalTime tranTime, String tranId) {
+        if (tranDate == null) {
+            return;
+        }
+        LocalDateTime next = LocalDateTime.of(tranDate, tranTime != null ? tranTime : LocalTime.MIN);
+        if (syncCursorTranDate != null) {
+            LocalDateTime current = LocalDateTime.of(syncCursorTranDate,
+                    syncCursorTranTime != null ? syncCursorTranTime : LocalTime.MIN);
+            if (next.isBefore(current)) {
+                return;
+            }
+        }
+        this.syncCursorTranDate = tranDate;
+        this.syncCursorTranTime = tranTime;
+        this.syncCursorTranId = tranId;
+    }
+    
     /**
      * Plan1Q 계좌 여부 확인
      */
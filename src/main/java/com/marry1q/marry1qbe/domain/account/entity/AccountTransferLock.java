@@ -0,0 +1,30 @@
+package com.marry1q.marry1qbe.domain.account.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계좌별 이체 잠금 행
+ *
+ * 여러 서버 사이에서 같은 모임통장의 이체를 한 건씩 실행하기 위해 TransferSequencer 가
+ * 전용 커넥션에서 SELECT ... FOR UPDATE 로 잠급니다. 호출 트랜잭션과 분리되어 있어 계좌 행은 잠그지 않고,
+ * 서버가 종료되면 커넥션이 끊기면서 잠금도 풀립니다.
+ */
+@Entity
+@Table(name = "account_transfer_lock")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountTransferLock {
+
+    @Id
+    @Column(name = "account_number", length = 50)
+    private String accountNumber;
+}
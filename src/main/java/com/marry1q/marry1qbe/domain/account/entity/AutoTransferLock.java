@@ -0,0 +1,29 @@
+package com.marry1q.marry1qbe.domain.account.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자동이체 단위 잠금 행
+ *
+ * 하나은행 자동이체는 로컬 테이블이 없어서, 같은 자동이체의 변경 요청(수동납입 회차 반영 등)을
+ * 직렬화할 때 이 행을 SELECT ... FOR UPDATE 로 잠급니다.
+ */
+@Entity
+@Table(name = "auto_transfer_lock")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutoTransferLock {
+
+    @Id
+    @Column(name = "auto_transfer_id")
+    private Long autoTransferId;
+}
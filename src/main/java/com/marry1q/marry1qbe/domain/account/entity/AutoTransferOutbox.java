@@ -0,0 +1,161 @@
+package com.marry1q.marry1qbe.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하나은행 자동이체 변경 아웃박스
+ *
+ * 요청 트랜잭션 안에서 변경 내용을 저장하고, 커밋 후 디스패처가 하나은행으로 전송합니다.
+ * 같은 ordering_key(입금 계좌번호)의 메시지는 등록 순서대로 하나씩 전송되고, DEAD 메시지가 있으면 재처리될 때까지 뒤 메시지를 보내지 않습니다.
+ *
+ * version 은 선점할 때마다 올라가는 펜싱 토큰입니다. 임대가 만료되어 다른 디스패처가 다시 선점하면
+ * 이전 디스패처의 상태 변경(임대 연장/단계 완료/전송 완료/실패 기록)은 버전 충돌로 반영되지 않습니다.
+ */
+@Entity
+@Table(name = "auto_transfer_outbox", indexes = {
+        @Index(name = "idx_auto_transfer_outbox_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_auto_transfer_outbox_ordering", columnList = "ordering_key, status"),
+        @Index(name = "idx_auto_transfer_outbox_target", columnList = "auto_transfer_id, status")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutoTransferOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100, unique = true)
+    private String idempotencyKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 20)
+    private Operation operation;
+
+    @Column(name = "auto_transfer_id")
+    private Long autoTransferId;
+
+    @Column(name = "ordering_key", nullable = false, length = 50)
+    private String orderingKey;
+
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "user_seq_no", length = 50)
+    private String userSeqNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "completed_steps", nullable = false)
+    @Builder.Default
+    private Integer completedSteps = 0;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "result_auto_transfer_id")
+    private Long resultAutoTransferId;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Operation {
+        CREATE,     // 자동이체 등록
+        UPDATE,     // 자동이체 수정
+        DELETE,     // 자동이체 삭제
+        REPLACE     // 기존 자동이체 삭제 후 재등록 (수동납입 회차 반영)
+    }
+
+    public enum Status {
+        PENDING,      // 전송 대기 (재시도 대기 포함)
+        IN_PROGRESS,  // 디스패처가 전송 중
+        SENT,         // 전송 완료
+        DEAD          // 최대 시도 횟수 초과 (수동 재처리 대상)
+    }
+
+    /**
+     * 임대 연장 (하나은행 호출 직전, 아직 내가 선점한 메시지인지 버전으로 확인)
+     */
+    public void extendLease(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    /**
+     * 다단계 작업의 단계 완료 기록 (재시도 시 완료된 단계는 건너뜀)
+     */
+    public void completeStep() {
+        this.completedSteps = this.completedSteps + 1;
+    }
+
+    /**
+     * 전송 완료
+     */
+    public void markSent(Long resultAutoTransferId) {
+        this.status = Status.SENT;
+        this.resultAutoTransferId = resultAutoTransferId;
+        this.lockedUntil = null;
+        this.lastError = null;
+        this.sentAt = LocalDateTime.now();
+    }
+
+    /**
+     * 전송 실패 기록 (다음 시도 예약 또는 DEAD 전환)
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts = this.attempts + 1;
+        this.lastError = error;
+        this.lockedUntil = null;
+        if (this.attempts >= maxAttempts) {
+            this.status = Status.DEAD;
+        } else {
+            this.status = Status.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    /**
+     * DEAD 메시지 재처리 요청
+     */
+    public void requeue() {
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+        this.lockedUntil = null;
+    }
+}
@@ -0,0 +1,197 @@
+package com.marry1q.marry1qbe.domain.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 이체 원장 (채우기/보내기 1건 = 출금이체 + 입금이체)
+ *
+ * 클라이언트 멱등성 키와 bankTranId 를 연결하고 출금/입금 단계별 결과를 기록합니다.
+ * 같은 키로 다시 요청하면 저장된 결과를 그대로 돌려주고 auth-backend 를 다시 호출하지 않습니다.
+ */
+@Entity
+@Table(name = "transfer_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_transfer_ledger_idempotency", columnNames = {"user_seq_no", "idempotency_key"}),
+        indexes = @Index(name = "idx_transfer_ledger_status", columnList = "status, updated_at"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id")
+    private Long ledgerId;
+
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "user_seq_no", nullable = false, length = 50)
+    private String userSeqNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transfer_type", nullable = false, length = 20)
+    private TransferType transferType;
+
+    @Column(name = "bank_tran_id", nullable = false, length = 50, unique = true)
+    private String bankTranId;
+
+    @Column(name = "account_number", nullable = false, length = 50)
+    private String accountNumber;
+
+    @Column(name = "counterpart_account_number", length = 50)
+    private String counterpartAccountNumber;
+
+    @Column(name = "amount", nullable = false, precision = 18, scale = 0)
+    private BigDecimal amount;
+
+    @Column(name = "request_fingerprint", nullable = false, length = 64)
+    private String requestFingerprint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.IN_PROGRESS;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "withdraw_leg_status", nullable = false, length = 20)
+    @Builder.Default
+    private LegStatus withdrawLegStatus = LegStatus.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "deposit_leg_status", nullable = false, length = 20)
+    @Builder.Default
+    private LegStatus depositLegStatus = LegStatus.PENDING;
+
+    @Column(name = "response_payload", columnDefinition = "TEXT")
+    private String responsePayload;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum TransferType {
+        DEPOSIT,    // 채우기 (개인계좌 → 모임통장)
+        WITHDRAW    // 보내기 (모임통장 → 개인계좌)
+    }
+
+    public enum Status {
+        IN_PROGRESS,   // 이체 진행 중
+        COMPLETED,     // 출금/입금 모두 성공 (응답 저장됨)
+        FAILED,        // 출금 단계를 업스트림이 거절 (돈이 이동하지 않음)
+        NEEDS_REVIEW   // 출금 결과를 알 수 없거나 출금 성공 후 입금 단계 실패 등 결과 확인 필요
+    }
+
+    public enum LegStatus {
+        PENDING,
+        SUCCEEDED,
+        FAILED,     // 업스트림이 거절 (실행되지 않음)
+        UNKNOWN,    // 타임아웃/연결 오류/5xx 등으로 실행 여부를 알 수 없음
+        SKIPPED     // 앞 단계 실패로 실행하지 않음
+    }
+
+    public enum Leg {
+        WITHDRAW,
+        DEPOSIT
+    }
+
+    /**
+     * 단계 성공 기록
+     */
+    public void markLegSucceeded(Leg leg) {
+        if (leg == Leg.WITHDRAW) {
+            this.withdrawLegStatus = LegStatus.SUCCEEDED;
+        } else {
+            this.depositLegStatus = LegStatus.SUCCEEDED;
+        }
+    }
+
+    /**
+     * 이체 완료 (재요청 시 돌려줄 응답 저장)
+     */
+    public void complete(String responsePayload) {
+        this.status = Status.COMPLETED;
+        this.responsePayload = responsePayload;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 이체 실패 기록
+     *
+     * 출금 단계를 업스트림이 거절한 경우에만 FAILED(돈이 이동하지 않음)로 남기고,
+     * 출금 결과를 알 수 없거나 출금이 이미 성공했으면 NEEDS_REVIEW 로 남깁니다.
+     *
+     * @param rejected 실패한 단계를 업스트림이 거절했는지 여부 (false 면 실행 여부를 알 수 없음)
+     */
+    public void fail(String errorMessage, boolean rejected) {
+        LegStatus failedLeg = rejected ? LegStatus.FAILED : LegStatus.UNKNOWN;
+        if (this.withdrawLegStatus == LegStatus.PENDING) {
+            this.withdrawLegStatus = failedLeg;
+            this.depositLegStatus = LegStatus.SKIPPED;
+            this.status = rejected ? Status.FAILED : Status.NEEDS_REVIEW;
+        } else {
+            if (this.depositLegStatus == LegStatus.PENDING) {
+                this.depositLegStatus = failedLeg;
+            }
+            this.status = Status.NEEDS_REVIEW;
+        }
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 처리 중 서버 종료 등으로 끝나지 않은 이체 정리 (진행 중이던 단계는 결과를 알 수 없음)
+     */
+    public void expire(String errorMessage) {
+        LegStatus expiredWithdrawLegStatus = expiredWithdrawLegStatus();
+        LegStatus expiredDepositLegStatus = expiredDepositLegStatus();
+        this.withdrawLegStatus = expiredWithdrawLegStatus;
+        this.depositLegStatus = expiredDepositLegStatus;
+        this.status = Status.NEEDS_REVIEW;
+        this.errorMessage = errorMessage;
+        this.completedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 만료 시 출금 단계 상태 (진행 중이었으면 결과 불명)
+     */
+    public LegStatus expiredWithdrawLegStatus() {
+        return this.withdrawLegStatus == LegStatus.PENDING ? LegStatus.UNKNOWN : this.withdrawLegStatus;
+    }
+    
+    /**
+     * 만료 시 입금 단계 상태 (출금 전이면 실행하지 않음, 진행 중이었으면 결과 불명)
+     */
+    public LegStatus expiredDepositLegStatus() {
+        if (this.withdrawLegStatus == LegStatus.PENDING) {
+            return LegStatus.SKIPPED;
+        }
+        return this.depositLegStatus == LegStatus.PENDING ? LegStatus.UNKNOWN : this.depositLegStatus;
+    }
+    
+    /**
+     * 출금 단계 성공이 확인되지 않았는지 여부 (실패/확인 필요 안내를 출금/입금 단계로 구분)
+     */
+    public boolean isWithdrawLegUnresolved() {
+        return this.withdrawLegStatus != LegStatus.SUCCEEDED;
+    }
+}
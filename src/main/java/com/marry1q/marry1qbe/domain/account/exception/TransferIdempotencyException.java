@@ -0,0 +1,11 @@
+package com.marry1q.marry1qbe.domain.account.exception;
+
+/**
+ * 이체 멱등성 키 충돌 예외 (다른 내용의 재사용, 처리 중/확인 필요 상태의 재요청)
+ */
+public class TransferIdempotencyException extends RuntimeException {
+
+    public TransferIdempotencyException(String message) {
+        super(message);
+    }
+}
@@ -2,8 +2,12 @@ package com.marry1q.marry1qbe.domain.account.repository;
 
 import com.marry1q.marry1qbe.domain.account.entity.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,4 +43,31 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      * Plan1Q 상품 ID로 계좌 조회 (중복 검증용)
      */
     Optional<Account> findByPlan1qProductId(Long plan1qProductId);
+    
+    /**
+     * 마지막 동기화가 기준 시각 이전인 모임통장 조회 (백그라운드 거래내역 동기화용)
+     */
+    @Query("SELECT a FROM Account a WHERE a.isCoupleAccount = true " +
+           "AND (a.lastSyncedAt IS NULL OR a.lastSyncedAt < :syncedBefore)")
+    List<Account> findCoupleAccountsSyncedBefore(@Param("syncedBefore") LocalDateTime syncedBefore);
+    
+    /**
+     * 백그라운드 동기화 선점 (다른 서버가 선점 중이 아니면 선점 만료 시각 기록, 버전은 올리지 않음)
+     * 
+     * @return 1이면 선점 성공
+     */
+    @Modifying
+    @Query("UPDATE Account a SET a.syncClaimedUntil = :claimedUntil " +
+           "WHERE a.accountId = :accountId AND (a.syncClaimedUntil IS NULL OR a.syncClaimedUntil < :now)")
+    int claimSync(@Param("accountId") Long accountId,
+                  @Param("claimedUntil") LocalDateTime claimedUntil,
+                  @Param("now") LocalDateTime now);
+    
+    /**
+     * 백그라운드 동기화 선점 해제 (내가 기록한 선점일 때만)
+     */
+    @Modifying
+    @Query("UPDATE Account a SET a.syncClaimedUntil = NULL " +
+           "WHERE a.accountId = :accountId AND a.syncClaimedUntil = :claimedUntil")
+    int releaseSyncClaim(@Param("accountId") Long accountId, @Param("claimedUntil") LocalDateTime claimedUntil);
 }
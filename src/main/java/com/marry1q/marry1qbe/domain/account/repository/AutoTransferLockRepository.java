@@ -0,0 +1,31 @@
+package com.marry1q.marry1qbe.domain.account.repository;
+
+import com.marry1q.marry1qbe.domain.account.entity.AutoTransferLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface AutoTransferLockRepository extends JpaRepository<AutoTransferLock, Long> {
+
+    /**
+     * 잠금 행 생성 (이미 있으면 무시, 바로 커밋해서 다른 요청의 잠금 대기를 만들지 않음)
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "INSERT IGNORE INTO auto_transfer_lock (auto_transfer_id) VALUES (:autoTransferId)", nativeQuery = true)
+    int insertIfAbsent(@Param("autoTransferId") Long autoTransferId);
+
+    /**
+     * 자동이체 잠금 (호출 트랜잭션 종료 시 해제, 다른 요청이 잡고 있으면 기다리지 않고 실패)
+     */
+    @Query(value = "SELECT auto_transfer_id FROM auto_transfer_lock WHERE auto_transfer_id = :autoTransferId FOR UPDATE NOWAIT",
+           nativeQuery = true)
+    Optional<Long> lockNoWait(@Param("autoTransferId") Long autoTransferId);
+}
@@ -0,0 +1,60 @@
+package com.marry1q.marry1qbe.domain.account.repository;
+
+import com.marry1q.marry1qbe.domain.account.entity.AutoTransferOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AutoTransferOutboxRepository extends JpaRepository<AutoTransferOutbox, Long> {
+
+    /**
+     * 전송 대상 아웃박스 ID 조회 (행 잠금, 다른 서버가 잡은 행은 건너뜀)
+     *
+     * 재시도 시각이 지난 PENDING 과 임대 시간이 만료된 IN_PROGRESS(전송 중 서버 종료)를 대상으로 하고,
+     * 같은 ordering_key 에 더 먼저 등록된 미완료/DEAD 메시지가 있으면 제외합니다 (DEAD 재처리 전까지 순서 유지).
+     */
+    @Query(value = "SELECT o.outbox_id FROM auto_transfer_outbox o " +
+            "WHERE ((o.status = 'PENDING' AND o.next_attempt_at <= :now) " +
+            "   OR (o.status = 'IN_PROGRESS' AND o.locked_until < :now)) " +
+            "AND NOT EXISTS (SELECT 1 FROM auto_transfer_outbox p " +
+            "   WHERE p.ordering_key = o.ordering_key AND p.outbox_id < o.outbox_id " +
+            "   AND p.status IN ('PENDING', 'IN_PROGRESS', 'DEAD')) " +
+            "ORDER BY o.outbox_id LIMIT :limit " +
+            "FOR UPDATE OF o SKIP LOCKED", nativeQuery = true)
+    List<Long> findDueIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 전송 대상 선점 (임대 시간 동안 다른 디스패처가 가져가지 않음, 버전을 올려 이전 선점자의 상태 변경을 막음)
+     */
+    @Modifying
+    @Query("UPDATE AutoTransferOutbox o SET o.status = :status, o.lockedUntil = :lockedUntil, o.version = o.version + 1 " +
+           "WHERE o.outboxId IN :ids")
+    int updateStatusAndLease(@Param("ids") Collection<Long> ids,
+                             @Param("status") AutoTransferOutbox.Status status,
+                             @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * 자동이체에 아직 전송되지 않은 변경이 있는지 확인
+     */
+    boolean existsByAutoTransferIdAndStatusIn(Long autoTransferId, Collection<AutoTransferOutbox.Status> statuses);
+
+    /**
+     * 사용자별 상태별 아웃박스 조회 (최신순)
+     */
+    List<AutoTransferOutbox> findByUserSeqNoAndStatusOrderByOutboxIdDesc(String userSeqNo, AutoTransferOutbox.Status status, Pageable pageable);
+
+    /**
+     * 사용자 소유 아웃박스 단건 조회
+     */
+    Optional<AutoTransferOutbox> findByOutboxIdAndUserSeqNo(Long outboxId, String userSeqNo);
+}
+
@@ -0,0 +1,112 @@
+package com.marry1q.marry1qbe.domain.account.repository;
+
+import com.marry1q.marry1qbe.domain.account.entity.CoupleAccountTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래내역 일괄 저장 (JDBC batch)
+ * 
+ * couple_account_transaction은 IDENTITY 키라 JPA saveAll로는 배치 INSERT가 되지 않아
+ * JdbcTemplate으로 직접 저장합니다.
+ */
+@Slf4j
+@Repository
+public class CoupleAccountTransactionBatchRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO couple_account_transaction (" +
+            "tran_id, type, amount, description, memo, transaction_date, transaction_time, " +
+            "from_name, to_name, review_status, account_number, account_id, finance_category_id, " +
+            "balance_after_transaction, is_safe_account_deposit, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate savepointTemplate;
+    
+    public CoupleAccountTransactionBatchRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출 트랜잭션 안에서 세이브포인트로 동작 (실패 시 해당 구간만 롤백)
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+    
+    /**
+     * 일괄 저장
+     * 
+     * 배치가 실패하면 세이브포인트로 되돌린 뒤 한 건씩 다시 저장해서 실패한 행만 제외합니다.
+     * rewriteBatchedStatements 로 묶인 배치는 일부만 반영된 채 실패할 수 있어, 되돌리지 않고 재시도하면
+     * 이미 들어간 행이 tran_id 중복으로 실패하거나 (tran_id 가 없는 행은) 중복 저장됩니다.
+     * 
+     * @return 저장에 성공한 건수
+     */
+    public int batchInsert(List<CoupleAccountTransaction> transactions, int batchSize) {
+        if (transactions.isEmpty()) {
+            return 0;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        int inserted = 0;
+        for (int from = 0; from < transactions.size(); from += batchSize) {
+            List<CoupleAccountTransaction> chunk = transactions.subList(from, Math.min(from + batchSize, transactions.size()));
+            try {
+                savepointTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, transaction) -> bind(ps, transaction, now)));
+                inserted += chunk.size();
+            } catch (DataAccessException e) {
+                log.warn("거래내역 배치 저장 실패 - 건별 저장으로 재시도 ({}건): {}", chunk.size(), e.getMessage());
+                inserted += insertOneByOne(chunk, now);
+            }
+        }
+        return inserted;
+    }
+    
+    private int insertOneByOne(List<CoupleAccountTransaction> transactions, LocalDateTime now) {
+        int inserted = 0;
+        for (CoupleAccountTransaction transaction : transactions) {
+            try {
+                savepointTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, transaction, now)));
+                inserted++;
+            } catch (DataAccessException e) {
+                log.error("거래내역 저장 실패 - tranId: {}, 오류: {}", transaction.getTranId(), e.getMessage());
+            }
+        }
+        return inserted;
+    }
+    
+    private void bind(PreparedStatement ps, CoupleAccountTransaction transaction, LocalDateTime now) throws SQLException {
+        ps.setString(1, transaction.getTranId());
+        ps.setString(2, transaction.getType().name());
+        ps.setBigDecimal(3, transaction.getAmount());
+        ps.setString(4, transaction.getDescription());
+        ps.setString(5, transaction.getMemo());
+        ps.setObject(6, transaction.getTransactionDate());
+        ps.setObject(7, transaction.getTransactionTime());
+        ps.setString(8, transaction.getFromName());
+        ps.setString(9, transaction.getToName());
+        ps.setString(10, transaction.getReviewStatus().name());
+        ps.setString(11, transaction.getAccountNumber());
+        ps.setLong(12, transaction.getAccountId());
+        if (transaction.getFinanceCategoryId() != null) {
+            ps.setLong(13, transaction.getFinanceCategoryId());
+        } else {
+            ps.setNull(13, Types.BIGINT);
+        }
+        ps.setBigDecimal(14, transaction.getBalanceAfterTransaction());
+        ps.setString(15, transaction.getIsSafeAccountDeposit());
+        ps.setTimestamp(16, Timestamp.valueOf(now));
+        ps.setTimestamp(17, Timestamp.valueOf(now));
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,11 +57,22 @@ public interface CoupleAccountTransactionRepository extends JpaRepository<Couple
      */
     boolean existsByTranId(String tranId);
     
+    /**
+     * 이미 저장된 tranId 목록 조회 (동기화 중복 체크용)
+     */
+    @Query("SELECT t.tranId FROM CoupleAccountTransaction t WHERE t.tranId IN :tranIds")
+    List<String> findExistingTranIds(@Param("tranIds") Collection<String> tranIds);
+    
     /**
      * tranId로 거래내역 조회
      */
     Optional<CoupleAccountTransaction> findByTranId(String tranId);
     
+    /**
+     * tranId 목록으로 거래내역 조회
+     */
+    List<CoupleAccountTransaction> findByTranIdIn(Collection<String> tranIds);
+    
     /**
      * 거래일시+금액으로 중복 체크
      */
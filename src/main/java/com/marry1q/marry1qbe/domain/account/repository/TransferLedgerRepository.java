@@ -0,0 +1,46 @@
+package com.marry1q.marry1qbe.domain.account.repository;
+
+import com.marry1q.marry1qbe.domain.account.entity.TransferLedger;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransferLedgerRepository extends JpaRepository<TransferLedger, Long> {
+
+    /**
+     * 사용자 멱등성 키로 이체 원장 조회
+     */
+    Optional<TransferLedger> findByUserSeqNoAndIdempotencyKey(String userSeqNo, String idempotencyKey);
+
+    /**
+     * 상태별 마지막 갱신이 기준 시각 이전인 이체 원장 조회 (처리 중 만료 정리용)
+     */
+    List<TransferLedger> findByStatusAndUpdatedAtBefore(TransferLedger.Status status, LocalDateTime updatedBefore, Pageable pageable);
+
+    /**
+     * 처리 중 이체 만료 (읽은 뒤 다른 서버가 먼저 정리했거나 단계가 진행되었으면 0건)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TransferLedger l SET l.status = :reviewStatus, " +
+           "l.withdrawLegStatus = :withdrawLegStatus, l.depositLegStatus = :depositLegStatus, " +
+           "l.errorMessage = :errorMessage, l.completedAt = :now, l.updatedAt = :now " +
+           "WHERE l.ledgerId = :ledgerId AND l.status = :inProgressStatus " +
+           "AND l.withdrawLegStatus = :expectedWithdrawLegStatus AND l.depositLegStatus = :expectedDepositLegStatus")
+    int expireInProgress(@Param("ledgerId") Long ledgerId,
+                         @Param("inProgressStatus") TransferLedger.Status inProgressStatus,
+                         @Param("reviewStatus") TransferLedger.Status reviewStatus,
+                         @Param("expectedWithdrawLegStatus") TransferLedger.LegStatus expectedWithdrawLegStatus,
+                         @Param("expectedDepositLegStatus") TransferLedger.LegStatus expectedDepositLegStatus,
+                         @Param("withdrawLegStatus") TransferLedger.LegStatus withdrawLegStatus,
+                         @Param("depositLegStatus") TransferLedger.LegStatus depositLegStatus,
+                         @Param("errorMessage") String errorMessage,
+                         @Param("now") LocalDateTime now);
+}
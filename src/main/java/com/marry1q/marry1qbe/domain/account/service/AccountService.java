@@ -3,21 +3,31 @@ package com.marry1q.marry1qbe.domain.account.service;
 import com.marry1q.marry1qbe.domain.account.entity.Account;
 import com.marry1q.marry1qbe.domain.account.entity.CoupleAccountTransaction;
 import com.marry1q.marry1qbe.domain.account.repository.AccountRepository;
+import com.marry1q.marry1qbe.domain.account.repository.CoupleAccountTransactionBatchRepository;
 import com.marry1q.marry1qbe.domain.account.repository.CoupleAccountTransactionRepository;
 import com.marry1q.marry1qbe.domain.account.service.external.AuthBackendApiService;
+import com.marry1q.marry1qbe.domain.couple.entity.Marry1qCouple;
+import com.marry1q.marry1qbe.domain.couple.repository.CoupleRepository;
 import com.marry1q.marry1qbe.domain.customer.service.CustomerService;
 import com.marry1q.marry1qbe.domain.customer.entity.Customer;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyLiveEvent;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.SafeAccountTransactionResponse;
+import com.marry1q.marry1qbe.domain.giftMoney.service.GiftMoneyLiveFeed;
 import com.marry1q.marry1qbe.domain.plan1q.dto.hanabank.AccountSubscriptionResponse;
 import com.marry1q.marry1qbe.domain.plan1q.entity.Plan1QProduct;
+import com.marry1q.marry1qbe.grobal.executor.ExternalApiExecutor;
 import com.marry1q.marry1qbe.grobal.openBankingToken.OpenBankingTokenService;
 import com.marry1q.marry1qbe.grobal.util.SecurityUtil;
 import com.marry1q.marry1qbe.grobal.exception.CustomException;
 import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
+import com.marry1q.marry1qbe.grobal.commonCode.service.CommonCodeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.marry1q.marry1qbe.domain.account.dto.response.MyAccountsResponse;
@@ -25,6 +35,7 @@ import com.marry1q.marry1qbe.domain.account.dto.response.AccountInfoResponse;
 import com.marry1q.marry1qbe.domain.account.dto.response.TransactionResponse;
 import com.marry1q.marry1qbe.domain.account.dto.response.TransactionReviewResponse;
 import com.marry1q.marry1qbe.domain.account.dto.response.AccountHolderNameResponse;
+import com.marry1q.marry1qbe.domain.account.dto.response.TransactionSyncResponse;
 import com.marry1q.marry1qbe.domain.account.dto.request.AccountHolderNameRequest;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,9 +43,16 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 @Service
@@ -44,10 +62,30 @@ public class AccountService {
     
     private final AccountRepository accountRepository;
     private final CoupleAccountTransactionRepository coupleAccountTransactionRepository;
+    private final CoupleAccountTransactionBatchRepository transactionBatchRepository;
     private final CustomerService customerService;
     private final OpenBankingTokenService openBankingTokenService;
     private final AuthBackendApiService authBackendApiService;
     private final SecurityUtil securityUtil;
+    private final ExternalApiExecutor externalApiExecutor;
+    private final CoupleRepository coupleRepository;
+    private final GiftMoneyLiveFeed giftMoneyLiveFeed;
+    private final CommonCodeService commonCodeService;
+    
+    @Value("${account.balance-lookup.timeout-ms:3000}")
+    private long balanceLookupTimeoutMs;
+    
+    @Value("${account.balance-lookup.request-budget-ms:5000}")
+    private long myAccountsBudgetMs;
+    
+    @Value("${account.transaction-sync.batch-size:200}")
+    private int syncBatchSize;
+    
+    @Value("${account.transaction-sync.page-size:100}")
+    private int syncPageSize;
+    
+    @Value("${account.transaction-sync.max-pages:20}")
+    private int syncMaxPages;
     
     /**
      * 모임통장 정보 조회 (실시간 잔액 포함)
@@ -119,12 +157,7 @@ public class AccountService {
                 })
                 .collect(Collectors.toList());
         
-        List<MyAccountsResponse.AccountInfo> accountInfos = new ArrayList<>();
-        
-        for (Account account : filteredAccounts) {
-            MyAccountsResponse.AccountInfo accountInfo = createAccountInfo(account);
-            accountInfos.add(accountInfo);
-        }
+        List<MyAccountsResponse.AccountInfo> accountInfos = fetchAccountInfosConcurrently(filteredAccounts);
         
         return MyAccountsResponse.builder()
                 .accounts(accountInfos)
@@ -133,9 +166,73 @@ public class AccountService {
     }
     
     /**
-     * 개인 계좌 정보 생성 (실시간 잔액 조회 포함)
+     * 개인 계좌 잔액 병렬 조회
+     * 
+     * 계좌별 조회는 각자 balanceLookupTimeoutMs 안에 끝나야 하고,
+     * 전체 응답은 myAccountsBudgetMs 를 넘기지 않습니다.
+     * 시간 안에 끝나지 않은 계좌는 기존과 동일하게 ERROR 상태로 내려갑니다.
      */
-    private MyAccountsResponse.AccountInfo createAccountInfo(Account account) {
+    private List<MyAccountsResponse.AccountInfo> fetchAccountInfosConcurrently(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // 오픈뱅킹 토큰은 요청당 한 번만 획득
+        String token;
+        try {
+            token = openBankingTokenService.getValidToken()
+                    .orElseGet(() -> openBankingTokenService.issueAndSaveToken());
+        } catch (Exception e) {
+            log.warn("개인 계좌 잔액 조회용 오픈뱅킹 토큰 획득 실패: {}", e.getMessage());
+            return accounts.stream()
+                    .map(account -> createAccountInfo(account, null, e.getMessage()))
+                    .collect(Collectors.toList());
+        }
+        
+        // 동시 호출 한도 대기도 전체 응답 예산 안에서만 허용
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(myAccountsBudgetMs);
+        List<CompletableFuture<BigDecimal>> futures = new ArrayList<>();
+        for (Account account : accounts) {
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - System.nanoTime()));
+            futures.add(externalApiExecutor
+                    .supplyAsync("auth-backend", () -> getRealTimeBalanceForPersonalAccount(account, token), remainingMs)
+                    .orTimeout(balanceLookupTimeoutMs, TimeUnit.MILLISECONDS));
+        }
+        
+        List<MyAccountsResponse.AccountInfo> accountInfos = new ArrayList<>();
+        for (int i = 0; i < accounts.size(); i++) {
+            Account account = accounts.get(i);
+            CompletableFuture<BigDecimal> future = futures.get(i);
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                BigDecimal balance = future.get(remaining, TimeUnit.NANOSECONDS);
+                accountInfos.add(createAccountInfo(account, balance, null));
+            } catch (TimeoutException e) {
+                // 결과만 포기 (실행 중인 호출은 HTTP 읽기 제한 시간에 끝나고 그때 permit 반납)
+                future.cancel(false);
+                log.warn("개인 계좌 잔액 조회 시간 초과 (전체 응답 예산) - 계좌ID: {}, 계좌번호: {}", 
+                        account.getAccountId(), account.getAccountNumber());
+                accountInfos.add(createAccountInfo(account, null, "잔액 조회 시간이 초과되었습니다."));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                String errorMessage = cause instanceof TimeoutException ? "잔액 조회 시간이 초과되었습니다." : cause.getMessage();
+                log.warn("개인 계좌 잔액 조회 실패 - 계좌ID: {}, 계좌번호: {}, 오류: {}", 
+                        account.getAccountId(), account.getAccountNumber(), errorMessage);
+                accountInfos.add(createAccountInfo(account, null, errorMessage));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(false);
+                accountInfos.add(createAccountInfo(account, null, "잔액 조회가 중단되었습니다."));
+            }
+        }
+        
+        return accountInfos;
+    }
+    
+    /**
+     * 개인 계좌 정보 생성 (잔액 조회 결과 반영)
+     */
+    private MyAccountsResponse.AccountInfo createAccountInfo(Account account, BigDecimal balance, String errorMessage) {
         MyAccountsResponse.AccountInfo.AccountInfoBuilder builder = MyAccountsResponse.AccountInfo.builder()
                 .accountId(account.getAccountId())
                 .bank(account.getBank())
@@ -145,17 +242,13 @@ public class AccountService {
                 .userSeqNo(account.getUserSeqNo())
                 .lastSyncedAt(account.getLastSyncedAt());
         
-        // 실시간 잔액 조회
-        try {
-            BigDecimal balance = getRealTimeBalanceForPersonalAccount(account);
+        if (balance != null) {
             builder.balance(balance)
                    .balanceStatus("SUCCESS");
-        } catch (Exception e) {
-            log.warn("개인 계좌 잔액 조회 실패 - 계좌ID: {}, 계좌번호: {}, 오류: {}", 
-                    account.getAccountId(), account.getAccountNumber(), e.getMessage());
+        } else {
             builder.balance(null)
                    .balanceStatus("ERROR")
-                   .errorMessage(e.getMessage());
+                   .errorMessage(errorMessage);
         }
         
         return builder.build();
@@ -164,11 +257,7 @@ public class AccountService {
     /**
      * 개인 계좌 실시간 잔액 조회
      */
-    private BigDecimal getRealTimeBalanceForPersonalAccount(Account account) {
-        // 오픈뱅킹 토큰 획득
-        String token = openBankingTokenService.getValidToken()
-                .orElseGet(() -> openBankingTokenService.issueAndSaveToken());
-        
+    private BigDecimal getRealTimeBalanceForPersonalAccount(Account account, String token) {
         // 잔액 조회 요청 생성 (개인 계좌 소유자의 user_seq_no 사용)
         AuthBackendApiService.BalanceRequest request = new AuthBackendApiService.BalanceRequest(
                 account.getUserSeqNo(), // 개인 계좌 소유자의 user_seq_no
@@ -297,117 +386,379 @@ public class AccountService {
      * 거래내역 동기화 (최근 동기화 시간 이후)
      */
     @Transactional
-    public void syncTransactions() {
+    public TransactionSyncResponse syncTransactions() {
         log.info("거래내역 동기화 시작");
         
         // 1. 현재 사용자의 모임통장 조회
         Account coupleAccount = customerService.getCurrentUserCoupleAccount();
-        LocalDateTime lastSyncedAt = coupleAccount.getLastSyncedAt();
         
-        // 2. 모임통장 소유주의 user_seq_no 조회 및 로깅
-        String ownerUserSeqNo = customerService.getCoupleAccountOwnerUserSeqNo();
+        // 2. 모임통장 소유주의 user_seq_no 로깅
         String currentUserSeqNo = securityUtil.getCurrentUserSeqNo();
         log.info("거래내역 동기화 - 현재 사용자: {}, 모임통장 소유주: {}, 계좌번호: {}", 
-                currentUserSeqNo, ownerUserSeqNo, coupleAccount.getAccountNumber());
+                currentUserSeqNo, coupleAccount.getUserSeqNo(), coupleAccount.getAccountNumber());
+        
+        return syncAccountTransactions(coupleAccount);
+    }
+    
+    /**
+     * 마지막 동기화가 maxAgeSeconds보다 오래된 경우에만 거래내역 동기화
+     * 
+     * 조회 화면에서 호출하므로 동기화 실패가 조회 트랜잭션에 영향을 주지 않도록 별도 트랜잭션으로 실행합니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public TransactionSyncResponse syncTransactionsIfStale(long maxAgeSeconds) {
+        Account coupleAccount = customerService.getCurrentUserCoupleAccount();
+        LocalDateTime lastSyncedAt = coupleAccount.getLastSyncedAt();
+        
+        if (lastSyncedAt != null && lastSyncedAt.isAfter(LocalDateTime.now().minusSeconds(maxAgeSeconds))) {
+            log.debug("최근 동기화 기록이 있어 동기화 생략 - 계좌번호: {}, 마지막 동기화: {}", 
+                    coupleAccount.getAccountNumber(), lastSyncedAt);
+            return TransactionSyncResponse.empty();
+        }
+        
+        return syncAccountTransactions(coupleAccount);
+    }
+    
+    /**
+     * 계좌 ID 기준 거래내역 동기화 (백그라운드 동기화용, 로그인 사용자 불필요)
+     */
+    @Transactional
+    public TransactionSyncResponse syncTransactions(Long accountId) {
+        Account coupleAccount = accountRepository.findById(accountId)
+                .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다. accountId: " + accountId));
+        
+        if (!Boolean.TRUE.equals(coupleAccount.getIsCoupleAccount())) {
+            throw new IllegalArgumentException("모임통장이 아닙니다. accountId: " + accountId);
+        }
         
-        // 3. 오픈뱅킹 토큰 획득
+        return syncAccountTransactions(coupleAccount);
+    }
+    
+    /**
+     * 모임통장 거래내역 동기화 공통 처리
+     * 
+     * 계좌의 동기화 커서(마지막 반영 거래일시/bankTranId) 이후 거래만 반영하고,
+     * 저장된 거래내역과 커서 이동은 같은 트랜잭션에서 처리합니다.
+     */
+    private TransactionSyncResponse syncAccountTransactions(Account coupleAccount) {
+        // 1. 오픈뱅킹 토큰 획득
         String token = openBankingTokenService.getValidToken()
                 .orElseGet(() -> openBankingTokenService.issueAndSaveToken());
         
-        // 4. 거래내역조회 API 호출
         try {
-            AuthBackendApiService.TransactionListRequest request = createTransactionListRequest(coupleAccount, lastSyncedAt);
-            var response = authBackendApiService.getTransactionHistory(request, token);
+            // 2. 거래내역조회 API 호출 (커서 이후 구간만, 과거순 페이지 단위)
+            FetchedTransactions fetched = fetchTransactionsAfterCursor(coupleAccount, token);
+            if (fetched == null) {
+                return TransactionSyncResponse.empty();
+            }
+            List<AuthBackendApiService.TransactionItem> items = fetched.items();
             
-            if (response != null && response.isSuccess() && response.getData() != null) {
-                // 5. 새로운 거래내역 저장
-                saveNewTransactions(response.getData(), coupleAccount);
-                
-                // 6. last_synced_at 업데이트
-                coupleAccount.updateLastSyncedAt();
-                accountRepository.save(coupleAccount);
-                
-                log.info("거래내역 동기화 완료");
+            // 3. 새로운 거래내역 저장
+            TransactionSyncResponse result = saveNewTransactions(items, coupleAccount);
+            
+            // 4. 커서 이동 (저장 실패 건이 있으면 다음 동기화에서 다시 받도록 유지)
+            //    형식 오류 거래는 건너뛴 건으로 집계하고 커서 이동을 막지 않음
+            if (result.getFailedCount() == 0) {
+                if (fetched.complete() || fetched.ascending()) {
+                    advanceSyncCursor(coupleAccount, items);
+                } else {
+                    log.warn("거래내역 조회가 최대 페이지에서 중단되어 커서를 유지합니다 - 계좌번호: {}", coupleAccount.getAccountNumber());
+                }
             }
             
+            // 5. last_synced_at 업데이트
+            coupleAccount.updateLastSyncedAt();
+            accountRepository.save(coupleAccount);
+            
+            log.info("거래내역 동기화 완료 - 계좌번호: {}, 커서: {} {} ({})", coupleAccount.getAccountNumber(),
+                    coupleAccount.getSyncCursorTranDate(), coupleAccount.getSyncCursorTranTime(), coupleAccount.getSyncCursorTranId());
+            return result;
+            
         } catch (Exception e) {
             log.error("거래내역 동기화 실패: {}", e.getMessage(), e);
             throw new RuntimeException("거래내역 동기화에 실패했습니다.", e);
         }
     }
     
+    /**
+     * 커서 이후 거래내역 조회 (과거순, 페이지 단위)
+     * 
+     * 과거순으로 받기 때문에 최대 페이지에서 멈춰도 받은 구간까지는 빠짐없이 반영되고,
+     * 다음 동기화가 이어서 조회합니다. 업스트림이 정렬 순서를 지키지 않은 경우(과거순이 아님)에는
+     * 최대 페이지에서 멈춘 동기화의 커서를 옮기지 않습니다.
+     * 첫 페이지 조회가 실패하면 null, 이후 페이지가 실패하면 커서가 잘못 이동하지 않도록 예외를 던집니다.
+     */
+    private FetchedTransactions fetchTransactionsAfterCursor(Account coupleAccount, String token) {
+        List<AuthBackendApiService.TransactionItem> items = new ArrayList<>();
+        boolean ascending = true;
+        String previous = null;
+        
+        for (int pageIndex = 1; pageIndex <= syncMaxPages; pageIndex++) {
+            AuthBackendApiService.TransactionListRequest request = createTransactionListRequest(coupleAccount, pageIndex);
+            var response = authBackendApiService.getTransactionHistory(request, token);
+            
+            if (response == null || !response.isSuccess() || response.getData() == null) {
+                if (pageIndex == 1) {
+                    return null;
+                }
+                throw new IllegalStateException("거래내역 " + pageIndex + "페이지 조회에 실패했습니다.");
+            }
+            
+            List<AuthBackendApiService.TransactionItem> pageItems = response.getData().getResList();
+            if (pageItems == null || pageItems.isEmpty()) {
+                return new FetchedTransactions(items, true, ascending);
+            }
+            
+            for (AuthBackendApiService.TransactionItem item : pageItems) {
+                String tranDateTime = item.getTranDate() + item.getTranTime();
+                if (previous != null && tranDateTime.compareTo(previous) < 0) {
+                    ascending = false;
+                }
+                previous = tranDateTime;
+                
+                if (isAfterSyncCursor(item, coupleAccount)) {
+                    items.add(item);
+                }
+            }
+            
+            boolean hasNextPage = response.getData().getNextPageYn() != null
+                    ? "Y".equalsIgnoreCase(response.getData().getNextPageYn())
+                    : pageItems.size() >= Integer.parseInt(request.getPageSize());
+            if (!hasNextPage) {
+                return new FetchedTransactions(items, true, ascending);
+            }
+        }
+        
+        log.warn("거래내역 조회 최대 페이지 도달 - 계좌번호: {}, 페이지: {}, 남은 거래는 다음 동기화에서 조회", 
+                coupleAccount.getAccountNumber(), syncMaxPages);
+        return new FetchedTransactions(items, false, ascending);
+    }
+    
+    /**
+     * 커서 이후 거래내역 조회 결과
+     * 
+     * @param complete 마지막 페이지까지 조회했는지 여부
+     * @param ascending 받은 거래가 과거순으로 정렬되어 있었는지 여부
+     */
+    private record FetchedTransactions(List<AuthBackendApiService.TransactionItem> items, boolean complete, boolean ascending) {
+    }
+    
+    /**
+     * 커서 이후 거래인지 확인
+     * 
+     * 같은 거래일시에 여러 건이 있을 수 있으므로 커서와 같은 시각의 거래는
+     * 커서의 bankTranId와 같은 건만 제외하고 나머지는 중복 체크에 맡깁니다.
+     */
+    private boolean isAfterSyncCursor(AuthBackendApiService.TransactionItem item, Account coupleAccount) {
+        if (coupleAccount.getSyncCursorTranDate() == null) {
+            return true;
+        }
+        
+        LocalDateTime cursor = LocalDateTime.of(coupleAccount.getSyncCursorTranDate(),
+                coupleAccount.getSyncCursorTranTime() != null ? coupleAccount.getSyncCursorTranTime() : LocalTime.MIN);
+        LocalDateTime tranDateTime = parseTranDateTime(item);
+        if (tranDateTime == null) {
+            // 형식이 잘못된 거래는 저장 단계에서 건너뛴 건으로 집계
+            return true;
+        }
+        
+        if (tranDateTime.isEqual(cursor)) {
+            return item.getBankTranId() == null || !item.getBankTranId().equals(coupleAccount.getSyncCursorTranId());
+        }
+        return tranDateTime.isAfter(cursor);
+    }
+    
+    /**
+     * 이번 동기화에서 받은 가장 최근 거래로 커서 이동 (거래일시 형식이 잘못된 거래는 제외)
+     */
+    private void advanceSyncCursor(Account coupleAccount, List<AuthBackendApiService.TransactionItem> items) {
+        items.stream()
+                .filter(item -> parseTranDateTime(item) != null)
+                .max(Comparator.comparing((AuthBackendApiService.TransactionItem item) -> item.getTranDate() + item.getTranTime()))
+                .ifPresent(latest -> {
+                    LocalDateTime tranDateTime = parseTranDateTime(latest);
+                    coupleAccount.advanceSyncCursor(tranDateTime.toLocalDate(), tranDateTime.toLocalTime(), latest.getBankTranId());
+                });
+    }
+    
+    /**
+     * 거래일시 파싱 (형식이 잘못되면 null)
+     */
+    private static LocalDateTime parseTranDateTime(AuthBackendApiService.TransactionItem item) {
+        try {
+            return LocalDateTime.of(
+                    LocalDate.parse(item.getTranDate(), DateTimeFormatter.ofPattern("yyyyMMdd")),
+                    LocalTime.parse(item.getTranTime(), DateTimeFormatter.ofPattern("HHmmss")));
+        } catch (Exception e) {
+            return null;
+        }
+    }
+    
     /**
      * 거래내역조회 요청 생성
+     * 
+     * 조회 시작일: 동기화 커서 거래일 → 마지막 동기화일 → 최근 7일 순으로 사용
      */
-    private AuthBackendApiService.TransactionListRequest createTransactionListRequest(Account coupleAccount, LocalDateTime lastSyncedAt) {
+    private AuthBackendApiService.TransactionListRequest createTransactionListRequest(Account coupleAccount, int pageIndex) {
         // 모임통장 소유주의 user_seq_no 사용 (현재 사용자가 아닌)
-        String ownerUserSeqNo = customerService.getCoupleAccountOwnerUserSeqNo();
-        String fromDate = lastSyncedAt != null ? 
-                lastSyncedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd")) : 
-                LocalDate.now().minusDays(7).format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+        String ownerUserSeqNo = coupleAccount.getUserSeqNo();
+        LocalDate from;
+        if (coupleAccount.getSyncCursorTranDate() != null) {
+            from = coupleAccount.getSyncCursorTranDate();
+        } else if (coupleAccount.getLastSyncedAt() != null) {
+            from = coupleAccount.getLastSyncedAt().toLocalDate();
+        } else {
+            from = LocalDate.now().minusDays(7);
+        }
+        String fromDate = from.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         String toDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
         
-        log.info("거래내역조회 요청 생성 - 소유주 user_seq_no: {}, 계좌번호: {}, 조회기간: {} ~ {}", 
-                ownerUserSeqNo, coupleAccount.getAccountNumber(), fromDate, toDate);
+        log.info("거래내역조회 요청 생성 - 소유주 user_seq_no: {}, 계좌번호: {}, 조회기간: {} ~ {}, 페이지: {}", 
+                ownerUserSeqNo, coupleAccount.getAccountNumber(), fromDate, toDate, pageIndex);
         
-        return new AuthBackendApiService.TransactionListRequest(
+        AuthBackendApiService.TransactionListRequest request = new AuthBackendApiService.TransactionListRequest(
                 ownerUserSeqNo, // 모임통장 소유주의 user_seq_no 사용
                 "081", // 하나은행
                 coupleAccount.getAccountNumber(),
                 fromDate,
                 toDate
         );
+        request.setSortOrder("A");  // 과거순 (최대 페이지에서 멈춰도 누락 없이 이어서 조회)
+        request.setPageIndex(String.format("%03d", pageIndex));
+        request.setPageSize(String.valueOf(syncPageSize));
+        return request;
     }
     
     /**
      * 새로운 거래내역 저장
+     * 
+     * 중복 체크는 tranId IN 조회 1회 + (tranId 없는 거래가 있으면) 기간 조회 1회로 처리하고,
+     * 새 거래내역은 JDBC 배치로 저장합니다.
      */
-    private void saveNewTransactions(AuthBackendApiService.TransactionListResponse responseData, Account coupleAccount) {
-        if (responseData.getResList() == null || responseData.getResList().isEmpty()) {
+    private TransactionSyncResponse saveNewTransactions(List<AuthBackendApiService.TransactionItem> items, Account coupleAccount) {
+        if (items.isEmpty()) {
             log.info("새로운 거래내역이 없습니다.");
-            return;
+            return TransactionSyncResponse.empty();
         }
         
-        int savedCount = 0;
-        for (AuthBackendApiService.TransactionItem item : responseData.getResList()) {
+        Set<String> existingTranIds = findExistingTranIds(items);
+        Set<TransactionKey> existingKeys = findExistingTransactionKeys(items, coupleAccount.getAccountId());
+        
+        List<CoupleAccountTransaction> newTransactions = new ArrayList<>();
+        List<String> safeAccountDepositTranIds = new ArrayList<>();
+        int duplicateCount = 0;
+        int skippedCount = 0;
+        int failedCount = 0;
+        for (AuthBackendApiService.TransactionItem item : items) {
             try {
-                // 중복 체크
-                if (isDuplicateTransaction(item, coupleAccount.getAccountId())) {
+                CoupleAccountTransaction transaction = createTransactionFromItem(item, coupleAccount);
+                
+                // 중복 체크 (기존 저장분 + 이번 응답 안의 중복)
+                boolean isNew = transaction.getTranId() != null && !transaction.getTranId().isEmpty()
+                        ? existingTranIds.add(transaction.getTranId())
+                        : existingKeys.add(TransactionKey.of(transaction));
+                if (!isNew) {
                     log.debug("중복 거래내역 건너뛰기: {}", item.getBankTranId());
+                    duplicateCount++;
                     continue;
                 }
                 
-                // CoupleAccountTransaction 엔티티 생성
-                CoupleAccountTransaction transaction = createTransactionFromItem(item, coupleAccount);
-                
-                // 저장
-                coupleAccountTransactionRepository.save(transaction);
-                savedCount++;
-                
+                newTransactions.add(transaction);
+                if (isSafeAccountDeposit(item, transaction)) {
+                    safeAccountDepositTranIds.add(transaction.getTranId());
+                }
             } catch (Exception e) {
-                log.error("거래내역 저장 실패: {}", e.getMessage(), e);
+                // 형식 오류는 다시 받아도 같으므로 건너뛰고 커서 이동은 막지 않음
+                log.error("거래내역 변환 실패로 건너뜀 - bankTranId: {}, 거래일시: {} {}, 오류: {}",
+                        item.getBankTranId(), item.getTranDate(), item.getTranTime(), e.getMessage());
+                skippedCount++;
             }
         }
         
-        log.info("새로운 거래내역 {}건 저장 완료", savedCount);
+        int ingestedCount = transactionBatchRepository.batchInsert(newTransactions, syncBatchSize);
+        failedCount += newTransactions.size() - ingestedCount;
+        
+        log.info("거래내역 저장 완료 - 저장: {}건, 중복: {}건, 건너뜀: {}건, 실패: {}건", ingestedCount, duplicateCount, skippedCount, failedCount);
+        publishSafeAccountDeposits(coupleAccount, safeAccountDepositTranIds);
+        return TransactionSyncResponse.builder()
+                .ingestedCount(ingestedCount)
+                .duplicateCount(duplicateCount)
+                .skippedCount(skippedCount)
+                .failedCount(failedCount)
+                .build();
+    }
+    
+    private static boolean isSafeAccountDeposit(AuthBackendApiService.TransactionItem item, CoupleAccountTransaction transaction) {
+        return transaction.getType() == CoupleAccountTransaction.TransactionType.DEPOSIT
+                && transaction.getTranId() != null && !transaction.getTranId().isEmpty()
+                && (Boolean.TRUE.equals(item.getIsSafeAccountDeposit()) || "PENDING".equals(transaction.getIsSafeAccountDeposit()));
     }
     
     /**
-     * 중복 거래내역 체크
+     * 새로 저장된 안심계좌 입금을 축의금 실시간 피드로 발행 (구독자가 있을 때만 조회, 커밋 후 전송)
+     * 
+     * 피드는 서버 간 전달을 하지 않으므로 이 동기화를 실행한 서버에 연결된 구독자에게만 갑니다 (GiftMoneyLiveFeed 참고).
      */
-    private boolean isDuplicateTransaction(AuthBackendApiService.TransactionItem item, Long accountId) {
-        // tranId로 중복 체크
-        if (item.getBankTranId() != null && !item.getBankTranId().isEmpty()) {
-            return coupleAccountTransactionRepository.existsByTranId(item.getBankTranId());
+    private void publishSafeAccountDeposits(Account coupleAccount, List<String> tranIds) {
+        if (tranIds.isEmpty()) {
+            return;
+        }
+        Long coupleId = coupleRepository.findByCoupleAccount(coupleAccount.getAccountNumber())
+                .map(Marry1qCouple::getCoupleId)
+                .orElse(null);
+        if (coupleId == null || !giftMoneyLiveFeed.hasSubscribers(coupleId)) {
+            return;
+        }
+        coupleAccountTransactionRepository.findByTranIdIn(tranIds).stream()
+                .sorted(Comparator.comparing(CoupleAccountTransaction::getTransactionDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(CoupleAccountTransaction::getTransactionTime, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(transaction -> giftMoneyLiveFeed.publish(coupleId, GiftMoneyLiveEvent.safeAccountDeposit(
+                        SafeAccountTransactionResponse.from(transaction, commonCodeService))));
+    }
+    
+    /**
+     * 응답에 포함된 bankTranId 중 이미 저장된 것 조회 (IN 쿼리 1회)
+     */
+    private Set<String> findExistingTranIds(List<AuthBackendApiService.TransactionItem> items) {
+        Set<String> tranIds = items.stream()
+                .map(AuthBackendApiService.TransactionItem::getBankTranId)
+                .filter(tranId -> tranId != null && !tranId.isEmpty())
+                .collect(Collectors.toSet());
+        if (tranIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(coupleAccountTransactionRepository.findExistingTranIds(tranIds));
+    }
+    
+    /**
+     * bankTranId가 없는 거래의 중복 체크용 키 조회 (거래일 범위 조회 1회)
+     */
+    private Set<TransactionKey> findExistingTransactionKeys(List<AuthBackendApiService.TransactionItem> items, Long accountId) {
+        List<LocalDate> dates = items.stream()
+                .filter(item -> item.getBankTranId() == null || item.getBankTranId().isEmpty())
+                .map(item -> LocalDate.parse(item.getTranDate(), DateTimeFormatter.ofPattern("yyyyMMdd")))
+                .sorted()
+                .toList();
+        if (dates.isEmpty()) {
+            return new HashSet<>();
         }
         
-        // 거래일시+금액으로 중복 체크
-        LocalDate tranDate = LocalDate.parse(item.getTranDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
-        LocalTime tranTime = LocalTime.parse(item.getTranTime(), DateTimeFormatter.ofPattern("HHmmss"));
-        BigDecimal amount = new BigDecimal(item.getTranAmt());
+        return coupleAccountTransactionRepository.findByAccountIdAndTransactionDateBetween(
+                        accountId, dates.get(0), dates.get(dates.size() - 1))
+                .stream()
+                .map(TransactionKey::of)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+    
+    /**
+     * 거래일시+금액 중복 체크 키 (금액은 scale 차이를 없애기 위해 정규화)
+     */
+    private record TransactionKey(LocalDate date, LocalTime time, BigDecimal amount) {
         
-        return coupleAccountTransactionRepository.existsByTransactionDateAndTransactionTimeAndAmountAndAccountId(
-                tranDate, tranTime, amount, accountId);
+        static TransactionKey of(CoupleAccountTransaction transaction) {
+            return new TransactionKey(transaction.getTransactionDate(), transaction.getTransactionTime(),
+                    transaction.getAmount().stripTrailingZeros());
+        }
     }
     
     /**
@@ -0,0 +1,320 @@
+package com.marry1q.marry1qbe.domain.account.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marry1q.marry1qbe.domain.account.entity.AutoTransferOutbox;
+import com.marry1q.marry1qbe.domain.account.repository.AutoTransferOutboxRepository;
+import com.marry1q.marry1qbe.domain.account.service.external.HanaBankAutoTransferApiClient;
+import com.marry1q.marry1qbe.domain.plan1q.service.HanaBankApiService;
+import com.marry1q.marry1qbe.grobal.executor.ExternalApiExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동이체 아웃박스 디스패처
+ *
+ * auto_transfer_outbox 의 전송 대기 메시지를 batch-size 만큼 선점해서 하나은행으로 전송합니다.
+ * 선점은 SKIP LOCKED 로 하기 때문에 여러 서버가 동시에 실행해도 같은 메시지를 중복 전송하지 않고,
+ * 전송 중 서버가 종료되면 임대 시간(lease-ms) 이후 다른 디스패처가 다시 가져갑니다.
+ * 하나은행을 호출하기 직전마다 버전 확인과 함께 임대를 연장하므로, Executor 대기 중 임대가 만료되어
+ * 다른 디스패처가 가져간 메시지는 보내지 않습니다 (lease-ms 는 하나은행 호출 제한 시간보다 길어야 합니다).
+ *
+ * 실패한 메시지는 지수 백오프로 재시도하고, max-attempts 를 넘으면 DEAD 로 전환합니다.
+ * 주기 실행 외에 아웃박스 등록 트랜잭션이 커밋되면 바로 깨어나서 전송합니다.
+ */
+@Slf4j
+@Component
+public class AutoTransferOutboxDispatcher implements DisposableBean {
+
+    private static final String PAYLOAD_CREATE = "create";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final AutoTransferOutboxRepository outboxRepository;
+    private final HanaBankAutoTransferApiClient hanaBankAutoTransferApiClient;
+    private final HanaBankApiService hanaBankApiService;
+    private final ExternalApiExecutor externalApiExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final long leaseMs;
+    private final ThreadPoolExecutor runner;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+    private final Timer deliveryLag;
+
+    public AutoTransferOutboxDispatcher(AutoTransferOutboxRepository outboxRepository,
+                                        HanaBankAutoTransferApiClient hanaBankAutoTransferApiClient,
+                                        HanaBankApiService hanaBankApiService,
+                                        ExternalApiExecutor externalApiExecutor,
+                                        TransactionTemplate transactionTemplate,
+                                        ObjectMapper objectMapper,
+                                        @Value("${auto-transfer.outbox.enabled:true}") boolean enabled,
+                                        @Value("${auto-transfer.outbox.batch-size:20}") int batchSize,
+                                        @Value("${auto-transfer.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+                                        @Value("${auto-transfer.outbox.max-attempts:8}") int maxAttempts,
+                                        @Value("${auto-transfer.outbox.backoff-base-ms:2000}") long backoffBaseMs,
+                                        @Value("${auto-transfer.outbox.backoff-max-ms:600000}") long backoffMaxMs,
+                                        @Value("${auto-transfer.outbox.lease-ms:60000}") long leaseMs,
+                                        MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.hanaBankAutoTransferApiClient = hanaBankAutoTransferApiClient;
+        this.hanaBankApiService = hanaBankApiService;
+        this.externalApiExecutor = externalApiExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.leaseMs = leaseMs;
+
+        // 전송 루프는 서버당 하나만 실행 (대기 중인 깨우기 요청은 1건만 유지)
+        this.runner = new ThreadPoolExecutor(
+                1, 1,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "auto-transfer-outbox");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+        this.runner.allowCoreThreadTimeOut(true);
+
+        this.sent = Counter.builder("auto.transfer.outbox.delivery")
+                .tag("result", "sent")
+                .description("자동이체 아웃박스 전송 결과 수")
+                .register(meterRegistry);
+        this.retried = Counter.builder("auto.transfer.outbox.delivery")
+                .tag("result", "retry")
+                .description("자동이체 아웃박스 전송 결과 수")
+                .register(meterRegistry);
+        this.dead = Counter.builder("auto.transfer.outbox.delivery")
+                .tag("result", "dead")
+                .description("자동이체 아웃박스 전송 결과 수")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder("auto.transfer.outbox.lag")
+                .description("아웃박스 등록부터 전송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("auto.transfer.outbox.in.flight", inFlight, AtomicInteger::get)
+                .description("전송 중인 자동이체 아웃박스 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 주기 실행 (재시도 시각이 된 메시지, 다른 서버가 놓친 메시지 전송)
+     */
+    @Scheduled(fixedDelayString = "${auto-transfer.outbox.poll-interval-ms:2000}",
+               initialDelayString = "${auto-transfer.outbox.initial-delay-ms:10000}")
+    public void pollDue() {
+        wakeUp();
+    }
+
+    /**
+     * 전송 루프 실행 요청 (이미 실행 중이면 현재 루프가 끝난 뒤 한 번 더 실행)
+     */
+    public void wakeUp() {
+        if (enabled) {
+            runner.execute(this::dispatchDue);
+        }
+    }
+
+    private void dispatchDue() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<AutoTransferOutbox> claimed = claimDue();
+                if (claimed.isEmpty()) {
+                    return;
+                }
+
+                inFlight.addAndGet(claimed.size());
+                CompletableFuture<?>[] deliveries = claimed.stream()
+                        .map(outbox -> externalApiExecutor.supplyAsync("hana-bank", () -> {
+                                    deliver(outbox);
+                                    return null;
+                                })
+                                // permit 대기 시간 초과로 전송하지 못한 메시지는 임대 만료 후 다시 선점됨
+                                .handle((result, error) -> {
+                                    inFlight.decrementAndGet();
+                                    if (error != null) {
+                                        log.warn("자동이체 아웃박스 전송 시작 실패 - outboxId: {}, 오류: {}",
+                                                outbox.getOutboxId(), error.getMessage());
+                                    }
+                                    return null;
+                                }))
+                        .toArray(CompletableFuture[]::new);
+                CompletableFuture.allOf(deliveries).join();
+
+                if (claimed.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("자동이체 아웃박스 전송 루프 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전송 대상 선점 (조회와 선점을 한 트랜잭션에서 처리해 행 잠금 유지)
+     */
+    private List<AutoTransferOutbox> claimDue() {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds = outboxRepository.findDueIdsForUpdate(now, batchSize);
+            if (!dueIds.isEmpty()) {
+                outboxRepository.updateStatusAndLease(
+                        dueIds, AutoTransferOutbox.Status.IN_PROGRESS, now.plus(Duration.ofMillis(leaseMs)));
+            }
+            return dueIds;
+        });
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return outboxRepository.findAllById(ids);
+    }
+
+    /**
+     * 메시지 1건 전송 및 결과 기록
+     */
+    private void deliver(AutoTransferOutbox outbox) {
+        String idempotencyKey = outbox.getIdempotencyKey();
+        try {
+            Map<String, Object> payload = readPayload(outbox.getPayload());
+            outbox = renewLease(outbox);
+            Long resultAutoTransferId;
+
+            switch (outbox.getOperation()) {
+                case CREATE -> resultAutoTransferId = extractAutoTransferId(
+                        hanaBankAutoTransferApiClient.createAutoTransfer(payload, idempotencyKey));
+                case UPDATE -> {
+                    hanaBankAutoTransferApiClient.updateAutoTransfer(outbox.getAutoTransferId(), payload, idempotencyKey);
+                    resultAutoTransferId = outbox.getAutoTransferId();
+                }
+                case DELETE -> {
+                    hanaBankAutoTransferApiClient.deleteAutoTransfer(outbox.getAutoTransferId(), idempotencyKey);
+                    resultAutoTransferId = null;
+                }
+                case REPLACE -> {
+                    if (outbox.getCompletedSteps() < 1) {
+                        hanaBankAutoTransferApiClient.deleteAutoTransfer(outbox.getAutoTransferId(), idempotencyKey + ":delete");
+                        outbox.completeStep();
+                        outbox = renewLease(outbox);
+                    }
+                    resultAutoTransferId = extractAutoTransferId(hanaBankAutoTransferApiClient.createAutoTransfer(
+                            payload.get(PAYLOAD_CREATE), idempotencyKey + ":create"));
+                }
+                default -> throw new IllegalStateException("지원하지 않는 아웃박스 작업: " + outbox.getOperation());
+            }
+
+            outbox.markSent(resultAutoTransferId);
+            outbox = outboxRepository.save(outbox);
+            hanaBankApiService.invalidateAccountProfitInfo(outbox.getOrderingKey());
+            sent.increment();
+            if (outbox.getCreatedAt() != null) {
+                deliveryLag.record(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+            }
+            log.info("자동이체 아웃박스 전송 완료 - outboxId: {}, 작업: {}, 자동이체ID: {} -> {}",
+                    outbox.getOutboxId(), outbox.getOperation(), outbox.getAutoTransferId(), resultAutoTransferId);
+
+        } catch (OptimisticLockingFailureException e) {
+            // 임대 만료 후 다른 디스패처가 다시 선점한 메시지 (그쪽에서 전송/기록)
+            log.warn("자동이체 아웃박스 선점 만료 - 다른 디스패처가 처리 - outboxId: {}", outbox.getOutboxId());
+        } catch (Exception e) {
+            recordFailure(outbox, e);
+        }
+    }
+
+    /**
+     * 임대 연장 (버전이 바뀌었으면 다른 디스패처가 선점한 것이므로 OptimisticLockingFailureException)
+     */
+    private AutoTransferOutbox renewLease(AutoTransferOutbox outbox) {
+        outbox.extendLease(LocalDateTime.now().plus(Duration.ofMillis(leaseMs)));
+        return outboxRepository.save(outbox);
+    }
+
+    private void recordFailure(AutoTransferOutbox outbox, Exception cause) {
+        String error = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        try {
+            outbox.markFailed(error, LocalDateTime.now().plus(Duration.ofMillis(backoffDelayMs(outbox.getAttempts()))), maxAttempts);
+            outbox = outboxRepository.save(outbox);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("자동이체 아웃박스 선점 만료 - 실패 기록 생략 - outboxId: {}", outbox.getOutboxId());
+            return;
+        } catch (Exception e) {
+            // 기록에 실패하면 임대 시간 만료 후 다시 전송됨
+            log.error("자동이체 아웃박스 실패 기록 실패 - outboxId: {}, 오류: {}", outbox.getOutboxId(), e.getMessage());
+            return;
+        }
+
+        if (outbox.getStatus() == AutoTransferOutbox.Status.DEAD) {
+            dead.increment();
+            log.error("자동이체 아웃박스 전송 포기 (DEAD) - outboxId: {}, 작업: {}, 자동이체ID: {}, 시도: {}회, 오류: {}",
+                    outbox.getOutboxId(), outbox.getOperation(), outbox.getAutoTransferId(), outbox.getAttempts(), error);
+        } else {
+            retried.increment();
+            log.warn("자동이체 아웃박스 전송 실패 - outboxId: {}, 시도: {}회, 다음 시도: {}, 오류: {}",
+                    outbox.getOutboxId(), outbox.getAttempts(), outbox.getNextAttemptAt(), error);
+        }
+    }
+
+    /**
+     * 지수 백오프 (최대 backoff-max-ms, 서버 간 재시도가 몰리지 않게 최대 20% 지연 추가)
+     */
+    private long backoffDelayMs(int previousAttempts) {
+        long delay = backoffBaseMs << Math.min(previousAttempts, 20);
+        delay = Math.min(delay, backoffMaxMs);
+        return delay + ThreadLocalRandom.current().nextLong(delay / 5 + 1);
+    }
+
+    private Map<String, Object> readPayload(String payload) throws Exception {
+        if (payload == null || payload.isBlank()) {
+            return Map.of();
+        }
+        return objectMapper.readValue(payload, new TypeReference<Map<String, Object>>() {});
+    }
+
+    private Long extractAutoTransferId(Map<String, Object> response) {
+        if (response == null || response.get("autoTransferId") == null) {
+            return null;
+        }
+        return Long.valueOf(response.get("autoTransferId").toString());
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdown();
+    }
+}
@@ -0,0 +1,151 @@
+package com.marry1q.marry1qbe.domain.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marry1q.marry1qbe.domain.account.dto.response.AutoTransferOutboxResponse;
+import com.marry1q.marry1qbe.domain.account.entity.AutoTransferOutbox;
+import com.marry1q.marry1qbe.domain.account.repository.AutoTransferLockRepository;
+import com.marry1q.marry1qbe.domain.account.repository.AutoTransferOutboxRepository;
+import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
+import com.marry1q.marry1qbe.grobal.exception.CustomException;
+import com.marry1q.marry1qbe.grobal.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동이체 아웃박스 서비스
+ *
+ * 하나은행 자동이체 변경을 호출 트랜잭션 안에서 아웃박스에 저장합니다.
+ * 트랜잭션이 롤백되면 메시지도 함께 사라지고, 커밋되면 디스패처가 비동기로 전송합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class AutoTransferOutboxService {
+
+    private static final int MAX_DEAD_LETTER_LIMIT = 100;
+
+    private final AutoTransferOutboxRepository outboxRepository;
+    private final AutoTransferLockRepository autoTransferLockRepository;
+    private final AutoTransferOutboxDispatcher dispatcher;
+    private final SecurityUtil securityUtil;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 아웃박스 등록
+     *
+     * @param autoTransferId 대상 자동이체 ID (CREATE 는 null, REPLACE 는 삭제할 기존 자동이체)
+     * @param orderingKey 전송 순서 보장 단위 (입금 계좌번호)
+     * @param idempotencyKey 중복 등록 방지 키 (하나은행 요청의 Idempotency-Key 로도 사용)
+     */
+    public AutoTransferOutbox enqueue(AutoTransferOutbox.Operation operation, Long autoTransferId, String orderingKey,
+                                      Map<String, Object> payload, String idempotencyKey) {
+        String payloadJson;
+        try {
+            payloadJson = payload != null ? objectMapper.writeValueAsString(payload) : null;
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.DB_SAVE_FAILED, "자동이체 변경 내용을 저장할 수 없습니다.");
+        }
+
+        AutoTransferOutbox outbox = outboxRepository.save(AutoTransferOutbox.builder()
+                .idempotencyKey(idempotencyKey)
+                .operation(operation)
+                .autoTransferId(autoTransferId)
+                .orderingKey(orderingKey)
+                .payload(payloadJson)
+                .userSeqNo(securityUtil.getCurrentUserSeqNo())
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        log.info("자동이체 아웃박스 등록 - outboxId: {}, 작업: {}, 자동이체ID: {}, 키: {}",
+                outbox.getOutboxId(), operation, autoTransferId, idempotencyKey);
+
+        wakeDispatcherAfterCommit();
+        return outbox;
+    }
+
+    /**
+     * 자동이체 단위 잠금 (호출 트랜잭션 커밋/롤백까지 유지)
+     *
+     * 잠근 뒤 hasPendingChanges 를 확인하고 같은 트랜잭션에서 등록하면,
+     * 같은 자동이체에 대한 동시 요청이 둘 다 확인을 통과해 중복 등록되지 않습니다.
+     *
+     * @return 잠금 성공 여부 (다른 요청이 처리 중이면 기다리지 않고 false)
+     */
+    public boolean tryLockAutoTransfer(Long autoTransferId) {
+        autoTransferLockRepository.insertIfAbsent(autoTransferId);
+        try {
+            return autoTransferLockRepository.lockNoWait(autoTransferId).isPresent();
+        } catch (PessimisticLockingFailureException e) {
+            log.info("자동이체 잠금 실패 (다른 요청 처리 중) - 자동이체ID: {}", autoTransferId);
+            return false;
+        }
+    }
+
+    /**
+     * 자동이체에 아직 하나은행에 반영되지 않은 변경이 있는지 확인
+     */
+    @Transactional(readOnly = true)
+    public boolean hasPendingChanges(Long autoTransferId) {
+        return outboxRepository.existsByAutoTransferIdAndStatusIn(autoTransferId,
+                EnumSet.of(AutoTransferOutbox.Status.PENDING, AutoTransferOutbox.Status.IN_PROGRESS));
+    }
+
+    /**
+     * 현재 사용자의 전송 실패(DEAD) 메시지 조회
+     */
+    @Transactional(readOnly = true)
+    public List<AutoTransferOutboxResponse> getDeadLetters(int limit) {
+        String userSeqNo = securityUtil.getCurrentUserSeqNo();
+        int size = Math.max(1, Math.min(limit, MAX_DEAD_LETTER_LIMIT));
+        return outboxRepository.findByUserSeqNoAndStatusOrderByOutboxIdDesc(
+                        userSeqNo, AutoTransferOutbox.Status.DEAD, PageRequest.of(0, size))
+                .stream()
+                .map(AutoTransferOutboxResponse::from)
+                .toList();
+    }
+
+    /**
+     * 전송 실패(DEAD) 메시지 재처리
+     */
+    public AutoTransferOutboxResponse retryDeadLetter(Long outboxId) {
+        String userSeqNo = securityUtil.getCurrentUserSeqNo();
+        AutoTransferOutbox outbox = outboxRepository.findByOutboxIdAndUserSeqNo(outboxId, userSeqNo)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST, "재처리할 자동이체 변경 내역을 찾을 수 없습니다."));
+
+        if (outbox.getStatus() != AutoTransferOutbox.Status.DEAD) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "전송 실패 상태의 내역만 재처리할 수 있습니다.");
+        }
+
+        outbox.requeue();
+        log.info("자동이체 아웃박스 재처리 요청 - outboxId: {}, 작업: {}", outboxId, outbox.getOperation());
+
+        wakeDispatcherAfterCommit();
+        return AutoTransferOutboxResponse.from(outbox);
+    }
+
+    private void wakeDispatcherAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatcher.wakeUp();
+                }
+            });
+        } else {
+            dispatcher.wakeUp();
+        }
+    }
+}
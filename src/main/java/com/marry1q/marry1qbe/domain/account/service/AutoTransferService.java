@@ -5,15 +5,18 @@ import com.marry1q.marry1qbe.domain.account.dto.request.AutoTransferCreateReques
 import com.marry1q.marry1qbe.domain.account.dto.request.AutoTransferUpdateRequest;
 import com.marry1q.marry1qbe.domain.account.dto.response.AutoTransferResponse;
 import com.marry1q.marry1qbe.domain.account.dto.response.ProductPaymentInfoResponse;
+import com.marry1q.marry1qbe.domain.account.entity.AutoTransferOutbox;
 import com.marry1q.marry1qbe.domain.account.service.external.HanaBankAutoTransferApiClient;
 import com.marry1q.marry1qbe.domain.customer.entity.Customer;
 import com.marry1q.marry1qbe.domain.customer.repository.CustomerRepository;
+import com.marry1q.marry1qbe.domain.plan1q.service.HanaBankApiService;
 import com.marry1q.marry1qbe.grobal.exception.CustomException;
 import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
 import com.marry1q.marry1qbe.grobal.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -33,6 +36,8 @@ public class AutoTransferService {
     private final SecurityUtil securityUtil;
     private final CustomerRepository customerRepository;
     private final ObjectMapper objectMapper;
+    private final HanaBankApiService hanaBankApiService;
+    private final AutoTransferOutboxService autoTransferOutboxService;
     
     /**
      * 자동이체 등록
@@ -49,22 +54,7 @@ public class AutoTransferService {
             String userCi = getUserCiFromUserSeqNo(userSeqNo);
             
             // 3. 하나은행 API 요청 데이터 생성
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("userCi", userCi);
-            requestBody.put("fromAccountNumber", request.getFromAccountNumber());
-            requestBody.put("toAccountNumber", request.getToAccountNumber());
-            requestBody.put("toAccountName", request.getToAccountName());
-            requestBody.put("toBankCode", request.getToBankCode());
-            requestBody.put("amount", request.getAmount());
-            requestBody.put("schedule", request.getFrequency());
-            requestBody.put("memo", request.getMemo() != null ? request.getMemo() : "Plan1Q 자동이체");
-            requestBody.put("periodMonths", request.getPeriodMonths());
-            requestBody.put("status", request.getInitialStatus() != null ? request.getInitialStatus() : "ACTIVE");
-            requestBody.put("lastExecutionStatus", request.getInitialStatus() != null ? request.getInitialStatus() : "PENDING");
-            requestBody.put("currentInstallment", request.getCurrentInstallment() != null ? request.getCurrentInstallment() : 1);
-            requestBody.put("remainingInstallments", request.getRemainingInstallments() != null ? request.getRemainingInstallments() : 
-                           (request.getPeriodMonths() != null ? request.getPeriodMonths() - 1 : 11));
-            requestBody.put("lastExecutionDate", request.getLastExecutionDate() != null ? request.getLastExecutionDate().toString() : null);
+            Map<String, Object> requestBody = buildCreateRequestBody(request, userCi);
             
             // 4. 하나은행 API 호출
             Map<String, Object> response = hanaBankAutoTransferApiClient.createAutoTransfer(requestBody);
@@ -85,6 +75,9 @@ public class AutoTransferService {
             
             AutoTransferResponse autoTransferResponse = convertMapToResponse((Map<String, Object>) response);
             
+            // 6. 입금 계좌 수익 정보 캐시 무효화
+            hanaBankApiService.invalidateAccountProfitInfo(request.getToAccountNumber());
+            
             log.info("자동이체 등록 완료 - ID: {}, 다음 이체일: {}", 
                      autoTransferResponse.getAutoTransferId(), autoTransferResponse.getNextTransferDate());
             
@@ -99,6 +92,26 @@ public class AutoTransferService {
         }
     }
     
+    /**
+     * 수동납입 후 자동이체 재등록 예약 (아웃박스)
+     * 
+     * 기존 자동이체 삭제와 회차가 반영된 자동이체 등록을 하나의 메시지로 저장하고,
+     * 커밋된 뒤 디스패처가 하나은행에 순서대로 반영합니다.
+     * 
+     * 납입 이체는 이미 실행되어 되돌릴 수 없으므로 별도 트랜잭션(REQUIRES_NEW)으로 바로 커밋합니다.
+     * 호출 트랜잭션이 롤백되어도 회차 반영은 남고, 여기서 실패해도 호출 트랜잭션은 rollback-only 가 되지 않습니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueReplaceAutoTransfer(Long autoTransferId, AutoTransferCreateRequest request, String idempotencyKey) {
+        String userCi = getUserCiFromUserSeqNo(securityUtil.getCurrentUserSeqNo());
+        
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("create", buildCreateRequestBody(request, userCi));
+        
+        autoTransferOutboxService.enqueue(AutoTransferOutbox.Operation.REPLACE, autoTransferId,
+                request.getToAccountNumber(), payload, idempotencyKey);
+    }
+    
     /**
      * 자동이체 등록 (상태 정보 포함)
      */
@@ -144,6 +157,9 @@ public class AutoTransferService {
             
             AutoTransferResponse autoTransferResponse = convertMapToResponse((Map<String, Object>) response);
             
+            // 6. 입금 계좌 수익 정보 캐시 무효화
+            hanaBankApiService.invalidateAccountProfitInfo(request.getToAccountNumber());
+            
             log.info("자동이체 등록 완료 (상태 포함) - ID: {}, 상태: {}, 실행상태: {}, 다음 이체일: {}", 
                      autoTransferResponse.getAutoTransferId(), status, lastExecutionStatus, 
                      autoTransferResponse.getNextTransferDate());
@@ -278,6 +294,9 @@ public class AutoTransferService {
             
             AutoTransferResponse autoTransferResponse = convertMapToResponse((Map<String, Object>) data);
             
+            // 4. 입금 계좌 수익 정보 캐시 무효화
+            hanaBankApiService.invalidateAccountProfitInfo(request.getToAccountNumber());
+            
             log.info("자동이체 수정 완료 - ID: {}, 다음 이체일: {}", 
                      autoTransferResponse.getAutoTransferId(), autoTransferResponse.getNextTransferDate());
             
@@ -357,6 +376,29 @@ public class AutoTransferService {
         }
     }
     
+    /**
+     * 하나은행 자동이체 등록 요청 데이터 생성
+     */
+    private Map<String, Object> buildCreateRequestBody(AutoTransferCreateRequest request, String userCi) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("userCi", userCi);
+        requestBody.put("fromAccountNumber", request.getFromAccountNumber());
+        requestBody.put("toAccountNumber", request.getToAccountNumber());
+        requestBody.put("toAccountName", request.getToAccountName());
+        requestBody.put("toBankCode", request.getToBankCode());
+        requestBody.put("amount", request.getAmount());
+        requestBody.put("schedule", request.getFrequency());
+        requestBody.put("memo", request.getMemo() != null ? request.getMemo() : "Plan1Q 자동이체");
+        requestBody.put("periodMonths", request.getPeriodMonths());
+        requestBody.put("status", request.getInitialStatus() != null ? request.getInitialStatus() : "ACTIVE");
+        requestBody.put("lastExecutionStatus", request.getInitialStatus() != null ? request.getInitialStatus() : "PENDING");
+        requestBody.put("currentInstallment", request.getCurrentInstallment() != null ? request.getCurrentInstallment() : 1);
+        requestBody.put("remainingInstallments", request.getRemainingInstallments() != null ? request.getRemainingInstallments() : 
+                       (request.getPeriodMonths() != null ? request.getPeriodMonths() - 1 : 11));
+        requestBody.put("lastExecutionDate", request.getLastExecutionDate() != null ? request.getLastExecutionDate().toString() : null);
+        return requestBody;
+    }
+    
     /**
      * userSeqNo를 userCi로 변환
      */
@@ -4,12 +4,11 @@ import com.marry1q.marry1qbe.domain.account.dto.request.DepositRequest;
 import com.marry1q.marry1qbe.domain.account.dto.response.DepositResponse;
 import com.marry1q.marry1qbe.domain.account.entity.Account;
 import com.marry1q.marry1qbe.domain.account.entity.CoupleAccountTransaction;
+import com.marry1q.marry1qbe.domain.account.entity.TransferLedger;
 import com.marry1q.marry1qbe.domain.account.exception.DepositTransferException;
 import com.marry1q.marry1qbe.domain.account.exception.WithdrawTransferException;
-import com.marry1q.marry1qbe.domain.account.repository.AccountRepository;
 import com.marry1q.marry1qbe.domain.account.repository.CoupleAccountTransactionRepository;
 import com.marry1q.marry1qbe.grobal.openBankingToken.OpenBankingTokenService;
-import com.marry1q.marry1qbe.grobal.util.BankTranIdGenerator;
 import com.marry1q.marry1qbe.grobal.util.SecurityUtil;
 import com.marry1q.marry1qbe.grobal.dto.ExternalApiResponse;
 import com.marry1q.marry1qbe.domain.account.service.external.AuthBackendApiService;
@@ -32,7 +31,7 @@ import java.util.Map;
  * 처리 흐름: 출금이체 → 입금이체 순차 처리 (원자성 보장)
  * 
  * 주요 특징:
- * - 낙관적 락을 통한 동시성 제어
+ * - 모임통장별 순차 처리를 통한 동시성 제어
  * - 출금이체와 입금이체의 순차 처리로 원자성 보장
  * - 실패 시 자동 롤백
  * - 상세한 로깅 및 모니터링
@@ -43,23 +42,43 @@ import java.util.Map;
 public class DepositService {
 
     private final CoupleAccountTransactionRepository transactionRepository;
-    private final AccountRepository accountRepository;
     private final OpenBankingTokenService openBankingTokenService;
     private final AuthBackendApiService authBackendApiService;
     private final SecurityUtil securityUtil;
     private final CustomerService customerService;
     private final TransferService transferService;
+    private final TransferLedgerService transferLedgerService;
     
     /**
-     * 채우기 처리 - 출금이체 → 입금이체 순차 처리 (낙관적 락 적용)
+     * 채우기 처리 - 출금이체 → 입금이체 순차 처리 (모임통장별 순차 실행)
      * 
      * @param request 채우기 요청 정보 (출금할 계좌 정보, 금액, 설명 등)
      * @return 채우기 처리 결과 (거래ID, 잔액, 상태 등)
      */
     @Transactional
     public DepositResponse processDeposit(DepositRequest request) {
-        return transferService.processWithOptimisticLock(
-            () -> processDepositInternal(request), 3);
+        return processDeposit(request, null);
+    }
+    
+    /**
+     * 채우기 처리 (멱등성 키 포함)
+     * 
+     * 같은 키로 다시 요청하면 이체 원장에 저장된 결과를 돌려주고 auth-backend를 다시 호출하지 않습니다.
+     * 
+     * @param request 채우기 요청 정보
+     * @param idempotencyKey 클라이언트 멱등성 키 (없으면 매 요청을 새 거래로 처리)
+     * @return 채우기 처리 결과 (재요청이면 최초 처리 결과)
+     */
+    @Transactional
+    public DepositResponse processDeposit(DepositRequest request, String idempotencyKey) {
+        String coupleAccountNumber = customerService.getCurrentUserCoupleAccountNumber();
+        String userSeqNo = securityUtil.getCurrentUserSeqNo();
+        String requestFingerprint = TransferLedgerService.fingerprint(request.getWithdrawBankCode(), request.getWithdrawAccountNumber(), request.getAmount());
+        
+        return transferService.processSequentially(coupleAccountNumber, () ->
+            transferLedgerService.findReplay(userSeqNo, idempotencyKey, TransferLedger.TransferType.DEPOSIT,
+                    requestFingerprint, DepositResponse.class)
+                .orElseGet(() -> processDepositInternal(request, idempotencyKey, requestFingerprint)));
     }
     
     /**
@@ -74,9 +93,11 @@ public class DepositService {
      * 6. 응답 생성 및 잔액 업데이트
      * 
      * @param request 채우기 요청 정보
+     * @param idempotencyKey 클라이언트 멱등성 키
+     * @param requestFingerprint 요청 내용 지문 (이체 원장 저장용)
      * @return 채우기 처리 결과
      */
-    private DepositResponse processDepositInternal(DepositRequest request) {
+    private DepositResponse processDepositInternal(DepositRequest request, String idempotencyKey, String requestFingerprint) {
         long startTime = System.currentTimeMillis();
         log.info("입금이체 처리 시작 - 출금계좌번호: {}, 출금은행: {}, 금액: {}", 
                  request.getWithdrawAccountNumber(), request.getWithdrawBankCode(), request.getAmount());
@@ -88,17 +109,24 @@ public class DepositService {
         // 2. 모임통장 정보 조회 (현재 로그인한 사용자의 모임통장)
         String coupleAccountNumber = customerService.getCurrentUserCoupleAccountNumber();  // 모임통장 계좌번호
         String userSeqNo = securityUtil.getCurrentUserSeqNo();  // 사용자 시퀀스 번호
-        String bankTranId = BankTranIdGenerator.generateBankTranId();  // 거래 고유 ID
+        
+        // 이체 원장 기록 (거래 고유 ID 발급, 출금/입금 단계별 결과 추적)
+        TransferLedger ledger = transferLedgerService.begin(TransferLedger.TransferType.DEPOSIT, idempotencyKey, userSeqNo,
+            coupleAccountNumber, request.getWithdrawAccountNumber(), request.getAmount(), requestFingerprint);
+        String bankTranId = ledger.getBankTranId();  // 거래 고유 ID
         
         try {
             // 3. 개인계좌에서 출금이체 (개인계좌 → 외부 시스템)
             processWithdrawTransfer(request, userSeqNo, bankTranId, token);
+            transferLedgerService.markLegSucceeded(ledger.getLedgerId(), TransferLedger.Leg.WITHDRAW);
             
             // 4. 모임통장으로 입금이체 (외부 시스템 → 모임통장)
             processDepositTransfer(request, coupleAccountNumber, bankTranId, token);
+            transferLedgerService.markLegSucceeded(ledger.getLedgerId(), TransferLedger.Leg.DEPOSIT);
             
             // 5. 응답 생성 및 잔액 업데이트 (거래내역은 동기화로 처리)
             DepositResponse response = createDepositResponseWithoutTransaction(request, coupleAccountNumber, bankTranId);
+            transferLedgerService.complete(ledger.getLedgerId(), response);
             
             // 7. 성공 로그 및 모니터링
             long endTime = System.currentTimeMillis();
@@ -110,16 +138,20 @@ public class DepositService {
             return response;
             
         } catch (WithdrawTransferException | DepositTransferException e) {
-            // 트랜잭션 롤백 (Spring의 @Transactional이 자동 처리)
+            // 트랜잭션 롤백 (Spring의 @Transactional이 자동 처리, 이체 원장은 별도 커밋)
+            // 결과를 알 수 없는 실패는 재요청하지 않도록 거래번호 안내 예외로 바꿔 던짐
+            RuntimeException failure = transferLedgerService.fail(ledger.getLedgerId(), e, e);
             long endTime = System.currentTimeMillis();
             long processingTime = endTime - startTime;
             log.error("입금이체 처리 실패 - 처리시간: {}ms, 오류: {}", processingTime, e.getMessage(), e);
-            throw e;
+            throw failure;
         } catch (Exception e) {
+            RuntimeException failure = transferLedgerService.fail(ledger.getLedgerId(), e,
+                    new RuntimeException("입금이체 처리 중 예상치 못한 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
             long endTime = System.currentTimeMillis();
             long processingTime = endTime - startTime;
             log.error("입금이체 처리 중 예상치 못한 오류 발생 - 처리시간: {}ms, 오류: {}", processingTime, e.getMessage(), e);
-            throw new RuntimeException("입금이체 처리 중 예상치 못한 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+            throw failure;
         }
     }
     
@@ -214,9 +246,8 @@ public class DepositService {
      * @return 채우기 응답 DTO
      */
     private DepositResponse createDepositResponseWithoutTransaction(DepositRequest request, String coupleAccountNumber, String bankTranId) {
-        // 실제 계좌 조회
-        Account account = accountRepository.findByAccountNumber(coupleAccountNumber)
-            .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다: " + coupleAccountNumber));
+        // 모임통장 조회 (요청 내 조회 결과 재사용)
+        Account account = customerService.getCurrentUserCoupleAccount();
         
         // 실시간 잔액 조회
         BigDecimal currentBalance;
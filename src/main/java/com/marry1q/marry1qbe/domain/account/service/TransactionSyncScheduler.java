@@ -0,0 +1,212 @@
+package com.marry1q.marry1qbe.domain.account.service;
+
+import com.marry1q.marry1qbe.domain.account.dto.response.TransactionSyncResponse;
+import com.marry1q.marry1qbe.domain.account.entity.Account;
+import com.marry1q.marry1qbe.domain.account.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모임통장 거래내역 백그라운드 동기화
+ * 
+ * 주기적으로 last_synced_at이 오래된 모임통장을 찾아 크기가 제한된 워커 풀에서 동기화합니다.
+ * 계좌마다 고정된 지연(jitter)을 더해 동기화 시점이 한꺼번에 몰리지 않게 합니다.
+ * 워커 큐가 가득 차면 남은 계좌는 다음 주기로 넘깁니다.
+ * 
+ * 여러 서버가 같은 계좌를 동시에 동기화하지 않도록 등록 전에 account.sync_claimed_until 을
+ * 조건부 UPDATE 로 선점하고(claim-ms 동안 유효), 동기화가 끝나면 해제합니다.
+ * 선점한 서버가 종료되면 claim-ms 가 지난 뒤 다른 서버가 가져갑니다.
+ */
+@Slf4j
+@Component
+public class TransactionSyncScheduler implements DisposableBean {
+    
+    private final AccountRepository accountRepository;
+    private final AccountService accountService;
+    private final boolean enabled;
+    private final long syncIntervalSeconds;
+    private final long jitterSeconds;
+    private final long claimMs;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor workers;
+    private final Set<Long> inFlightAccountIds = ConcurrentHashMap.newKeySet();
+    private final Counter syncSuccess;
+    private final Counter syncFailure;
+    
+    public TransactionSyncScheduler(AccountRepository accountRepository,
+                                    AccountService accountService,
+                                    @Value("${account.transaction-sync.background.enabled:true}") boolean enabled,
+                                    @Value("${account.transaction-sync.background.interval-seconds:300}") long syncIntervalSeconds,
+                                    @Value("${account.transaction-sync.background.jitter-seconds:60}") long jitterSeconds,
+                                    @Value("${account.transaction-sync.background.workers:4}") int workerCount,
+                                    @Value("${account.transaction-sync.background.queue-capacity:100}") int queueCapacity,
+                                    @Value("${account.transaction-sync.background.claim-ms:600000}") long claimMs,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.accountService = accountService;
+        this.enabled = enabled;
+        this.syncIntervalSeconds = syncIntervalSeconds;
+        this.jitterSeconds = jitterSeconds;
+        this.claimMs = claimMs;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                workerCount, workerCount,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "txn-sync-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.workers.allowCoreThreadTimeOut(true);
+        
+        this.syncSuccess = Counter.builder("account.transaction.sync.background")
+                .tag("result", "success")
+                .description("백그라운드 거래내역 동기화 수")
+                .register(meterRegistry);
+        this.syncFailure = Counter.builder("account.transaction.sync.background")
+                .tag("result", "failure")
+                .description("백그라운드 거래내역 동기화 수")
+                .register(meterRegistry);
+        Gauge.builder("account.transaction.sync.background.in.flight", inFlightAccountIds, Set::size)
+                .description("동기화 대기/진행 중인 모임통장 수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 동기화 대상 모임통장 검색 및 워커 등록
+     */
+    @Scheduled(fixedDelayString = "${account.transaction-sync.background.scan-interval-ms:30000}",
+               initialDelayString = "${account.transaction-sync.background.initial-delay-ms:60000}")
+    public void syncStaleAccounts() {
+        if (!enabled) {
+            return;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<Account> candidates;
+        try {
+            candidates = accountRepository.findCoupleAccountsSyncedBefore(now.minusSeconds(syncIntervalSeconds));
+        } catch (Exception e) {
+            log.error("백그라운드 동기화 대상 조회 실패: {}", e.getMessage(), e);
+            return;
+        }
+        
+        int submitted = 0;
+        for (Account account : candidates) {
+            Long accountId = account.getAccountId();
+            if (!isDue(account, now) || !inFlightAccountIds.add(accountId)) {
+                continue;
+            }
+            
+            LocalDateTime claimedUntil = claim(accountId);
+            if (claimedUntil == null) {
+                // 다른 서버가 동기화 중
+                inFlightAccountIds.remove(accountId);
+                continue;
+            }
+            
+            try {
+                workers.execute(() -> syncAccount(accountId, claimedUntil));
+                submitted++;
+            } catch (RejectedExecutionException e) {
+                release(accountId, claimedUntil);
+                inFlightAccountIds.remove(accountId);
+                log.warn("백그라운드 동기화 큐가 가득 차 다음 주기로 연기 - 남은 대상: {}건", candidates.size() - submitted);
+                break;
+            }
+        }
+        
+        if (submitted > 0) {
+            log.info("백그라운드 거래내역 동기화 등록 - 대상: {}건, 등록: {}건", candidates.size(), submitted);
+        }
+    }
+    
+    private void syncAccount(Long accountId, LocalDateTime claimedUntil) {
+        try {
+            TransactionSyncResponse result = accountService.syncTransactions(accountId);
+            syncSuccess.increment();
+            log.debug("백그라운드 거래내역 동기화 완료 - accountId: {}, 저장: {}건, 중복: {}건, 건너뜀: {}건, 실패: {}건", 
+                    accountId, result.getIngestedCount(), result.getDuplicateCount(), result.getSkippedCount(), result.getFailedCount());
+        } catch (Exception e) {
+            syncFailure.increment();
+            log.warn("백그라운드 거래내역 동기화 실패 - accountId: {}, 오류: {}", accountId, e.getMessage());
+        } finally {
+            release(accountId, claimedUntil);
+            inFlightAccountIds.remove(accountId);
+        }
+    }
+    
+    /**
+     * 계좌 동기화 선점 (조건부 UPDATE, 즉시 커밋)
+     * 
+     * @return 선점 만료 시각 (해제 시 내 선점인지 확인하는 값), 다른 서버가 선점 중이거나 실패하면 null
+     */
+    private LocalDateTime claim(Long accountId) {
+        LocalDateTime now = LocalDateTime.now();
+        // DATETIME(6) 저장 시 반올림되지 않도록 밀리초 단위로 맞춤 (해제 조건이 같은 값과 비교)
+        LocalDateTime claimedUntil = now.plus(claimMs, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MILLIS);
+        try {
+            Integer claimed = transactionTemplate.execute(status -> accountRepository.claimSync(accountId, claimedUntil, now));
+            return claimed != null && claimed == 1 ? claimedUntil : null;
+        } catch (Exception e) {
+            log.warn("백그라운드 동기화 선점 실패 - accountId: {}, 오류: {}", accountId, e.getMessage());
+            return null;
+        }
+    }
+    
+    private void release(Long accountId, LocalDateTime claimedUntil) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> accountRepository.releaseSyncClaim(accountId, claimedUntil));
+        } catch (Exception e) {
+            // 해제하지 못한 선점은 claim-ms 가 지나면 만료됨
+            log.warn("백그라운드 동기화 선점 해제 실패 - accountId: {}, 오류: {}", accountId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 동기화 시점 도래 여부 (마지막 동기화 + 주기 + 계좌별 jitter)
+     */
+    private boolean isDue(Account account, LocalDateTime now) {
+        LocalDateTime lastSyncedAt = account.getLastSyncedAt();
+        if (lastSyncedAt == null) {
+            return true;
+        }
+        return !lastSyncedAt.plusSeconds(syncIntervalSeconds + jitterFor(account.getAccountId())).isAfter(now);
+    }
+    
+    private long jitterFor(Long accountId) {
+        if (jitterSeconds <= 0) {
+            return 0;
+        }
+        return Math.floorMod(accountId.hashCode() * 0x9E3779B9, jitterSeconds + 1);
+    }
+    
+    @Override
+    public void destroy() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,298 @@
+package com.marry1q.marry1qbe.domain.account.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marry1q.marry1qbe.domain.account.entity.TransferLedger;
+import com.marry1q.marry1qbe.domain.account.exception.DepositTransferException;
+import com.marry1q.marry1qbe.domain.account.exception.TransferIdempotencyException;
+import com.marry1q.marry1qbe.domain.account.exception.WithdrawTransferException;
+import com.marry1q.marry1qbe.domain.account.repository.TransferLedgerRepository;
+import com.marry1q.marry1qbe.grobal.exception.ExternalApiException;
+import com.marry1q.marry1qbe.grobal.util.BankTranIdGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 이체 원장 서비스
+ *
+ * 원장 기록은 호출 트랜잭션과 별도(REQUIRES_NEW)로 바로 커밋합니다.
+ * 이체가 실패해 바깥 트랜잭션이 롤백되어도 외부에서 이미 실행된 출금/입금 결과는 남아야 하기 때문입니다.
+ *
+ * 업스트림이 거절한 경우에만 실패(FAILED)로 남기고, 타임아웃 등 실행 여부를 알 수 없는 경우와
+ * 처리 중 서버 종료로 in-progress-timeout-ms 동안 끝나지 않은 이체는 확인 필요(NEEDS_REVIEW)로 남깁니다.
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.REQUIRES_NEW)
+public class TransferLedgerService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int EXPIRE_BATCH_SIZE = 100;
+    private static final String STALE_MESSAGE = "처리 중 서버 종료 등으로 이체 결과를 확인하지 못했습니다.";
+
+    private final TransferLedgerRepository transferLedgerRepository;
+    private final ObjectMapper objectMapper;
+    private final Counter replayed;
+    private final Counter needsReview;
+    private final long inProgressTimeoutMs;
+
+    public TransferLedgerService(TransferLedgerRepository transferLedgerRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${account.transfer-ledger.in-progress-timeout-ms:600000}") long inProgressTimeoutMs,
+                                 MeterRegistry meterRegistry) {
+        this.transferLedgerRepository = transferLedgerRepository;
+        this.objectMapper = objectMapper;
+        this.inProgressTimeoutMs = inProgressTimeoutMs;
+        this.replayed = Counter.builder("account.transfer.ledger.replayed")
+                .description("멱등성 키 재요청으로 저장된 결과를 돌려준 이체 수")
+                .register(meterRegistry);
+        this.needsReview = Counter.builder("account.transfer.ledger.needs.review")
+                .description("출금 결과 불명, 출금 성공 후 입금 실패 등 결과 확인이 필요한 이체 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전 요청 결과 조회
+     *
+     * 완료된 요청이면 저장된 응답을, 실패/확인 필요 요청이면 해당 단계의 예외를 돌려줍니다. 처음 보는 키면 비어 있습니다.
+     * 처리 중 상태로 in-progress-timeout-ms 가 지난 요청은 확인 필요로 정리한 뒤 돌려줍니다.
+     *
+     * @throws TransferIdempotencyException 같은 키로 다른 내용을 요청했거나, 이전 요청이 아직 처리 중인 경우
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW,
+            noRollbackFor = {WithdrawTransferException.class, DepositTransferException.class, TransferIdempotencyException.class})
+    public <T> Optional<T> findReplay(String userSeqNo, String idempotencyKey, TransferLedger.TransferType transferType,
+                                      String requestFingerprint, Class<T> responseType) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+
+        Optional<TransferLedger> found = transferLedgerRepository.findByUserSeqNoAndIdempotencyKey(userSeqNo, idempotencyKey);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+
+        TransferLedger ledger = found.get();
+        if (ledger.getTransferType() != transferType || !ledger.getRequestFingerprint().equals(requestFingerprint)) {
+            throw new TransferIdempotencyException("같은 요청 키로 다른 거래를 요청할 수 없습니다.");
+        }
+
+        log.info("이체 재요청 감지 - 키: {}, bankTranId: {}, 상태: {}", idempotencyKey, ledger.getBankTranId(), ledger.getStatus());
+
+        if (ledger.getStatus() == TransferLedger.Status.IN_PROGRESS && isStale(ledger)) {
+            expire(ledger);
+            // 만료는 조건부 UPDATE 라 내가 정리했든 다른 서버가 정리했든 현재 상태를 다시 읽음
+            ledger = transferLedgerRepository.findById(ledger.getLedgerId()).orElse(ledger);
+        }
+
+        switch (ledger.getStatus()) {
+            case COMPLETED -> {
+                replayed.increment();
+                return Optional.of(readResponse(ledger, responseType));
+            }
+            case FAILED -> {
+                replayed.increment();
+                throw failedLegException(ledger, ledger.getErrorMessage());
+            }
+            case NEEDS_REVIEW -> throw reviewRequiredException(ledger);
+            default -> throw new TransferIdempotencyException("이전 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 이체 시작 기록 (bankTranId 발급)
+     */
+    public TransferLedger begin(TransferLedger.TransferType transferType, String idempotencyKey, String userSeqNo,
+                                String accountNumber, String counterpartAccountNumber, BigDecimal amount,
+                                String requestFingerprint) {
+        try {
+            return transferLedgerRepository.saveAndFlush(TransferLedger.builder()
+                    .transferType(transferType)
+                    .idempotencyKey(idempotencyKey)
+                    .userSeqNo(userSeqNo)
+                    .bankTranId(BankTranIdGenerator.generateBankTranId())
+                    .accountNumber(accountNumber)
+                    .counterpartAccountNumber(counterpartAccountNumber)
+                    .amount(amount)
+                    .requestFingerprint(requestFingerprint)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("이체 원장 중복 - 키: {}, 오류: {}", idempotencyKey, e.getMessage());
+            throw new TransferIdempotencyException("이전 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 출금/입금 단계 성공 기록
+     */
+    public void markLegSucceeded(Long ledgerId, TransferLedger.Leg leg) {
+        transferLedgerRepository.findById(ledgerId).ifPresent(ledger -> ledger.markLegSucceeded(leg));
+    }
+
+    /**
+     * 이체 완료 기록
+     */
+    public void complete(Long ledgerId, Object response) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            // 응답 저장에 실패해도 이체는 완료 상태로 남김 (재요청 시 원장만으로 재실행되지 않음)
+            log.error("이체 응답 저장 실패 - ledgerId: {}, 오류: {}", ledgerId, e.getMessage());
+            payload = null;
+        }
+        String responsePayload = payload;
+        transferLedgerRepository.findById(ledgerId).ifPresent(ledger -> ledger.complete(responsePayload));
+    }
+
+    /**
+     * 이체 실패 기록
+     *
+     * 업스트림 거절이 아닌 오류(타임아웃 등)는 실행 여부를 알 수 없으므로 확인 필요로 남기고,
+     * 새 키로 다시 요청하지 않도록 거래번호를 안내하는 예외를 돌려줍니다.
+     *
+     * @param cause 이체 중 발생한 예외 (원인 체인에서 업스트림 거절 여부 확인)
+     * @param failure 업스트림이 거절한 경우 호출자에게 그대로 던질 예외
+     * @return 호출자가 던질 예외
+     */
+    public RuntimeException fail(Long ledgerId, Exception cause, RuntimeException failure) {
+        String errorMessage = cause.getMessage();
+        String message = errorMessage != null && errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH) : errorMessage;
+        boolean rejected = isRejectedByUpstream(cause);
+
+        Optional<TransferLedger> found = transferLedgerRepository.findById(ledgerId);
+        if (found.isEmpty()) {
+            return failure;
+        }
+        TransferLedger ledger = found.get();
+        ledger.fail(message, rejected);
+        if (ledger.getStatus() != TransferLedger.Status.NEEDS_REVIEW) {
+            return failure;
+        }
+
+        needsReview.increment();
+        log.error("이체 결과 확인 필요 - ledgerId: {}, bankTranId: {}, 출금: {}, 입금: {}, 오류: {}",
+                ledgerId, ledger.getBankTranId(), ledger.getWithdrawLegStatus(), ledger.getDepositLegStatus(), message);
+        return reviewRequiredException(ledger);
+    }
+
+    /**
+     * 처리 중 상태로 끝나지 않은 이체 정리 (서버 종료 등)
+     *
+     * 같은 키의 재요청이 없어도 확인 필요 이체가 메트릭/로그에 드러나도록 주기적으로 정리합니다.
+     * 모든 서버에서 실행되지만 조건부 UPDATE 로 한 서버만 정리하고 집계합니다.
+     */
+    @Scheduled(fixedDelayString = "${account.transfer-ledger.expire-interval-ms:60000}")
+    public void expireStaleInProgress() {
+        LocalDateTime updatedBefore = LocalDateTime.now().minusNanos(inProgressTimeoutMs * 1_000_000L);
+        List<TransferLedger> stale = transferLedgerRepository.findByStatusAndUpdatedAtBefore(
+                TransferLedger.Status.IN_PROGRESS, updatedBefore, PageRequest.of(0, EXPIRE_BATCH_SIZE));
+        stale.forEach(this::expire);
+    }
+
+    /**
+     * 요청 내용 지문 (같은 멱등성 키로 다른 내용을 보냈는지 확인)
+     */
+    public static String fingerprint(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part instanceof BigDecimal decimal ? decimal.stripTrailingZeros().toPlainString() : part)
+                    .append('|');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private boolean isStale(TransferLedger ledger) {
+        return ledger.getUpdatedAt() != null
+                && ledger.getUpdatedAt().isBefore(LocalDateTime.now().minusNanos(inProgressTimeoutMs * 1_000_000L));
+    }
+
+    /**
+     * 처리 중 이체를 확인 필요로 정리 (읽은 상태 그대로일 때만, 정리한 서버에서만 집계)
+     *
+     * @return 이 호출에서 정리했는지 여부
+     */
+    private boolean expire(TransferLedger ledger) {
+        int updated = transferLedgerRepository.expireInProgress(ledger.getLedgerId(),
+                TransferLedger.Status.IN_PROGRESS, TransferLedger.Status.NEEDS_REVIEW,
+                ledger.getWithdrawLegStatus(), ledger.getDepositLegStatus(),
+                ledger.expiredWithdrawLegStatus(), ledger.expiredDepositLegStatus(),
+                STALE_MESSAGE, LocalDateTime.now());
+        if (updated != 1) {
+            log.debug("처리 중 이체 만료 생략 (이미 정리되었거나 진행됨) - ledgerId: {}", ledger.getLedgerId());
+            return false;
+        }
+        needsReview.increment();
+        log.error("처리 중 이체 만료 - 결과 확인 필요 - ledgerId: {}, bankTranId: {}, 출금: {}, 입금: {}",
+                ledger.getLedgerId(), ledger.getBankTranId(), ledger.expiredWithdrawLegStatus(), ledger.expiredDepositLegStatus());
+        return true;
+    }
+
+    /**
+     * 업스트림 거절 여부 (원인 체인에 거절 응답이 있는 경우만, 타임아웃/연결 오류/5xx 는 결과 불명)
+     */
+    private static boolean isRejectedByUpstream(Throwable cause) {
+        for (Throwable current = cause; current != null; current = current.getCause()) {
+            if (current instanceof ExternalApiException externalApiException) {
+                return externalApiException.isRejectedByUpstream();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 실패한 단계에 맞는 예외
+     */
+    private static RuntimeException failedLegException(TransferLedger ledger, String message) {
+        return ledger.isWithdrawLegUnresolved()
+                ? new WithdrawTransferException(message)
+                : new DepositTransferException(message);
+    }
+
+    /**
+     * 확인 필요 안내 예외 (새 키로 다시 요청하면 이중 이체가 될 수 있음)
+     */
+    private static RuntimeException reviewRequiredException(TransferLedger ledger) {
+        String message = ledger.isWithdrawLegUnresolved()
+                ? "출금 처리 결과를 확인하지 못했습니다. 거래내역을 확인하기 전에는 다시 요청하지 마세요. (거래번호: " + ledger.getBankTranId() + ")"
+                : "출금은 완료되었지만 입금 결과 확인이 필요합니다. 고객센터에 문의해주세요. (거래번호: " + ledger.getBankTranId() + ")";
+        return failedLegException(ledger, message);
+    }
+
+    private <T> T readResponse(TransferLedger ledger, Class<T> responseType) {
+        if (ledger.getResponsePayload() == null) {
+            throw new TransferIdempotencyException(
+                    "이전 요청은 완료되었지만 결과를 불러올 수 없습니다. 거래내역을 확인해주세요. (거래번호: " + ledger.getBankTranId() + ")");
+        }
+        try {
+            return objectMapper.readValue(ledger.getResponsePayload(), responseType);
+        } catch (JsonProcessingException e) {
+            log.error("이체 응답 복원 실패 - ledgerId: {}, 오류: {}", ledger.getLedgerId(), e.getMessage());
+            throw new TransferIdempotencyException(
+                    "이전 요청은 완료되었지만 결과를 불러올 수 없습니다. 거래내역을 확인해주세요. (거래번호: " + ledger.getBankTranId() + ")");
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.marry1q.marry1qbe.domain.account.service;
+
+import com.marry1q.marry1qbe.domain.account.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌별 이체 순차 실행기
+ *
+ * 같은 모임통장의 이체(채우기/보내기)를 서버 안에서는 계좌번호별 공정(FIFO) 락으로 한 건씩 실행하고,
+ * 여러 서버 사이에서는 account_transfer_lock 행 잠금(SELECT ... FOR UPDATE)으로 직렬화합니다.
+ * 행 잠금은 호출 트랜잭션과 별도의 전용 커넥션에서 잡기 때문에 계좌/원장 행은 잠그지 않고,
+ * 다른 서버의 대기 요청은 폴링/sleep 없이 DB 잠금 대기로 차례를 기다립니다 (남은 max-wait-ms 만큼,
+ * innodb_lock_wait_timeout 은 초 단위라 최대 1초 올림). 서버가 종료되면 커넥션이 끊기면서 잠금도 풀립니다.
+ * 이미 실행한 외부 이체는 재시도하지 않습니다.
+ *
+ * 락과 잠금 커넥션은 호출 트랜잭션이 끝난 뒤(afterCompletion) DB 잠금 → 서버 내 락 순서로 풀어서
+ * 다음 이체가 커밋 전 상태를 보지 않게 하고, 계좌별 대기열이 max-queue-depth 를 넘거나
+ * max-wait-ms 안에 차례가 오지 않으면 바로 실패합니다.
+ */
+@Slf4j
+@Component
+public class TransferSequencer {
+
+    private static final String BUSY_MESSAGE = "다른 거래가 진행 중입니다. 잠시 후 다시 시도해주세요.";
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+    private static final String INSERT_LOCK_ROW_SQL =
+            "INSERT IGNORE INTO account_transfer_lock (account_number) VALUES (?)";
+    private static final String LOCK_ROW_SQL =
+            "SELECT account_number FROM account_transfer_lock WHERE account_number = ? FOR UPDATE";
+
+    private final AccountRepository accountRepository;
+    private final DataSource dataSource;
+    private final long maxWaitMs;
+    private final int maxQueueDepth;
+    private final boolean dbLockEnabled;
+    private final ConcurrentMap<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Counter queueFull;
+    private final Counter waitTimeout;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public TransferSequencer(AccountRepository accountRepository,
+                             DataSource dataSource,
+                             @Value("${account.transfer-sequencer.max-wait-ms:10000}") long maxWaitMs,
+                             @Value("${account.transfer-sequencer.max-queue-depth:10}") int maxQueueDepth,
+                             @Value("${account.transfer-sequencer.db-lock-enabled:true}") boolean dbLockEnabled,
+                             MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.dataSource = dataSource;
+        this.maxWaitMs = maxWaitMs;
+        this.maxQueueDepth = maxQueueDepth;
+        this.dbLockEnabled = dbLockEnabled;
+
+        this.waitTimer = Timer.builder("account.transfer.sequencer.wait")
+                .description("계좌별 이체 차례를 기다린 시간 (서버 내 대기 + 다른 서버 이체 대기)")
+                .register(meterRegistry);
+        this.queueFull = Counter.builder("account.transfer.sequencer.rejected")
+                .tag("reason", "queue-full")
+                .description("대기열 초과/대기 시간 초과로 거절된 이체 수")
+                .register(meterRegistry);
+        this.waitTimeout = Counter.builder("account.transfer.sequencer.rejected")
+                .tag("reason", "timeout")
+                .description("대기열 초과/대기 시간 초과로 거절된 이체 수")
+                .register(meterRegistry);
+        Gauge.builder("account.transfer.sequencer.queued", waiting, AtomicInteger::get)
+                .description("차례를 기다리는 이체 수")
+                .register(meterRegistry);
+        Gauge.builder("account.transfer.sequencer.running", running, AtomicInteger::get)
+                .description("실행 중인 이체 수")
+                .register(meterRegistry);
+        Gauge.builder("account.transfer.sequencer.accounts", lanes, ConcurrentMap::size)
+                .description("이체가 대기/실행 중인 계좌 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 계좌번호 단위로 순차 실행
+     *
+     * 트랜잭션 안에서 호출하면 락/DB 잠금은 트랜잭션이 커밋 또는 롤백된 뒤 풀립니다.
+     */
+    public <T> T execute(String accountNumber, Supplier<T> transfer) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        Lane lane = joinLane(accountNumber);
+        boolean acquired = false;
+        Connection lockConnection = null;
+        boolean releaseDeferred = false;
+        try {
+            if (lane.users.get() > maxQueueDepth) {
+                queueFull.increment();
+                log.warn("계좌 이체 대기열 초과 - 계좌번호: {}, 대기/실행: {}건", accountNumber, lane.users.get());
+                throw new RuntimeException(BUSY_MESSAGE);
+            }
+
+            waiting.incrementAndGet();
+            try {
+                acquire(lane, accountNumber);
+                acquired = true;
+                running.incrementAndGet();
+                lockConnection = lockAccountRow(accountNumber, deadlineNanos);
+            } finally {
+                waiting.decrementAndGet();
+                waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+
+            releaseDeferred = releaseAfterCompletion(accountNumber, lane, lockConnection);
+            refreshAccount(accountNumber);
+            return transfer.get();
+        } finally {
+            if (!releaseDeferred) {
+                release(accountNumber, lane, acquired, lockConnection);
+            }
+        }
+    }
+
+    private void acquire(Lane lane, String accountNumber) {
+        boolean acquired;
+        try {
+            acquired = lane.lock.tryLock(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("거래가 중단되었습니다. 다시 시도해주세요.");
+        }
+
+        if (!acquired) {
+            waitTimeout.increment();
+            log.warn("계좌 이체 대기 시간 초과 - 계좌번호: {}, 대기 제한: {}ms", accountNumber, maxWaitMs);
+            throw new RuntimeException(BUSY_MESSAGE);
+        }
+    }
+
+    /**
+     * 다른 서버의 같은 계좌 이체와 직렬화 (전용 커넥션에서 잠금 행을 FOR UPDATE 로 잠금)
+     *
+     * 다른 서버가 잠금을 들고 있으면 남은 대기 시간 동안 DB 에서 기다립니다.
+     *
+     * @return 잠금을 들고 있는 커넥션 (DB 직렬화를 쓰지 않으면 null)
+     */
+    private Connection lockAccountRow(String accountNumber, long deadlineNanos) {
+        if (!dbLockEnabled) {
+            return null;
+        }
+
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_LOCK_ROW_SQL)) {
+                insert.setString(1, accountNumber);
+                insert.executeUpdate();
+            }
+
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remainingMs <= 0) {
+                throw lockWaitTimeout(accountNumber);
+            }
+            connection.setAutoCommit(false);
+            setLockWaitTimeout(connection, String.valueOf(Math.max(1, (remainingMs + 999) / 1000)));
+            try (PreparedStatement lock = connection.prepareStatement(LOCK_ROW_SQL)) {
+                lock.setString(1, accountNumber);
+                lock.executeQuery().close();
+            }
+            setLockWaitTimeout(connection, "DEFAULT");
+            return connection;
+        } catch (SQLException e) {
+            closeLockConnection(accountNumber, connection);
+            if (e.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT) {
+                throw lockWaitTimeout(accountNumber);
+            }
+            throw new IllegalStateException("계좌 이체 잠금 획득에 실패했습니다.", e);
+        } catch (RuntimeException e) {
+            closeLockConnection(accountNumber, connection);
+            throw e;
+        }
+    }
+
+    private RuntimeException lockWaitTimeout(String accountNumber) {
+        waitTimeout.increment();
+        log.warn("계좌 이체 잠금 대기 시간 초과 (다른 서버에서 이체 중) - 계좌번호: {}, 대기 제한: {}ms", accountNumber, maxWaitMs);
+        return new RuntimeException(BUSY_MESSAGE);
+    }
+
+    private void setLockWaitTimeout(Connection connection, String seconds) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION innodb_lock_wait_timeout = " + seconds);
+        }
+    }
+
+    /**
+     * 호출 트랜잭션이 끝난 뒤 락/DB 잠금 반납 등록
+     *
+     * @return 반납을 트랜잭션 종료 시점으로 미뤘는지 여부 (트랜잭션 밖이면 false)
+     */
+    private boolean releaseAfterCompletion(String accountNumber, Lane lane, Connection lockConnection) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(accountNumber, lane, true, lockConnection);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 잠금 이후 계좌 엔티티 다시 읽기
+     *
+     * 요청 초반에 읽어 둔 Account 가 그 사이 백그라운드 동기화로 버전이 올라갔을 수 있으므로,
+     * 차례를 얻은 뒤 영속성 컨텍스트의 계좌를 DB 값으로 갱신해 커밋 시 낙관적 락 충돌을 막습니다.
+     */
+    private void refreshAccount(String accountNumber) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        accountRepository.findByAccountNumber(accountNumber).ifPresentOrElse(
+                entityManager::refresh,
+                () -> log.debug("갱신 대상 계좌 없음 - 계좌번호: {}", accountNumber));
+    }
+
+    // DB 잠금을 먼저 풀고 서버 내 락을 풀어서, 다음 차례가 다른 서버보다 늦게 DB 잠금을 기다리지 않게 함
+    private void release(String accountNumber, Lane lane, boolean acquired, Connection lockConnection) {
+        try {
+            closeLockConnection(accountNumber, lockConnection);
+        } finally {
+            if (acquired) {
+                running.decrementAndGet();
+                lane.lock.unlock();
+            }
+            leaveLane(accountNumber, lane);
+        }
+    }
+
+    private void closeLockConnection(String accountNumber, Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                setLockWaitTimeout(connection, "DEFAULT");
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            log.warn("계좌 이체 잠금 해제 실패 (커넥션 종료로 해제) - 계좌번호: {}, 오류: {}", accountNumber, e.getMessage());
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.warn("계좌 이체 잠금 커넥션 반납 실패 - 계좌번호: {}, 오류: {}", accountNumber, e.getMessage());
+            }
+        }
+    }
+
+    private Lane joinLane(String accountNumber) {
+        return lanes.compute(accountNumber, (key, lane) -> {
+            Lane joined = lane != null ? lane : new Lane();
+            joined.users.incrementAndGet();
+            return joined;
+        });
+    }
+
+    private void leaveLane(String accountNumber, Lane lane) {
+        lanes.computeIfPresent(accountNumber, (key, current) ->
+                current == lane && current.users.decrementAndGet() == 0 ? null : current);
+    }
+
+    /**
+     * 계좌별 대기열 (users: 대기 + 실행 중인 요청 수, 0이 되면 제거)
+     */
+    private static final class Lane {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final AtomicInteger users = new AtomicInteger();
+    }
+}
@@ -2,7 +2,6 @@ package com.marry1q.marry1qbe.domain.account.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -17,7 +16,7 @@ import java.util.function.Supplier;
  * 기능: 출금이체와 입금이체의 공통 로직을 제공하는 서비스
  * 
  * 주요 기능:
- * - 낙관적 락을 통한 동시성 제어 (재시도 로직 포함)
+ * - 계좌별 순차 처리를 통한 동시성 제어 (TransferSequencer)
  * - 출금이체 요청 본문 생성 (auth-backend API 호출용)
  * - 입금이체 요청 본문 생성 (auth-backend API 호출용)
  * 
@@ -30,45 +29,22 @@ import java.util.function.Supplier;
 @Slf4j
 public class TransferService {
 
+    private final TransferSequencer transferSequencer;
+    
     /**
-     * 낙관적 락을 적용한 작업 처리
-     * 
-     * 동시에 같은 계좌에서 여러 거래가 발생할 때 발생하는 충돌을 처리합니다.
-     * 충돌 발생 시 지수 백오프(Exponential Backoff)를 사용하여 재시도합니다.
+     * 계좌별 순차 처리
      * 
-     * 재시도 전략:
-     * - 1차 재시도: 100ms 대기
-     * - 2차 재시도: 200ms 대기  
-     * - 3차 재시도: 400ms 대기
+     * 같은 모임통장의 이체는 앞선 이체가 끝날 때까지 대기한 뒤 한 건씩 실행합니다.
+     * 충돌 후 재시도하지 않으므로 외부 이체 API가 중복 호출되지 않습니다.
      * 
+     * @param accountNumber 직렬화 기준 계좌번호 (모임통장)
      * @param operation 실행할 작업 (Supplier 함수)
-     * @param maxRetries 최대 재시도 횟수
      * @param <T> 반환 타입
      * @return 작업 결과
-     * @throws RuntimeException 최대 재시도 횟수 초과 시
+     * @throws RuntimeException 대기열 초과 또는 대기 시간 초과 시
      */
-    public <T> T processWithOptimisticLock(Supplier<T> operation, int maxRetries) {
-        int retryCount = 0;
-        while (retryCount < maxRetries) {
-            try {
-                return operation.get();
-            } catch (ObjectOptimisticLockingFailureException e) {
-                retryCount++;
-                if (retryCount >= maxRetries) {
-                    throw new RuntimeException("다른 거래가 진행 중입니다. 잠시 후 다시 시도해주세요.");
-                }
-                log.warn("낙관적 락 충돌 발생, 재시도 {}회", retryCount);
-                
-                // 지수 백오프 (Exponential Backoff)
-                try {
-                    Thread.sleep(100 * (1 << retryCount)); // 100ms, 200ms, 400ms...
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("거래가 중단되었습니다. 다시 시도해주세요.");
-                }
-            }
-        }
-        throw new RuntimeException("거래 처리에 실패했습니다. 잠시 후 다시 시도해주세요.");
+    public <T> T processSequentially(String accountNumber, Supplier<T> operation) {
+        return transferSequencer.execute(accountNumber, operation);
     }
     
     /**
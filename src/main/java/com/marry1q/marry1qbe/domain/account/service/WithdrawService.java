@@ -4,13 +4,12 @@ import com.marry1q.marry1qbe.domain.account.dto.request.WithdrawRequest;
 import com.marry1q.marry1qbe.domain.account.dto.response.WithdrawResponse;
 import com.marry1q.marry1qbe.domain.account.entity.Account;
 import com.marry1q.marry1qbe.domain.account.entity.CoupleAccountTransaction;
+import com.marry1q.marry1qbe.domain.account.entity.TransferLedger;
 import com.marry1q.marry1qbe.domain.account.exception.DepositTransferException;
 import com.marry1q.marry1qbe.domain.account.exception.InsufficientBalanceException;
 import com.marry1q.marry1qbe.domain.account.exception.WithdrawTransferException;
-import com.marry1q.marry1qbe.domain.account.repository.AccountRepository;
 import com.marry1q.marry1qbe.domain.account.repository.CoupleAccountTransactionRepository;
 import com.marry1q.marry1qbe.grobal.openBankingToken.OpenBankingTokenService;
-import com.marry1q.marry1qbe.grobal.util.BankTranIdGenerator;
 import com.marry1q.marry1qbe.grobal.util.SecurityUtil;
 import com.marry1q.marry1qbe.grobal.dto.ExternalApiResponse;
 import com.marry1q.marry1qbe.domain.account.service.external.AuthBackendApiService;
@@ -33,7 +32,7 @@ import java.util.Map;
  * 처리 흐름: 출금이체 → 입금이체 순차 처리 (원자성 보장)
  * 
  * 주요 특징:
- * - 낙관적 락을 통한 동시성 제어
+ * - 모임통장별 순차 처리를 통한 동시성 제어
  * - 출금이체와 입금이체의 순차 처리로 원자성 보장
  * - 실패 시 자동 롤백
  * - 상세한 로깅 및 모니터링
@@ -44,23 +43,43 @@ import java.util.Map;
 public class WithdrawService {
 
     private final CoupleAccountTransactionRepository transactionRepository;
-    private final AccountRepository accountRepository;
     private final OpenBankingTokenService openBankingTokenService;
     private final AuthBackendApiService authBackendApiService;
     private final SecurityUtil securityUtil;
     private final CustomerService customerService;
     private final TransferService transferService;
+    private final TransferLedgerService transferLedgerService;
     
     /**
-     * 보내기 처리 - 출금이체 → 입금이체 순차 처리 (낙관적 락 적용)
+     * 보내기 처리 - 출금이체 → 입금이체 순차 처리 (모임통장별 순차 실행)
      * 
      * @param request 보내기 요청 정보 (받는 사람 계좌 정보, 금액, 설명 등)
      * @return 보내기 처리 결과 (거래ID, 잔액, 상태 등)
      */
     @Transactional
     public WithdrawResponse processWithdraw(WithdrawRequest request) {
-        return transferService.processWithOptimisticLock(
-            () -> processWithdrawInternal(request), 3);
+        return processWithdraw(request, null);
+    }
+    
+    /**
+     * 보내기 처리 (멱등성 키 포함)
+     * 
+     * 같은 키로 다시 요청하면 이체 원장에 저장된 결과를 돌려주고 auth-backend를 다시 호출하지 않습니다.
+     * 
+     * @param request 보내기 요청 정보
+     * @param idempotencyKey 클라이언트 멱등성 키 (없으면 매 요청을 새 거래로 처리)
+     * @return 보내기 처리 결과 (재요청이면 최초 처리 결과)
+     */
+    @Transactional
+    public WithdrawResponse processWithdraw(WithdrawRequest request, String idempotencyKey) {
+        String coupleAccountNumber = customerService.getCurrentUserCoupleAccountNumber();
+        String userSeqNo = securityUtil.getCurrentUserSeqNo();
+        String requestFingerprint = TransferLedgerService.fingerprint(request.getDepositBankCode(), request.getDepositAccountNumber(), request.getAmount());
+        
+        return transferService.processSequentially(coupleAccountNumber, () ->
+            transferLedgerService.findReplay(userSeqNo, idempotencyKey, TransferLedger.TransferType.WITHDRAW,
+                    requestFingerprint, WithdrawResponse.class)
+                .orElseGet(() -> processWithdrawInternal(request, idempotencyKey, requestFingerprint)));
     }
     
     /**
@@ -76,9 +95,11 @@ public class WithdrawService {
      * 7. 응답 생성 및 잔액 업데이트
      * 
      * @param request 보내기 요청 정보
+     * @param idempotencyKey 클라이언트 멱등성 키
+     * @param requestFingerprint 요청 내용 지문 (이체 원장 저장용)
      * @return 보내기 처리 결과
      */
-    private WithdrawResponse processWithdrawInternal(WithdrawRequest request) {
+    private WithdrawResponse processWithdrawInternal(WithdrawRequest request, String idempotencyKey, String requestFingerprint) {
         long startTime = System.currentTimeMillis();
         log.info("보내기 처리 시작 - 받는계좌번호: {}, 받는은행: {}, 금액: {}", 
                  request.getDepositAccountNumber(), request.getDepositBankCode(), request.getAmount());
@@ -93,17 +114,24 @@ public class WithdrawService {
         // 3. 모임통장 정보 조회 (현재 로그인한 사용자의 모임통장)
         String coupleAccountNumber = customerService.getCurrentUserCoupleAccountNumber();  // 모임통장 계좌번호
         String userSeqNo = securityUtil.getCurrentUserSeqNo();  // 사용자 시퀀스 번호
-        String bankTranId = BankTranIdGenerator.generateBankTranId();  // 거래 고유 ID
+        
+        // 이체 원장 기록 (거래 고유 ID 발급, 출금/입금 단계별 결과 추적)
+        TransferLedger ledger = transferLedgerService.begin(TransferLedger.TransferType.WITHDRAW, idempotencyKey, userSeqNo,
+            coupleAccountNumber, request.getDepositAccountNumber(), request.getAmount(), requestFingerprint);
+        String bankTranId = ledger.getBankTranId();  // 거래 고유 ID
         
         try {
             // 4. 모임통장에서 출금이체 (모임통장 → 외부 시스템)
             processWithdrawFromCoupleAccount(request, coupleAccountNumber, userSeqNo, bankTranId, token);
+            transferLedgerService.markLegSucceeded(ledger.getLedgerId(), TransferLedger.Leg.WITHDRAW);
             
             // 5. 개인계좌로 입금이체 (외부 시스템 → 개인계좌)
             processDepositToPersonalAccount(request, coupleAccountNumber, bankTranId, token);
+            transferLedgerService.markLegSucceeded(ledger.getLedgerId(), TransferLedger.Leg.DEPOSIT);
             
             // 6. 응답 생성 및 잔액 업데이트 (거래내역은 동기화로 처리)
             WithdrawResponse response = createWithdrawResponseWithoutTransaction(request, coupleAccountNumber, bankTranId);
+            transferLedgerService.complete(ledger.getLedgerId(), response);
             
             // 8. 성공 로그 및 모니터링
             long endTime = System.currentTimeMillis();
@@ -115,16 +143,20 @@ public class WithdrawService {
             return response;
             
         } catch (WithdrawTransferException | DepositTransferException e) {
-            // 트랜잭션 롤백 (Spring의 @Transactional이 자동 처리)
+            // 트랜잭션 롤백 (Spring의 @Transactional이 자동 처리, 이체 원장은 별도 커밋)
+            // 결과를 알 수 없는 실패는 재요청하지 않도록 거래번호 안내 예외로 바꿔 던짐
+            RuntimeException failure = transferLedgerService.fail(ledger.getLedgerId(), e, e);
             long endTime = System.currentTimeMillis();
             long processingTime = endTime - startTime;
             log.error("보내기 처리 실패 - 처리시간: {}ms, 오류: {}", processingTime, e.getMessage(), e);
-            throw e;
+            throw failure;
         } catch (Exception e) {
+            RuntimeException failure = transferLedgerService.fail(ledger.getLedgerId(), e,
+                    new RuntimeException("보내기 처리 중 예상치 못한 오류가 발생했습니다. 잠시 후 다시 시도해주세요."));
             long endTime = System.currentTimeMillis();
             long processingTime = endTime - startTime;
             log.error("보내기 처리 중 예상치 못한 오류 발생 - 처리시간: {}ms, 오류: {}", processingTime, e.getMessage(), e);
-            throw new RuntimeException("보내기 처리 중 예상치 못한 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+            throw failure;
         }
     }
     
@@ -247,9 +279,8 @@ public class WithdrawService {
      * @return 보내기 응답 DTO
      */
     private WithdrawResponse createWithdrawResponseWithoutTransaction(WithdrawRequest request, String coupleAccountNumber, String bankTranId) {
-        // 실제 계좌 조회
-        Account account = accountRepository.findByAccountNumber(coupleAccountNumber)
-            .orElseThrow(() -> new IllegalArgumentException("계좌를 찾을 수 없습니다: " + coupleAccountNumber));
+        // 모임통장 조회 (요청 내 조회 결과 재사용)
+        Account account = customerService.getCurrentUserCoupleAccount();
         
         // 실시간 잔액 조회
         BigDecimal currentBalance;
@@ -263,6 +294,7 @@ public class WithdrawService {
         // 응답 DTO 생성
         return WithdrawResponse.builder()
             .transactionId(null)  // 거래 ID는 동기화 후에 확인 가능
+            .bankTranId(bankTranId)  // 은행 거래 고유 ID (이체 원장 키)
             .accountNumber(coupleAccountNumber)  // 모임통장 계좌번호
             .amount(request.getAmount())  // 이체 금액
             .balanceAfterTransaction(currentBalance)  // 실시간 잔액
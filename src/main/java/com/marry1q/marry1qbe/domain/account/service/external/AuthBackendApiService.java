@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
@@ -111,6 +112,12 @@ public class AuthBackendApiService implements ExternalApiService {
                 throw new ExternalApiException("AuthBackend", "오픈뱅킹 API 호출 실패", errorMessage, response.getStatusCodeValue());
             }
             
+        } catch (ExternalApiException e) {
+            // 실패 응답은 상태 코드를 유지 (이체 원장에서 거절/결과 불명 구분)
+            throw e;
+        } catch (HttpClientErrorException e) {
+            log.error("오픈뱅킹 API 요청 거절 - URL: {}, 상태: {}, 응답: {}", fullUrl, e.getStatusCode(), e.getResponseBodyAsString());
+            throw new ExternalApiException("AuthBackend", "오픈뱅킹 API 호출 실패", e.getResponseBodyAsString(), e.getStatusCode().value());
         } catch (Exception e) {
             log.error("오픈뱅킹 API 호출 중 예외 발생 - URL: {}, Error: {}", fullUrl, e.getMessage(), e);
             throw new ExternalApiException("AuthBackend", "오픈뱅킹 API 호출 중 오류 발생", e.getMessage());
@@ -259,6 +266,8 @@ public class AuthBackendApiService implements ExternalApiService {
         private String accountNum;
         private String balanceAmt;
         private List<TransactionItem> resList;
+        private String pageRecordCnt;
+        private String nextPageYn;
         
         // 생성자, getter, setter
         public TransactionListResponse() {}
@@ -274,6 +283,12 @@ public class AuthBackendApiService implements ExternalApiService {
         
         public List<TransactionItem> getResList() { return resList; }
         public void setResList(List<TransactionItem> resList) { this.resList = resList; }
+        
+        public String getPageRecordCnt() { return pageRecordCnt; }
+        public void setPageRecordCnt(String pageRecordCnt) { this.pageRecordCnt = pageRecordCnt; }
+        
+        public String getNextPageYn() { return nextPageYn; }
+        public void setNextPageYn(String nextPageYn) { this.nextPageYn = nextPageYn; }
     }
     
     public static class TransactionItem {
@@ -19,6 +19,8 @@ import java.util.Map;
 @Slf4j
 public class HanaBankAutoTransferApiClient {
     
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    
     private final RestTemplate restTemplate;
     private final ExternalApiConfig externalApiConfig;
     private final ObjectMapper objectMapper;
@@ -27,8 +29,15 @@ public class HanaBankAutoTransferApiClient {
      * 자동이체 등록
      */
     public Map<String, Object> createAutoTransfer(Object requestBody) {
+        return createAutoTransfer(requestBody, null);
+    }
+    
+    /**
+     * 자동이체 등록 (멱등성 키 포함, 재전송 시 하나은행이 같은 결과를 반환)
+     */
+    public Map<String, Object> createAutoTransfer(Object requestBody, String idempotencyKey) {
         String endpoint = externalApiConfig.getHanaBank().getEndpoints().get("auto-transfer-create");
-        return callApi(endpoint, requestBody, Map.class);
+        return callApi(endpoint, requestBody, Map.class, idempotencyKey);
     }
     
     /**
@@ -149,6 +158,13 @@ public class HanaBankAutoTransferApiClient {
      * 자동이체 수정
      */
     public Map<String, Object> updateAutoTransfer(Long autoTransferId, Object requestBody) {
+        return updateAutoTransfer(autoTransferId, requestBody, null);
+    }
+    
+    /**
+     * 자동이체 수정 (멱등성 키 포함)
+     */
+    public Map<String, Object> updateAutoTransfer(Long autoTransferId, Object requestBody, String idempotencyKey) {
         String endpoint = externalApiConfig.getHanaBank().getEndpoints().get("auto-transfer-update");
         String fullUrl = externalApiConfig.getHanaBank().getUrl() + endpoint.replace("{autoTransferId}", autoTransferId.toString());
         
@@ -161,7 +177,7 @@ public class HanaBankAutoTransferApiClient {
         log.info("-----------------------------------------------------");
         
         try {
-            HttpEntity<Object> requestEntity = new HttpEntity<>(requestBody, createJsonHeaders());
+            HttpEntity<Object> requestEntity = new HttpEntity<>(requestBody, createJsonHeaders(idempotencyKey));
             ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
                 fullUrl,
                 HttpMethod.PUT,
@@ -207,6 +223,13 @@ public class HanaBankAutoTransferApiClient {
      * 자동이체 삭제
      */
     public Map<String, Object> deleteAutoTransfer(Long autoTransferId) {
+        return deleteAutoTransfer(autoTransferId, null);
+    }
+    
+    /**
+     * 자동이체 삭제 (멱등성 키 포함)
+     */
+    public Map<String, Object> deleteAutoTransfer(Long autoTransferId, String idempotencyKey) {
         String endpoint = externalApiConfig.getHanaBank().getEndpoints().get("auto-transfer-delete");
         String fullUrl = externalApiConfig.getHanaBank().getUrl() + endpoint.replace("{autoTransferId}", autoTransferId.toString());
         
@@ -222,7 +245,7 @@ public class HanaBankAutoTransferApiClient {
             ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
                 fullUrl,
                 HttpMethod.DELETE,
-                new HttpEntity<>(createJsonHeaders()),
+                new HttpEntity<>(createJsonHeaders(idempotencyKey)),
                 new ParameterizedTypeReference<Map<String, Object>>() {}
             );
             
@@ -320,7 +343,7 @@ public class HanaBankAutoTransferApiClient {
     /**
      * 공통 API 호출 메서드
      */
-    private <T> T callApi(String endpoint, Object requestBody, Class<T> responseType) {
+    private <T> T callApi(String endpoint, Object requestBody, Class<T> responseType, String idempotencyKey) {
         String fullUrl = externalApiConfig.getHanaBank().getUrl() + endpoint;
         
         log.info("-----------------------------------------------------");
@@ -332,7 +355,7 @@ public class HanaBankAutoTransferApiClient {
         log.info("-----------------------------------------------------");
         
         try {
-            HttpEntity<Object> requestEntity = new HttpEntity<>(requestBody, createJsonHeaders());
+            HttpEntity<Object> requestEntity = new HttpEntity<>(requestBody, createJsonHeaders(idempotencyKey));
             ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
                 fullUrl,
                 HttpMethod.POST,
@@ -393,8 +416,18 @@ public class HanaBankAutoTransferApiClient {
      * JSON 헤더 생성
      */
     private HttpHeaders createJsonHeaders() {
+        return createJsonHeaders(null);
+    }
+    
+    /**
+     * JSON 헤더 생성 (멱등성 키가 있으면 Idempotency-Key 헤더 추가)
+     */
+    private HttpHeaders createJsonHeaders(String idempotencyKey) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        if (idempotencyKey != null) {
+            headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
         return headers;
     }
 }
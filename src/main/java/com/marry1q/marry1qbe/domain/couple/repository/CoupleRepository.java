@@ -19,6 +19,11 @@ public interface CoupleRepository extends JpaRepository<Marry1qCouple, Long> {
      */
     Optional<Marry1qCouple> findByUrlSlug(String urlSlug);
     
+    /**
+     * 모임통장 계좌번호로 조회
+     */
+    Optional<Marry1qCouple> findByCoupleAccount(String coupleAccount);
+    
     /**
      * 커플 존재 여부 확인
      */
@@ -9,7 +9,7 @@ import com.marry1q.marry1qbe.domain.couple.exception.NoCoupleException;
 import com.marry1q.marry1qbe.domain.couple.repository.CoupleRepository;
 import com.marry1q.marry1qbe.domain.customer.entity.Customer;
 import com.marry1q.marry1qbe.domain.customer.repository.CustomerRepository;
-import com.marry1q.marry1qbe.grobal.util.SecurityUtil;
+import com.marry1q.marry1qbe.grobal.util.CurrentCoupleContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,18 +25,16 @@ import java.util.List;
 public class CoupleService {
     
     private final CoupleRepository coupleRepository;
-    private final SecurityUtil securityUtil;
     private final CustomerRepository customerRepository;
+    private final CurrentCoupleContext currentCoupleContext;
     
     /**
      * 현재 로그인한 사용자의 coupleId를 반환합니다.
      */
     @Transactional(readOnly = true)
     public Long getCurrentCoupleId() {
-        String userSeqNo = securityUtil.getCurrentUserSeqNo();
-        
-        Customer customer = customerRepository.findById(userSeqNo)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userSeqNo));
+        Customer customer = currentCoupleContext.getCustomer();
+        String userSeqNo = customer.getUserSeqNo();
         
         Long coupleId = customer.getCoupleId();
         if (coupleId == null) {
@@ -44,7 +42,7 @@ public class CoupleService {
             throw new NoCoupleException("속해있는 커플이 없습니다.");
         }
         
-        log.info("현재 사용자의 coupleId 조회 완료 - userSeqNo: {}, coupleId: {}", userSeqNo, coupleId);
+        log.debug("현재 사용자의 coupleId 조회 완료 - userSeqNo: {}, coupleId: {}", userSeqNo, coupleId);
         return coupleId;
     }
     
@@ -14,7 +14,7 @@ import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
 import com.marry1q.marry1qbe.grobal.exception.CustomException;
 import com.marry1q.marry1qbe.grobal.jwt.JwtTokenProvider;
 import com.marry1q.marry1qbe.grobal.jwt.TokenBlacklistService;
-import com.marry1q.marry1qbe.grobal.util.SecurityUtil;
+import com.marry1q.marry1qbe.grobal.util.CurrentCoupleContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -34,7 +34,7 @@ public class CustomerService {
     private final TokenBlacklistService tokenBlacklistService;
     private final AccountRepository accountRepository;
     private final Marry1qCoupleRepository coupleRepository;
-    private final SecurityUtil securityUtil;
+    private final CurrentCoupleContext currentCoupleContext;
     
     @Transactional
     public void signUp(SignUpRequest request) {
@@ -99,6 +99,7 @@ public class CustomerService {
     @Transactional
     public void logout(String userSeqNo) {
         tokenBlacklistService.blacklistToken(userSeqNo);
+        tokenBlacklistService.revokeIssuedTokens(userSeqNo);
     }
     
     public CustomerInfoResponse getCustomerInfo(String userSeqNo) {
@@ -166,55 +167,39 @@ public class CustomerService {
      * 현재 사용자의 모임통장 계좌번호 조회
      */
     public String getCurrentUserCoupleAccountNumber() {
-        String userSeqNo = securityUtil.getCurrentUserSeqNo();
-        
-        // 1. 현재 사용자의 couple_id 조회
-        Customer customer = customerRepository.findById(userSeqNo)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + userSeqNo));
-        
-        Long coupleId = customer.getCoupleId();
-        if (coupleId == null) {
-            throw new IllegalArgumentException("사용자가 커플에 속해있지 않습니다. userSeqNo: " + userSeqNo);
-        }
-        
-        // 2. 커플의 모임통장 계좌번호 조회
-        Marry1qCouple couple = coupleRepository.findById(coupleId)
-            .orElseThrow(() -> new IllegalArgumentException("커플 정보를 찾을 수 없습니다. coupleId: " + coupleId));
-        
-        return couple.getCoupleAccount();
+        return getCurrentUserCouple().getCoupleAccount();
     }
     
     /**
      * 사용자의 모임통장 정보 조회
      */
     public Account getCurrentUserCoupleAccount() {
-        String userSeqNo = securityUtil.getCurrentUserSeqNo();
+        Marry1qCouple couple = getCurrentUserCouple();
+        String coupleAccountNumber = couple.getCoupleAccount();
         
-        // 1. 현재 사용자의 couple_id 조회
-        Customer customer = customerRepository.findById(userSeqNo)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + userSeqNo));
+        // 모임통장 계좌 정보 조회 (요청 내 재사용)
+        Account coupleAccount = currentCoupleContext.getCoupleAccount()
+            .orElseThrow(() -> new IllegalArgumentException("모임통장을 찾을 수 없습니다. accountNumber: " + coupleAccountNumber));
+        
+        log.debug("모임통장 조회 - 커플ID: {}, 계좌번호: {}, 계좌 소유주: {}", 
+                couple.getCoupleId(), coupleAccountNumber, coupleAccount.getUserSeqNo());
+        
+        return coupleAccount;
+    }
+    
+    /**
+     * 현재 사용자의 커플 조회 (요청 내 재사용)
+     */
+    private Marry1qCouple getCurrentUserCouple() {
+        Customer customer = currentCoupleContext.getCustomer();
         
         Long coupleId = customer.getCoupleId();
         if (coupleId == null) {
-            throw new IllegalArgumentException("사용자가 커플에 속해있지 않습니다. userSeqNo: " + userSeqNo);
+            throw new IllegalArgumentException("사용자가 커플에 속해있지 않습니다. userSeqNo: " + customer.getUserSeqNo());
         }
         
-        // 2. 커플의 모임통장 계좌번호 조회
-        Marry1qCouple couple = coupleRepository.findById(coupleId)
+        return currentCoupleContext.getCouple()
             .orElseThrow(() -> new IllegalArgumentException("커플 정보를 찾을 수 없습니다. coupleId: " + coupleId));
-        
-        String coupleAccountNumber = couple.getCoupleAccount();
-        
-        // 3. 모임통장 계좌 정보 조회
-        Account coupleAccount = accountRepository.findByAccountNumber(coupleAccountNumber)
-            .orElseThrow(() -> new IllegalArgumentException("모임통장을 찾을 수 없습니다. accountNumber: " + coupleAccountNumber));
-        
-        // 4. 권한 검증 및 로깅
-        String accountOwnerUserSeqNo = coupleAccount.getUserSeqNo();
-        log.info("모임통장 조회 - 현재 사용자: {}, 커플ID: {}, 계좌번호: {}, 계좌 소유주: {}", 
-                userSeqNo, coupleId, coupleAccountNumber, accountOwnerUserSeqNo);
-        
-        return coupleAccount;
     }
     
     /**
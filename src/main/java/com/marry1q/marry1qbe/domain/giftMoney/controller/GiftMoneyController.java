@@ -4,9 +4,13 @@ import com.marry1q.marry1qbe.domain.giftMoney.dto.request.CreateGiftMoneyRequest
 import com.marry1q.marry1qbe.domain.giftMoney.dto.request.UpdateGiftMoneyRequest;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.request.UpdateThanksStatusRequest;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.request.UpdateSafeAccountTransactionReviewStatusRequest;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyImportResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyListResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.response.SafeAccountTransactionListResponse;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.GiftMoneyCountMode;
+import com.marry1q.marry1qbe.domain.giftMoney.service.GiftMoneyImportService;
+import com.marry1q.marry1qbe.domain.giftMoney.service.GiftMoneyLiveFeed;
 import com.marry1q.marry1qbe.domain.giftMoney.service.GiftMoneyService;
 import com.marry1q.marry1qbe.domain.couple.service.CoupleService;
 import com.marry1q.marry1qbe.grobal.dto.CustomApiResponse;
@@ -21,10 +25,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 
@@ -37,11 +44,14 @@ import java.time.LocalDate;
 public class GiftMoneyController {
     
     private final GiftMoneyService giftMoneyService;
+    private final GiftMoneyImportService giftMoneyImportService;
+    private final GiftMoneyLiveFeed giftMoneyLiveFeed;
     private final CoupleService coupleService;
     
     @Operation(
         summary = "축의금 목록 조회",
-        description = "필터링 조건과 페이징을 포함한 축의금 목록을 조회합니다."
+        description = "필터링 조건과 페이징을 포함한 축의금 목록을 조회합니다. " +
+                      "countMode=ESTIMATE는 추정 개수, NONE은 전체 개수 없이 다음 페이지 여부(hasNext)만 반환합니다."
     )
     @GetMapping
     public ResponseEntity<CustomApiResponse<GiftMoneyListResponse>> getGiftMoneyList(
@@ -53,7 +63,8 @@ public class GiftMoneyController {
             @Parameter(description = "종료 날짜 (yyyy-MM-dd)") @RequestParam(required = false) String endDate,
             @Parameter(description = "감사 연락 완료 여부") @RequestParam(required = false) Boolean thanksSent,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "전체 개수 산정 방식 (EXACT, ESTIMATE, NONE)") @RequestParam(defaultValue = "EXACT") GiftMoneyCountMode countMode) {
         
         String currentUserSeqNo = userDetails.getUsername();
         Long coupleId = coupleService.getCurrentCoupleId();
@@ -62,11 +73,85 @@ public class GiftMoneyController {
         LocalDate parsedEndDate = endDate != null ? LocalDate.parse(endDate) : null;
         
         GiftMoneyListResponse response = giftMoneyService.getGiftMoneyList(
-                name, relationship, source, parsedStartDate, parsedEndDate, thanksSent, coupleId, page, size);
+                name, relationship, source, parsedStartDate, parsedEndDate, thanksSent, coupleId, page, size, countMode);
+        
+        return ResponseEntity.ok(CustomApiResponse.success(response));
+    }
+    
+    @Operation(
+        summary = "축의금 목록 커서 조회",
+        description = "필터링 조건을 포함한 축의금 목록을 커서 기반으로 조회합니다. " +
+                      "응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회하며, 전체 개수는 계산하지 않습니다."
+    )
+    @GetMapping("/scroll")
+    public ResponseEntity<CustomApiResponse<GiftMoneyListResponse>> getGiftMoneyScroll(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "축의자 이름") @RequestParam(required = false) String name,
+            @Parameter(description = "관계") @RequestParam(required = false) String relationship,
+            @Parameter(description = "받은방법") @RequestParam(required = false) String source,
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)") @RequestParam(required = false) String startDate,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd)") @RequestParam(required = false) String endDate,
+            @Parameter(description = "감사 연락 완료 여부") @RequestParam(required = false) Boolean thanksSent,
+            @Parameter(description = "이전 응답의 nextCursor (비우면 처음부터)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+        
+        Long coupleId = coupleService.getCurrentCoupleId();
+        
+        LocalDate parsedStartDate = startDate != null ? LocalDate.parse(startDate) : null;
+        LocalDate parsedEndDate = endDate != null ? LocalDate.parse(endDate) : null;
+        
+        GiftMoneyListResponse response = giftMoneyService.getGiftMoneyScroll(
+                name, relationship, source, parsedStartDate, parsedEndDate, thanksSent, coupleId, cursor, size);
         
         return ResponseEntity.ok(CustomApiResponse.success(response));
     }
     
+    @Operation(
+        summary = "축의금 일괄 등록 (CSV)",
+        description = "CSV 파일(UTF-8)의 축의금을 한 번에 등록합니다. 첫 줄은 헤더이며 " +
+                      "name(이름), amount(금액), relationship(관계), source(받은방법), giftDate(날짜)는 필수, " +
+                      "phone(연락처), address(주소), memo(메모)는 선택입니다. " +
+                      "잘못된 행은 건너뛰고 줄 번호별 오류 목록으로 반환합니다."
+    )
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CustomApiResponse<GiftMoneyImportResponse>> importGiftMoney(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "축의금 CSV 파일", required = true) @RequestParam("file") MultipartFile file) {
+        
+        Long coupleId = coupleService.getCurrentCoupleId();
+        
+        GiftMoneyImportResponse response = giftMoneyImportService.importCsv(file, coupleId);
+        
+        return ResponseEntity.ok(CustomApiResponse.success(response,
+                "축의금 " + response.getImportedCount() + "건이 등록되었습니다."));
+    }
+    
+    @Operation(
+        summary = "축의금 실시간 피드 구독 (SSE)",
+        description = "축의금 생성/수정/삭제/일괄 등록과 새 안심계좌 입금을 Server-Sent Events로 받습니다. " +
+                      "재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터)를 보내면 놓친 이벤트부터 다시 받으며, " +
+                      "보관 범위를 벗어났으면 resync 이벤트가 오므로 목록을 다시 조회하면 됩니다."
+    )
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLiveFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(hidden = true) @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @Parameter(description = "마지막으로 받은 이벤트 ID") @RequestParam(required = false) Long lastEventId) {
+        
+        Long coupleId = coupleService.getCurrentCoupleId();
+        
+        Long resumeFrom = lastEventId;
+        if (resumeFrom == null && lastEventIdHeader != null && !lastEventIdHeader.isBlank()) {
+            try {
+                resumeFrom = Long.parseLong(lastEventIdHeader.trim());
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 Last-Event-ID 헤더: {}", lastEventIdHeader);
+            }
+        }
+        
+        return giftMoneyLiveFeed.subscribe(coupleId, resumeFrom);
+    }
+    
     @Operation(
         summary = "축의금 단건 조회",
         description = "특정 축의금의 상세 정보를 조회합니다."
@@ -156,19 +241,22 @@ public class GiftMoneyController {
     
     @Operation(
         summary = "안심계좌 입금 내역 조회",
-        description = "모임통장 거래내역을 동기화하고 안심계좌로 입금된 거래내역을 조회합니다."
+        description = "안심계좌로 입금된 거래내역을 조회합니다. 거래내역은 백그라운드에서 동기화되며, " +
+                      "syncIfOlderThanSeconds를 주면 마지막 동기화가 그보다 오래된 경우 먼저 동기화합니다."
     )
     @GetMapping("/safe-account-transactions")
     public ResponseEntity<CustomApiResponse<SafeAccountTransactionListResponse>> getSafeAccountTransactions(
             @AuthenticationPrincipal UserDetails userDetails,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size) {
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "마지막 동기화가 이 시간(초)보다 오래됐으면 조회 전에 동기화") 
+            @RequestParam(required = false) Integer syncIfOlderThanSeconds) {
         
         String currentUserSeqNo = userDetails.getUsername();
         Long coupleId = coupleService.getCurrentCoupleId();
         
         SafeAccountTransactionListResponse response = giftMoneyService.getSafeAccountTransactions(
-                coupleId, page, size);
+                coupleId, page, size, syncIfOlderThanSeconds);
         
         return ResponseEntity.ok(CustomApiResponse.success(response, "안심계좌 입금 내역 조회가 완료되었습니다."));
     }
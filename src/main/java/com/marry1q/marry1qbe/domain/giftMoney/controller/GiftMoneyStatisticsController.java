@@ -6,16 +6,21 @@ import com.marry1q.marry1qbe.domain.giftMoney.service.GiftMoneyStatisticsService
 import com.marry1q.marry1qbe.domain.couple.service.CoupleService;
 import com.marry1q.marry1qbe.grobal.dto.CustomApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -46,17 +51,33 @@ public class GiftMoneyStatisticsController {
     
     @Operation(
         summary = "전체 통계 조회",
-        description = "통계 페이지용 축의금 전체 통계를 조회합니다."
+        description = "통계 페이지용 축의금 전체 통계를 조회합니다. " +
+                      "이전 응답의 snapshotVersion을 version으로 넘기거나 ETag를 If-None-Match로 보내면 " +
+                      "통계가 바뀌지 않았을 때 304를 반환합니다."
     )
     @GetMapping
     public ResponseEntity<CustomApiResponse<GiftMoneyStatisticsResponse>> getFullStatistics(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            @Parameter(description = "이전에 받은 통계 버전 (snapshotVersion)") @RequestParam(required = false) Long version,
+            WebRequest webRequest) {
         
         String currentUserSeqNo = userDetails.getUsername();
         Long coupleId = coupleService.getCurrentCoupleId();
         
         GiftMoneyStatisticsResponse response = statisticsService.getFullStatistics(coupleId);
         
-        return ResponseEntity.ok(CustomApiResponse.success(response));
+        // 통계 버전 기준 조건부 응답
+        String etag = "W/\"" + coupleId + "-" + response.getSnapshotVersion() + "\"";
+        if (version != null && version.equals(response.getSnapshotVersion())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(CustomApiResponse.success(response));
     }
 }
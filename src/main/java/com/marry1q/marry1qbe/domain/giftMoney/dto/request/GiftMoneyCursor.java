@@ -0,0 +1,49 @@
+package com.marry1q.marry1qbe.domain.giftMoney.dto.request;
+
+import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
+import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
+import com.marry1q.marry1qbe.grobal.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 축의금 목록 커서 (마지막으로 받은 행의 정렬 키)
+ *
+ * 목록 정렬 (giftDate desc, createdAt desc, giftMoneyId desc) 과 같은 순서의 키를
+ * "giftDate|createdAt|giftMoneyId" 형태로 묶어 URL-safe Base64로 주고받습니다.
+ */
+public record GiftMoneyCursor(LocalDate giftDate, LocalDateTime createdAt, Long giftMoneyId) {
+
+    private static final String DELIMITER = "|";
+
+    public static GiftMoneyCursor of(GiftMoney giftMoney) {
+        return new GiftMoneyCursor(giftMoney.getGiftDate(), giftMoney.getCreatedAt(), giftMoney.getGiftMoneyId());
+    }
+
+    public String encode() {
+        String raw = giftDate + DELIMITER + createdAt + DELIMITER + giftMoneyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 null = 첫 페이지)
+     */
+    public static GiftMoneyCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("cursor parts: " + parts.length);
+            }
+            return new GiftMoneyCursor(LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "유효하지 않은 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.marry1q.marry1qbe.domain.giftMoney.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "축의금 일괄 등록 결과")
+public class GiftMoneyImportResponse {
+    
+    @Schema(description = "읽은 데이터 행 수 (헤더 제외)", example = "120")
+    private int totalRows;
+    
+    @Schema(description = "등록된 건수", example = "118")
+    private int importedCount;
+    
+    @Schema(description = "실패한 건수", example = "2")
+    private int failedCount;
+    
+    @Schema(description = "행별 오류 목록")
+    private List<RowError> errors;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "행별 오류")
+    public static class RowError {
+        
+        @Schema(description = "CSV 파일의 줄 번호 (헤더가 1번째 줄)", example = "15")
+        private int rowNumber;
+        
+        @Schema(description = "오류 내용", example = "축의금은 최소 1,000원 이상이어야 합니다.")
+        private String message;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -25,11 +26,20 @@ public class GiftMoneyListResponse {
     @Schema(description = "페이지 크기", example = "10")
     private int pageSize;
     
-    @Schema(description = "전체 요소 개수", example = "25")
-    private long totalElements;
+    @Schema(description = "전체 요소 개수 (countMode=NONE 또는 커서 조회 시 null)", example = "25")
+    private Long totalElements;
     
-    @Schema(description = "전체 페이지 개수", example = "3")
-    private int totalPages;
+    @Schema(description = "전체 페이지 개수 (countMode=NONE 또는 커서 조회 시 null)", example = "3")
+    private Integer totalPages;
+    
+    @Schema(description = "전체 개수가 추정값인지 여부 (countMode=ESTIMATE)", example = "false")
+    private boolean totalEstimated;
+    
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+    
+    @Schema(description = "다음 페이지 커서 (커서 조회 시, 마지막 페이지면 null)")
+    private String nextCursor;
     
     @Schema(description = "마지막 페이지 여부", example = "false")
     private boolean last;
@@ -50,6 +60,44 @@ public class GiftMoneyListResponse {
                 .last(page.isLast())
                 .first(page.isFirst())
                 .numberOfElements(page.getNumberOfElements())
+                .hasNext(page.hasNext())
+                .build();
+    }
+    
+    /**
+     * 전체 개수 없이 (또는 추정 개수로) 조회한 페이지 응답
+     */
+    public static GiftMoneyListResponse from(Slice<GiftMoneyResponse> slice, Long totalElements, boolean totalEstimated) {
+        Integer totalPages = totalElements != null && slice.getSize() > 0
+                ? (int) ((totalElements + slice.getSize() - 1) / slice.getSize())
+                : null;
+        return GiftMoneyListResponse.builder()
+                .content(slice.getContent())
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .totalEstimated(totalEstimated)
+                .last(slice.isLast())
+                .first(slice.isFirst())
+                .numberOfElements(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .build();
+    }
+    
+    /**
+     * 커서 조회 응답
+     */
+    public static GiftMoneyListResponse fromCursor(Slice<GiftMoneyResponse> slice, boolean first, String nextCursor) {
+        return GiftMoneyListResponse.builder()
+                .content(slice.getContent())
+                .pageNumber(0)
+                .pageSize(slice.getSize())
+                .last(!slice.hasNext())
+                .first(first)
+                .numberOfElements(slice.getNumberOfElements())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
                 .build();
     }
 }
@@ -0,0 +1,74 @@
+package com.marry1q.marry1qbe.domain.giftMoney.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "축의금 실시간 피드 이벤트")
+public class GiftMoneyLiveEvent {
+    
+    @Schema(description = "이벤트 종류", example = "CREATED",
+            allowableValues = {"CREATED", "UPDATED", "DELETED", "IMPORTED", "SAFE_ACCOUNT_DEPOSIT"})
+    private Type type;
+    
+    @Schema(description = "축의금 ID (CREATED/UPDATED/DELETED)", example = "15")
+    private Long giftMoneyId;
+    
+    @Schema(description = "축의금 (CREATED/UPDATED)")
+    private GiftMoneyResponse giftMoney;
+    
+    @Schema(description = "안심계좌 입금 거래내역 (SAFE_ACCOUNT_DEPOSIT)")
+    private SafeAccountTransactionResponse transaction;
+    
+    @Schema(description = "일괄 등록 건수 (IMPORTED)", example = "200")
+    private Integer count;
+    
+    public enum Type {
+        CREATED, UPDATED, DELETED, IMPORTED, SAFE_ACCOUNT_DEPOSIT
+    }
+    
+    public static GiftMoneyLiveEvent created(GiftMoneyResponse giftMoney) {
+        return GiftMoneyLiveEvent.builder()
+                .type(Type.CREATED)
+                .giftMoneyId(giftMoney.getGiftMoneyId())
+                .giftMoney(giftMoney)
+                .build();
+    }
+    
+    public static GiftMoneyLiveEvent updated(GiftMoneyResponse giftMoney) {
+        return GiftMoneyLiveEvent.builder()
+                .type(Type.UPDATED)
+                .giftMoneyId(giftMoney.getGiftMoneyId())
+                .giftMoney(giftMoney)
+                .build();
+    }
+    
+    public static GiftMoneyLiveEvent deleted(Long giftMoneyId) {
+        return GiftMoneyLiveEvent.builder()
+                .type(Type.DELETED)
+                .giftMoneyId(giftMoneyId)
+                .build();
+    }
+    
+    public static GiftMoneyLiveEvent imported(int count) {
+        return GiftMoneyLiveEvent.builder()
+                .type(Type.IMPORTED)
+                .count(count)
+                .build();
+    }
+    
+    public static GiftMoneyLiveEvent safeAccountDeposit(SafeAccountTransactionResponse transaction) {
+        return GiftMoneyLiveEvent.builder()
+                .type(Type.SAFE_ACCOUNT_DEPOSIT)
+                .transaction(transaction)
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package com.marry1q.marry1qbe.domain.giftMoney.dto.response;
 
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoneyStats;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.Relationship;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -98,6 +99,9 @@ public class GiftMoneyStatisticsResponse {
     @Schema(description = "최고 후원자 축의금 ID", example = "15")
     private Long topDonorGiftMoneyId;
     
+    @Schema(description = "상위 후원자 목록 (금액 내림차순, 최대 10명)")
+    private List<TopDonor> topDonors;
+    
     // 추가 통계 정보
     @Schema(description = "평균 축의금", example = "60000")
     private BigDecimal averageAmount;
@@ -122,6 +126,28 @@ public class GiftMoneyStatisticsResponse {
     @Schema(description = "금액대별 통계 맵")
     private Map<String, AmountRangeStatistics> amountRangeStatistics;
     
+    @Schema(description = "통계 버전 (다음 조회 시 version 파라미터로 넘기면 변경이 없을 때 304)", example = "42")
+    private Long snapshotVersion;
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "상위 후원자")
+    public static class TopDonor {
+        @Schema(description = "축의금 ID", example = "15")
+        private Long giftMoneyId;
+        
+        @Schema(description = "이름", example = "김철수")
+        private String name;
+        
+        @Schema(description = "금액", example = "100000")
+        private BigDecimal amount;
+        
+        @Schema(description = "관계", example = "FAMILY")
+        private Relationship relationship;
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -189,6 +215,7 @@ public class GiftMoneyStatisticsResponse {
                 .lastGiftDate(stats.getLastGiftDate())
                 .giftDaysCount(stats.getGiftDaysCount())
                 .dailyAverageAmount(stats.getDailyAverageAmount())
+                .snapshotVersion(stats.getSnapshotVersion() != null ? stats.getSnapshotVersion() : 0L)
                 .build();
     }
     
@@ -234,6 +261,7 @@ public class GiftMoneyStatisticsResponse {
                 .lastGiftDate(null)
                 .giftDaysCount(0)
                 .dailyAverageAmount(BigDecimal.ZERO)
+                .snapshotVersion(0L)
                 .build();
     }
 }
@@ -15,7 +15,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "gift_money")
+@Table(name = "gift_money",
+        indexes = {
+                @Index(name = "idx_gift_money_couple_amount", columnList = "couple_id, amount"),
+                // 목록 정렬/커서 조회 (giftDate desc, createdAt desc, giftMoneyId desc)
+                @Index(name = "idx_gift_money_couple_list", columnList = "couple_id, gift_date, created_at, gift_money_id"),
+                @Index(name = "idx_gift_money_couple_thanks", columnList = "couple_id, thanks_sent, gift_date"),
+                @Index(name = "idx_gift_money_couple_relationship", columnList = "couple_id, relationship, gift_date"),
+                @Index(name = "idx_gift_money_couple_source", columnList = "couple_id, source, gift_date")
+        })
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "gift_money_stats")
+@Table(name = "gift_money_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_gift_money_stats_couple", columnNames = "couple_id"))
 @Data
 @Builder
 @NoArgsConstructor
@@ -132,6 +133,11 @@ public class GiftMoneyStats {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // 통계가 바뀔 때마다 1씩 증가 (통계 스냅샷 캐시와 조건부 응답의 버전)
+    @Column(name = "snapshot_version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Builder.Default
+    private Long snapshotVersion = 0L;
+    
     // 추가 통계 필드들
     @Column(name = "first_gift_date")
     private LocalDate firstGiftDate;
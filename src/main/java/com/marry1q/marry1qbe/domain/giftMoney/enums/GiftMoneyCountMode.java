@@ -0,0 +1,20 @@
+package com.marry1q.marry1qbe.domain.giftMoney.enums;
+
+/**
+ * 축의금 목록 전체 개수 산정 방식
+ */
+public enum GiftMoneyCountMode {
+    EXACT("정확한 COUNT"),
+    ESTIMATE("통계/상한 COUNT 기반 추정"),
+    NONE("개수 생략 (다음 페이지 여부만)");
+    
+    private final String displayName;
+    
+    GiftMoneyCountMode(String displayName) {
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,98 @@
+package com.marry1q.marry1qbe.domain.giftMoney.repository;
+
+import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 축의금 일괄 저장 (JDBC batch)
+ * 
+ * gift_money는 IDENTITY 키라 JPA saveAll로는 배치 INSERT가 되지 않아
+ * JdbcTemplate으로 직접 저장합니다.
+ */
+@Slf4j
+@Repository
+public class GiftMoneyBatchRepository {
+    
+    private static final String INSERT_SQL =
+            "INSERT INTO gift_money (" +
+            "name, amount, relationship, source, phone, address, memo, gift_date, " +
+            "thanks_sent, couple_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate savepointTemplate;
+    
+    public GiftMoneyBatchRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출 트랜잭션 안에서 세이브포인트로 동작 (실패 시 해당 구간만 롤백)
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+    
+    /**
+     * 일괄 저장
+     * 
+     * 배치 전체가 실패하면 세이브포인트로 되돌린 뒤 한 건씩 다시 저장해서 실패한 행만 제외합니다.
+     * MySQL 드라이버는 실패한 문장 이후의 배치도 계속 실행하므로, 되돌리지 않고 재시도하면 이미 들어간 행이 중복 저장됩니다.
+     * 
+     * @return 저장에 실패한 행 (목록 내 인덱스 → 오류 메시지)
+     */
+    public Map<Integer, String> batchInsert(List<GiftMoney> giftMonies) {
+        if (giftMonies.isEmpty()) {
+            return Map.of();
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            savepointTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, giftMonies, giftMonies.size(), (ps, giftMoney) -> bind(ps, giftMoney, now)));
+            return Map.of();
+        } catch (DataAccessException e) {
+            log.warn("축의금 배치 저장 실패 - 건별 저장으로 재시도 ({}건): {}", giftMonies.size(), e.getMessage());
+            return insertOneByOne(giftMonies, now);
+        }
+    }
+    
+    private Map<Integer, String> insertOneByOne(List<GiftMoney> giftMonies, LocalDateTime now) {
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        for (int i = 0; i < giftMonies.size(); i++) {
+            GiftMoney giftMoney = giftMonies.get(i);
+            try {
+                savepointTemplate.executeWithoutResult(status -> jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, giftMoney, now)));
+            } catch (DataAccessException e) {
+                log.error("축의금 저장 실패 - name: {}, 오류: {}", giftMoney.getName(), e.getMessage());
+                failures.put(i, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return failures;
+    }
+    
+    private void bind(PreparedStatement ps, GiftMoney giftMoney, LocalDateTime now) throws SQLException {
+        ps.setString(1, giftMoney.getName());
+        ps.setBigDecimal(2, giftMoney.getAmount());
+        ps.setString(3, giftMoney.getRelationship().name());
+        ps.setString(4, giftMoney.getSource().name());
+        ps.setString(5, giftMoney.getPhone());
+        ps.setString(6, giftMoney.getAddress());
+        ps.setString(7, giftMoney.getMemo());
+        ps.setObject(8, giftMoney.getGiftDate());
+        ps.setBoolean(9, Boolean.TRUE.equals(giftMoney.getThanksSent()));
+        ps.setLong(10, giftMoney.getCoupleId());
+        ps.setTimestamp(11, Timestamp.valueOf(now));
+        ps.setTimestamp(12, Timestamp.valueOf(now));
+    }
+}
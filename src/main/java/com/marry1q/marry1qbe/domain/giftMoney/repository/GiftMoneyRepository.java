@@ -19,6 +19,10 @@ public interface GiftMoneyRepository extends JpaRepository<GiftMoney, Long>, Gif
     // 커플별 축의금 개수 조회
     long countByCoupleId(Long coupleId);
     
+    // 축의금이 있는 커플 ID 목록 (통계 정합성 점검용)
+    @Query("SELECT DISTINCT g.coupleId FROM GiftMoney g")
+    List<Long> findDistinctCoupleIds();
+    
     // 커플별 총 축의금 금액 조회
     @Query("SELECT COALESCE(SUM(g.amount), 0) FROM GiftMoney g WHERE g.coupleId = :coupleId")
     BigDecimal sumAmountByCoupleId(@Param("coupleId") Long coupleId);
@@ -1,11 +1,15 @@
 package com.marry1q.marry1qbe.domain.giftMoney.repository;
 
+import com.marry1q.marry1qbe.domain.giftMoney.dto.request.GiftMoneyCursor;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyStatisticsResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoneyStats;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface GiftMoneyRepositoryCustom {
     
@@ -23,6 +27,49 @@ public interface GiftMoneyRepositoryCustom {
             Pageable pageable
     );
     
+    /**
+     * 필터링 조건을 포함한 축의금 목록 조회 (전체 개수 COUNT 없이 다음 페이지 여부만 판단)
+     */
+    Slice<GiftMoney> findGiftMoneySliceWithFilters(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId,
+            Pageable pageable
+    );
+    
+    /**
+     * 필터링 조건을 포함한 축의금 목록 커서 조회 (cursor 다음 행부터 size건, cursor가 null이면 처음부터)
+     */
+    Slice<GiftMoney> findGiftMoneyWithFiltersAfter(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId,
+            GiftMoneyCursor cursor,
+            int size
+    );
+    
+    /**
+     * 필터링 조건에 맞는 축의금 개수 (최대 limit건까지만 셈)
+     */
+    long countGiftMoneyWithFiltersUpTo(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId,
+            long limit
+    );
+    
     /**
      * 축의금 통계 계산 및 업데이트
      */
@@ -33,6 +80,11 @@ public interface GiftMoneyRepositoryCustom {
      */
     void updateStatisticsIncrementallyForCreate(Long coupleId, GiftMoney giftMoney);
     
+    /**
+     * 축의금 통계 증분 업데이트 (일괄 생성, 여러 건을 하나의 차이로 반영)
+     */
+    void updateStatisticsIncrementallyForCreate(Long coupleId, List<GiftMoney> giftMonies);
+    
     /**
      * 축의금 통계 증분 업데이트 (수정)
      */
@@ -42,4 +94,9 @@ public interface GiftMoneyRepositoryCustom {
      * 축의금 통계 증분 업데이트 (삭제)
      */
     void updateStatisticsIncrementallyForDelete(Long coupleId, GiftMoney giftMoney);
+    
+    /**
+     * 축의금 상위 후원자 목록 (금액 내림차순)
+     */
+    List<GiftMoneyStatisticsResponse.TopDonor> findTopDonors(Long coupleId, int limit);
 }
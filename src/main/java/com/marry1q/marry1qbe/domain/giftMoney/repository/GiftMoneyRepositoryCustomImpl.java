@@ -1,24 +1,38 @@
 package com.marry1q.marry1qbe.domain.giftMoney.repository;
 
+import com.marry1q.marry1qbe.domain.giftMoney.dto.request.GiftMoneyCursor;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyStatisticsResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoneyStats;
 import com.marry1q.marry1qbe.domain.giftMoney.enums.Relationship;
 import com.marry1q.marry1qbe.domain.giftMoney.enums.Source;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static com.marry1q.marry1qbe.domain.giftMoney.entity.QGiftMoney.giftMoney;
 import static com.marry1q.marry1qbe.domain.giftMoney.entity.QGiftMoneyStats.giftMoneyStats;
@@ -35,8 +49,93 @@ public class GiftMoneyRepositoryCustomImpl implements GiftMoneyRepositoryCustom
     private static final BigDecimal AMOUNT_200K = new BigDecimal("200000");
     private static final BigDecimal AMOUNT_500K = new BigDecimal("500000");
     
+    // APPLY_DELTA_SQL의 관계별 컬럼 순서
+    private static final List<Relationship> RELATIONSHIP_COLUMN_ORDER = List.of(
+            Relationship.FAMILY, Relationship.RELATIVE, Relationship.FRIEND,
+            Relationship.COLLEAGUE, Relationship.ACQUAINTANCE, Relationship.OTHER);
+    
+    // MySQL은 SET 절을 왼쪽부터 평가하므로 날짜/일평균은 앞에서 갱신된 값을 기준으로 계산됨
+    private static final String APPLY_DELTA_SQL = """
+            UPDATE gift_money_stats SET
+                total_amount = total_amount + ?,
+                total_count = total_count + ?,
+                thanks_not_sent_count = thanks_not_sent_count + ?,
+                family_amount = family_amount + ?, family_count = family_count + ?,
+                relative_amount = relative_amount + ?, relative_count = relative_count + ?,
+                friend_amount = friend_amount + ?, friend_count = friend_count + ?,
+                colleague_amount = colleague_amount + ?, colleague_count = colleague_count + ?,
+                acquaintance_amount = acquaintance_amount + ?, acquaintance_count = acquaintance_count + ?,
+                other_amount = other_amount + ?, other_count = other_count + ?,
+                amount_under_30k_count = amount_under_30k_count + ?,
+                amount_30k_to_50k_count = amount_30k_to_50k_count + ?,
+                amount_50k_to_100k_count = amount_50k_to_100k_count + ?,
+                amount_100k_to_200k_count = amount_100k_to_200k_count + ?,
+                amount_200k_to_500k_count = amount_200k_to_500k_count + ?,
+                amount_over_500k_count = amount_over_500k_count + ?,
+                first_gift_date = CASE WHEN ? IS NOT NULL AND (first_gift_date IS NULL OR first_gift_date > ?)
+                                       THEN ? ELSE first_gift_date END,
+                last_gift_date = CASE WHEN ? IS NOT NULL AND (last_gift_date IS NULL OR last_gift_date < ?)
+                                      THEN ? ELSE last_gift_date END,
+                gift_days_count = CASE WHEN first_gift_date IS NOT NULL AND last_gift_date IS NOT NULL
+                                       THEN DATEDIFF(last_gift_date, first_gift_date) + 1 ELSE gift_days_count END,
+                daily_average_amount = CASE WHEN gift_days_count > 0
+                                            THEN ROUND(total_amount / gift_days_count) ELSE daily_average_amount END,
+                snapshot_version = snapshot_version + 1,
+                updated_at = NOW()
+            WHERE couple_id = ?
+            """;
+    
+    // 삭제/날짜 변경 후 첫/마지막 날짜를 원본에서 다시 계산 ((couple_id, gift_date, ...) 인덱스의 양 끝만 읽음)
+    // 파라미터: 제외할 축의금 ID(삭제 대상 또는 변경 전 행), 포함할 날짜(변경 후 날짜, 삭제 시 null)
+    private static final String RECALCULATE_GIFT_DATES_SQL = """
+            UPDATE gift_money_stats SET
+                first_gift_date = (SELECT MIN(d) FROM (
+                        SELECT MIN(gift_date) AS d FROM gift_money WHERE couple_id = ? AND gift_money_id <> ?
+                        UNION ALL SELECT ?) first_dates),
+                last_gift_date = (SELECT MAX(d) FROM (
+                        SELECT MAX(gift_date) AS d FROM gift_money WHERE couple_id = ? AND gift_money_id <> ?
+                        UNION ALL SELECT ?) last_dates),
+                gift_days_count = CASE WHEN first_gift_date IS NOT NULL AND last_gift_date IS NOT NULL
+                                       THEN DATEDIFF(last_gift_date, first_gift_date) + 1 ELSE NULL END,
+                daily_average_amount = CASE WHEN gift_days_count > 0
+                                            THEN ROUND(total_amount / gift_days_count) ELSE 0 END,
+                snapshot_version = snapshot_version + 1,
+                updated_at = NOW()
+            WHERE couple_id = ?
+            """;
+    
+    // couple_id 유니크 키 기준, 동시에 생성해도 한 행만 만들어짐
+    private static final String INSERT_EMPTY_STATS_SQL = """
+            INSERT IGNORE INTO gift_money_stats (
+                couple_id, total_amount, total_count, thanks_not_sent_count,
+                family_amount, family_count, relative_amount, relative_count, friend_amount, friend_count,
+                colleague_amount, colleague_count, acquaintance_amount, acquaintance_count, other_amount, other_count,
+                amount_under_30k_count, amount_30k_to_50k_count, amount_50k_to_100k_count,
+                amount_100k_to_200k_count, amount_200k_to_500k_count, amount_over_500k_count,
+                top_donor_amount, daily_average_amount, snapshot_version, created_at, updated_at)
+            VALUES (?, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, NOW(), NOW())
+            """;
+    
+    private static final String UPDATE_TOP_DONOR_IF_GREATER_SQL = """
+            UPDATE gift_money_stats
+            SET top_donor_name = ?, top_donor_amount = ?, top_donor_gift_money_id = ?,
+                snapshot_version = snapshot_version + 1, updated_at = NOW()
+            WHERE couple_id = ? AND (top_donor_amount IS NULL OR top_donor_gift_money_id IS NULL OR top_donor_amount < ?)
+            """;
+    
+    private static final String SELECT_TOP_DONOR_ID_SQL =
+            "SELECT top_donor_gift_money_id FROM gift_money_stats WHERE couple_id = ?";
+    
+    private static final String UPDATE_TOP_DONOR_SQL = """
+            UPDATE gift_money_stats
+            SET top_donor_name = ?, top_donor_amount = ?, top_donor_gift_money_id = ?,
+                snapshot_version = snapshot_version + 1, updated_at = NOW()
+            WHERE couple_id = ?
+            """;
+    
     private final JPAQueryFactory queryFactory;
     private final GiftMoneyStatsRepository giftMoneyStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
     
     @Override
     public Page<GiftMoney> findGiftMoneyWithFilters(
@@ -49,6 +148,120 @@ public class GiftMoneyRepositoryCustomImpl implements GiftMoneyRepositoryCustom
             Long coupleId,
             Pageable pageable) {
         
+        BooleanBuilder whereClause = buildFilterClause(name, relationship, source, startDate, endDate, thanksSent, coupleId);
+        
+        // 전체 개수 조회
+        Long total = queryFactory
+                .select(giftMoney.count())
+                .from(giftMoney)
+                .where(whereClause)
+                .fetchOne();
+        
+        // 페이징된 데이터 조회
+        List<GiftMoney> content = queryFactory
+                .selectFrom(giftMoney)
+                .where(whereClause)
+                .orderBy(listOrder())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+        
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+    
+    @Override
+    public Slice<GiftMoney> findGiftMoneySliceWithFilters(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId,
+            Pageable pageable) {
+        
+        BooleanBuilder whereClause = buildFilterClause(name, relationship, source, startDate, endDate, thanksSent, coupleId);
+        
+        // COUNT 없이 한 건 더 조회해서 다음 페이지 여부만 판단
+        List<GiftMoney> content = queryFactory
+                .selectFrom(giftMoney)
+                .where(whereClause)
+                .orderBy(listOrder())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+        
+        return toSlice(content, pageable);
+    }
+    
+    @Override
+    public Slice<GiftMoney> findGiftMoneyWithFiltersAfter(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId,
+            GiftMoneyCursor cursor,
+            int size) {
+        
+        BooleanBuilder whereClause = buildFilterClause(name, relationship, source, startDate, endDate, thanksSent, coupleId);
+        
+        // 키셋 조건: (giftDate, createdAt, giftMoneyId) 가 커서보다 뒤인 행 (정렬이 모두 내림차순)
+        if (cursor != null) {
+            whereClause.and(giftMoney.giftDate.lt(cursor.giftDate())
+                    .or(giftMoney.giftDate.eq(cursor.giftDate())
+                            .and(giftMoney.createdAt.lt(cursor.createdAt())
+                                    .or(giftMoney.createdAt.eq(cursor.createdAt())
+                                            .and(giftMoney.giftMoneyId.lt(cursor.giftMoneyId()))))));
+        }
+        
+        List<GiftMoney> content = queryFactory
+                .selectFrom(giftMoney)
+                .where(whereClause)
+                .orderBy(listOrder())
+                .limit(size + 1L)
+                .fetch();
+        
+        return toSlice(content, PageRequest.of(0, size));
+    }
+    
+    @Override
+    public long countGiftMoneyWithFiltersUpTo(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId,
+            long limit) {
+        
+        BooleanBuilder whereClause = buildFilterClause(name, relationship, source, startDate, endDate, thanksSent, coupleId);
+        
+        // 인덱스의 ID만 최대 limit건까지 읽어서 개수 산정 (전체 COUNT 대신)
+        return queryFactory
+                .select(giftMoney.giftMoneyId)
+                .from(giftMoney)
+                .where(whereClause)
+                .limit(limit)
+                .fetch()
+                .size();
+    }
+    
+    /**
+     * 목록 필터 조건 생성
+     */
+    private BooleanBuilder buildFilterClause(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId) {
+        
         BooleanBuilder whereClause = new BooleanBuilder();
         
         // 커플 ID 필터 (필수)
@@ -92,82 +305,103 @@ public class GiftMoneyRepositoryCustomImpl implements GiftMoneyRepositoryCustom
             whereClause.and(giftMoney.thanksSent.eq(thanksSent));
         }
         
-        // 전체 개수 조회
-        long total = queryFactory
-                .selectFrom(giftMoney)
-                .where(whereClause)
-                .fetchCount();
-        
-        // 페이징된 데이터 조회
-        List<GiftMoney> content = queryFactory
-                .selectFrom(giftMoney)
-                .where(whereClause)
-                .orderBy(giftMoney.giftDate.desc(), giftMoney.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-        
-        return new PageImpl<>(content, pageable, total);
+        return whereClause;
+    }
+    
+    /**
+     * 목록 정렬 (giftMoneyId를 마지막 기준으로 두어 순서가 항상 결정되도록 함)
+     */
+    private static OrderSpecifier<?>[] listOrder() {
+        return new OrderSpecifier<?>[] {
+                giftMoney.giftDate.desc(), giftMoney.createdAt.desc(), giftMoney.giftMoneyId.desc()
+        };
+    }
+    
+    private static Slice<GiftMoney> toSlice(List<GiftMoney> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        List<GiftMoney> pageContent = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+        return new SliceImpl<>(pageContent, pageable, hasNext);
     }
     
     @Override
     @Transactional
     public GiftMoneyStats calculateAndUpdateStatistics(Long coupleId) {
-        // 기존 통계 조회 또는 새로 생성
-        GiftMoneyStats stats = giftMoneyStatsRepository.findByCoupleId(coupleId)
-                .orElse(GiftMoneyStats.builder().coupleId(coupleId).build());
+        long startTime = System.currentTimeMillis();
         
-        // 전체 통계 계산
-        BigDecimal totalAmount = queryFactory
-                .select(giftMoney.amount.sum().coalesce(BigDecimal.ZERO))
-                .from(giftMoney)
-                .where(giftMoney.coupleId.eq(coupleId))
-                .fetchOne();
-        
-        Long totalCount = queryFactory
-                .select(giftMoney.count())
+        // 기존 통계 조회 또는 새로 생성 (행 잠금: 집계 중 들어온 증분은 재계산 커밋 후 반영)
+        GiftMoneyStats stats = giftMoneyStatsRepository.findByCoupleIdForUpdate(coupleId)
+                .orElse(GiftMoneyStats.builder().coupleId(coupleId).build());
+        List<Object> previousValues = statValues(stats);
+        
+        // 관계별 1회 집계 (엔티티 로딩 없이 합계/건수/감사 미발송/금액대/날짜 범위를 한 번에 계산)
+        NumberExpression<BigDecimal> amountSum = giftMoney.amount.sum().coalesce(BigDecimal.ZERO);
+        NumberExpression<Long> count = giftMoney.count();
+        NumberExpression<Long> thanksNotSent = countWhere(giftMoney.thanksSent.eq(false));
+        NumberExpression<Long> under30k = countWhere(giftMoney.amount.lt(AMOUNT_30K));
+        NumberExpression<Long> amount30kTo50k = countWhere(giftMoney.amount.goe(AMOUNT_30K).and(giftMoney.amount.lt(AMOUNT_50K)));
+        NumberExpression<Long> amount50kTo100k = countWhere(giftMoney.amount.goe(AMOUNT_50K).and(giftMoney.amount.lt(AMOUNT_100K)));
+        NumberExpression<Long> amount100kTo200k = countWhere(giftMoney.amount.goe(AMOUNT_100K).and(giftMoney.amount.lt(AMOUNT_200K)));
+        NumberExpression<Long> amount200kTo500k = countWhere(giftMoney.amount.goe(AMOUNT_200K).and(giftMoney.amount.loe(AMOUNT_500K)));
+        NumberExpression<Long> amountOver500k = countWhere(giftMoney.amount.gt(AMOUNT_500K));
+        
+        List<Tuple> rows = queryFactory
+                .select(giftMoney.relationship, amountSum, count, thanksNotSent,
+                        under30k, amount30kTo50k, amount50kTo100k, amount100kTo200k, amount200kTo500k, amountOver500k,
+                        giftMoney.giftDate.min(), giftMoney.giftDate.max())
                 .from(giftMoney)
                 .where(giftMoney.coupleId.eq(coupleId))
-                .fetchOne();
-        
-        Long thanksNotSentCount = queryFactory
-                .select(giftMoney.count())
-                .from(giftMoney)
-                .where(giftMoney.coupleId.eq(coupleId)
-                        .and(giftMoney.thanksSent.eq(false)))
-                .fetchOne();
-        
-                            // 관계별 통계 계산
-                    List<Tuple> relationshipStats = queryFactory
-                            .select(giftMoney.relationship, giftMoney.amount.sum().coalesce(BigDecimal.ZERO), giftMoney.count())
-                            .from(giftMoney)
-                            .where(giftMoney.coupleId.eq(coupleId))
-                            .groupBy(giftMoney.relationship)
-                            .fetch();
+                .groupBy(giftMoney.relationship)
+                .fetch();
         
-        // 통계 업데이트
-        stats.setTotalAmount(totalAmount);
-        stats.setTotalCount(totalCount.intValue());
-        stats.setThanksNotSentCount(thanksNotSentCount.intValue());
+        // 관계별 통계 초기화 후 행 단위로 누적 (최대 관계 종류 수만큼의 행)
+        resetStats(stats);
+        LocalDate firstGiftDate = null;
+        LocalDate lastGiftDate = null;
+        for (Tuple row : rows) {
+            BigDecimal amount = row.get(amountSum);
+            int rowCount = orZero(row.get(count));
+            
+            stats.addAmount(amount);
+            stats.setTotalCount(stats.getTotalCount() + rowCount);
+            stats.setThanksNotSentCount(stats.getThanksNotSentCount() + orZero(row.get(thanksNotSent)));
+            updateRelationshipStatsIncrementally(stats, row.get(giftMoney.relationship), amount, rowCount);
+            
+            stats.setAmountUnder30kCount(stats.getAmountUnder30kCount() + orZero(row.get(under30k)));
+            stats.setAmount30kTo50kCount(stats.getAmount30kTo50kCount() + orZero(row.get(amount30kTo50k)));
+            stats.setAmount50kTo100kCount(stats.getAmount50kTo100kCount() + orZero(row.get(amount50kTo100k)));
+            stats.setAmount100kTo200kCount(stats.getAmount100kTo200kCount() + orZero(row.get(amount100kTo200k)));
+            stats.setAmount200kTo500kCount(stats.getAmount200kTo500kCount() + orZero(row.get(amount200kTo500k)));
+            stats.setAmountOver500kCount(stats.getAmountOver500kCount() + orZero(row.get(amountOver500k)));
+            
+            LocalDate minDate = row.get(giftMoney.giftDate.min());
+            LocalDate maxDate = row.get(giftMoney.giftDate.max());
+            if (minDate != null && (firstGiftDate == null || minDate.isBefore(firstGiftDate))) {
+                firstGiftDate = minDate;
+            }
+            if (maxDate != null && (lastGiftDate == null || maxDate.isAfter(lastGiftDate))) {
+                lastGiftDate = maxDate;
+            }
+        }
         
-        // 관계별 통계 업데이트
-        updateRelationshipStats(stats, relationshipStats);
+        // 날짜 통계 업데이트
+        stats.setFirstGiftDate(firstGiftDate);
+        stats.setLastGiftDate(lastGiftDate);
+        stats.setGiftDaysCount(null);
+        stats.setDailyAverageAmount(BigDecimal.ZERO);
+        stats.calculateGiftDays();
+        stats.calculateDailyAverage();
         
         // 최고 후원자 조회
-        GiftMoney topDonor = queryFactory
-                .selectFrom(giftMoney)
-                .where(giftMoney.coupleId.eq(coupleId))
-                .orderBy(giftMoney.amount.desc())
-                .fetchFirst();
+        recalculateTopDonor(stats, coupleId);
         
-        if (topDonor != null) {
-            stats.setTopDonorName(topDonor.getName());
-            stats.setTopDonorAmount(topDonor.getAmount());
-            stats.setTopDonorGiftMoneyId(topDonor.getGiftMoneyId());
+        // 값이 바뀐 경우에만 버전 증가 (그대로면 UPDATE 도 나가지 않고 클라이언트 캐시/ETag 유지)
+        boolean changed = stats.getGiftMoneyStatsId() == null || !statValues(stats).equals(previousValues);
+        if (changed) {
+            stats.setSnapshotVersion((stats.getSnapshotVersion() != null ? stats.getSnapshotVersion() : 0L) + 1);
         }
         
-        // 금액대별 통계 계산
-        updateAmountRangeStats(stats, coupleId);
+        log.debug("축의금 통계 재계산 완료 - coupleId: {}, 건수: {}, 변경: {}, 소요시간: {}ms",
+                coupleId, stats.getTotalCount(), changed, System.currentTimeMillis() - startTime);
         
         return giftMoneyStatsRepository.save(stats);
     }
@@ -175,96 +409,137 @@ public class GiftMoneyRepositoryCustomImpl implements GiftMoneyRepositoryCustom
     @Override
     @Transactional
     public void updateStatisticsIncrementallyForCreate(Long coupleId, GiftMoney giftMoney) {
-        GiftMoneyStats stats = giftMoneyStatsRepository.findByCoupleId(coupleId)
-                .orElse(GiftMoneyStats.builder().coupleId(coupleId).build());
-        
-        // 기본 통계 업데이트
-        stats.addAmount(giftMoney.getAmount());
-        stats.incrementCount();
-        
-        if (!giftMoney.getThanksSent()) {
-            stats.incrementThanksNotSentCount();
+        StatsDelta delta = new StatsDelta();
+        delta.add(giftMoney, 1);
+        delta.includeGiftDate(giftMoney.getGiftDate());
+        applyDelta(coupleId, delta);
+        
+        // 최고 후원자 업데이트 (현재 값보다 클 때만, 조건부 UPDATE라 동시 요청에도 큰 값이 남음)
+        jdbcTemplate.update(UPDATE_TOP_DONOR_IF_GREATER_SQL,
+                giftMoney.getName(), giftMoney.getAmount(), giftMoney.getGiftMoneyId(), coupleId, giftMoney.getAmount());
+    }
+    
+    @Override
+    @Transactional
+    public void updateStatisticsIncrementallyForCreate(Long coupleId, List<GiftMoney> giftMonies) {
+        if (giftMonies.isEmpty()) {
+            return;
         }
         
-        // 관계별 통계 업데이트
-        updateRelationshipStatsIncrementally(stats, giftMoney.getRelationship(), giftMoney.getAmount(), 1);
-        
-        // 금액대별 통계 업데이트
-        updateAmountRangeStatsIncrementally(stats, giftMoney.getAmount(), 1);
-        
-        // 최고 후원자 업데이트
-        updateTopDonorIfNeeded(stats, giftMoney);
-        
-        // 날짜 통계 업데이트
-        stats.updateDateStats(giftMoney.getGiftDate());
-        stats.calculateDailyAverage();
+        // 배치 전체를 하나의 차이로 합쳐 통계 행은 한 번만 갱신
+        StatsDelta delta = new StatsDelta();
+        for (GiftMoney gift : giftMonies) {
+            delta.add(gift, 1);
+            delta.includeGiftDate(gift.getGiftDate());
+        }
+        applyDelta(coupleId, delta);
         
-        giftMoneyStatsRepository.save(stats);
+        // 배치 INSERT는 생성 ID를 돌려주지 않으므로 (couple_id, amount) 인덱스로 최고 후원자를 다시 찾음
+        applyTopDonor(coupleId, null);
     }
     
     @Override
     @Transactional
     public void updateStatisticsIncrementallyForUpdate(Long coupleId, GiftMoney oldGiftMoney, GiftMoney newGiftMoney) {
-        GiftMoneyStats stats = giftMoneyStatsRepository.findByCoupleId(coupleId)
-                .orElse(GiftMoneyStats.builder().coupleId(coupleId).build());
-        
-        // 금액 차이 계산
-        BigDecimal amountDiff = newGiftMoney.getAmount().subtract(oldGiftMoney.getAmount());
-        stats.addAmount(amountDiff);
-        
-        // 감사 연락 상태 변경 처리
-        if (oldGiftMoney.getThanksSent() && !newGiftMoney.getThanksSent()) {
-            stats.incrementThanksNotSentCount();
-        } else if (!oldGiftMoney.getThanksSent() && newGiftMoney.getThanksSent()) {
-            stats.decrementThanksNotSentCount();
+        // 기존 값 제거 + 새 값 반영 (관계/금액대/감사 연락 상태 변경이 모두 차이로 계산됨)
+        StatsDelta delta = new StatsDelta();
+        delta.add(oldGiftMoney, -1);
+        delta.add(newGiftMoney, 1);
+        applyDelta(coupleId, delta);
+        
+        // 날짜가 바뀌면 기존 날짜가 첫/마지막 날짜였을 수 있으므로 원본에서 다시 계산
+        if (!newGiftMoney.getGiftDate().equals(oldGiftMoney.getGiftDate())) {
+            recalculateGiftDates(coupleId, newGiftMoney.getGiftMoneyId(), newGiftMoney.getGiftDate());
         }
         
-        // 관계 변경 처리
-        if (!oldGiftMoney.getRelationship().equals(newGiftMoney.getRelationship())) {
-            updateRelationshipStatsIncrementally(stats, oldGiftMoney.getRelationship(), oldGiftMoney.getAmount(), -1);
-            updateRelationshipStatsIncrementally(stats, newGiftMoney.getRelationship(), newGiftMoney.getAmount(), 1);
+        // 최고 후원자 갱신 (현재 최고 후원자의 금액이 줄어든 경우에만 전체 재계산)
+        Long topDonorGiftMoneyId = findCurrentTopDonorGiftMoneyId(coupleId);
+        if (!newGiftMoney.getGiftMoneyId().equals(topDonorGiftMoneyId)) {
+            jdbcTemplate.update(UPDATE_TOP_DONOR_IF_GREATER_SQL, newGiftMoney.getName(), newGiftMoney.getAmount(),
+                    newGiftMoney.getGiftMoneyId(), coupleId, newGiftMoney.getAmount());
+        } else if (newGiftMoney.getAmount().compareTo(oldGiftMoney.getAmount()) >= 0) {
+            jdbcTemplate.update(UPDATE_TOP_DONOR_SQL, newGiftMoney.getName(), newGiftMoney.getAmount(),
+                    newGiftMoney.getGiftMoneyId(), coupleId);
         } else {
-            // 같은 관계인 경우 금액 차이만 반영
-            updateRelationshipStatsIncrementally(stats, newGiftMoney.getRelationship(), amountDiff, 0);
+            applyTopDonor(coupleId, null);
         }
-        
-        // 금액대별 통계 업데이트
-        updateAmountRangeStatsIncrementally(stats, oldGiftMoney.getAmount(), -1);
-        updateAmountRangeStatsIncrementally(stats, newGiftMoney.getAmount(), 1);
-        
-        // 최고 후원자 재계산
-        recalculateTopDonor(stats, coupleId);
-        
-        giftMoneyStatsRepository.save(stats);
     }
     
     @Override
     @Transactional
     public void updateStatisticsIncrementallyForDelete(Long coupleId, GiftMoney giftMoney) {
-        GiftMoneyStats stats = giftMoneyStatsRepository.findByCoupleId(coupleId)
-                .orElse(GiftMoneyStats.builder().coupleId(coupleId).build());
+        StatsDelta delta = new StatsDelta();
+        delta.add(giftMoney, -1);
+        applyDelta(coupleId, delta);
         
-        // 기본 통계 업데이트
-        stats.subtractAmount(giftMoney.getAmount());
-        stats.decrementCount();
+        // 첫/마지막 날짜 축의금이 삭제될 수 있으므로 원본에서 다시 계산 (삭제 전에 호출되므로 해당 축의금은 제외)
+        recalculateGiftDates(coupleId, giftMoney.getGiftMoneyId(), null);
         
-        if (!giftMoney.getThanksSent()) {
-            stats.decrementThanksNotSentCount();
+        // 최고 후원자가 삭제되는 경우에만 재계산 (삭제 전에 호출되므로 해당 축의금은 제외)
+        if (giftMoney.getGiftMoneyId().equals(findCurrentTopDonorGiftMoneyId(coupleId))) {
+            applyTopDonor(coupleId, giftMoney.getGiftMoneyId());
         }
-        
-        // 관계별 통계 업데이트
-        updateRelationshipStatsIncrementally(stats, giftMoney.getRelationship(), giftMoney.getAmount(), -1);
-        
-        // 금액대별 통계 업데이트
-        updateAmountRangeStatsIncrementally(stats, giftMoney.getAmount(), -1);
-        
-        // 최고 후원자 재계산
-        recalculateTopDonor(stats, coupleId);
-        
-        giftMoneyStatsRepository.save(stats);
     }
     
-                    private void updateRelationshipStats(GiftMoneyStats stats, List<Tuple> relationshipStats) {
+    @Override
+    public List<GiftMoneyStatisticsResponse.TopDonor> findTopDonors(Long coupleId, int limit) {
+        // (couple_id, amount) 인덱스를 역순으로 읽고 limit 건에서 멈춤
+        return queryFactory
+                .select(Projections.fields(GiftMoneyStatisticsResponse.TopDonor.class,
+                        giftMoney.giftMoneyId, giftMoney.name, giftMoney.amount, giftMoney.relationship))
+                .from(giftMoney)
+                .where(giftMoney.coupleId.eq(coupleId))
+                .orderBy(giftMoney.amount.desc(), giftMoney.giftMoneyId.desc())
+                .limit(limit)
+                .fetch();
+    }
+    
+    /**
+     * 통계 차이를 단일 UPDATE로 반영 (col = col + ?)
+     * 
+     * 엔티티를 읽고 저장하지 않으므로 동시에 기록해도 증분이 유실되지 않습니다.
+     * 통계 행이 없으면 0으로 초기화된 행을 만든 뒤 다시 반영합니다.
+     */
+    private void applyDelta(Long coupleId, StatsDelta delta) {
+        Object[] args = delta.toSqlArgs(coupleId);
+        if (jdbcTemplate.update(APPLY_DELTA_SQL, args) == 0) {
+            jdbcTemplate.update(INSERT_EMPTY_STATS_SQL, coupleId);
+            jdbcTemplate.update(APPLY_DELTA_SQL, args);
+        }
+    }
+    
+    /**
+     * 첫/마지막 날짜, 일수, 일평균 재계산 (excludedGiftMoneyId 는 제외하고 includedGiftDate 는 포함)
+     * 
+     * 변경 내용이 아직 flush 되지 않았을 수 있어서 대상 행은 DB 값 대신 파라미터로 반영합니다.
+     */
+    private void recalculateGiftDates(Long coupleId, Long excludedGiftMoneyId, LocalDate includedGiftDate) {
+        jdbcTemplate.update(RECALCULATE_GIFT_DATES_SQL,
+                coupleId, excludedGiftMoneyId, includedGiftDate,
+                coupleId, excludedGiftMoneyId, includedGiftDate,
+                coupleId);
+    }
+    
+    private Long findCurrentTopDonorGiftMoneyId(Long coupleId) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_TOP_DONOR_ID_SQL, Long.class, coupleId);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+    
+    private void applyTopDonor(Long coupleId, Long excludedGiftMoneyId) {
+        Tuple topDonor = findTopDonor(coupleId, excludedGiftMoneyId);
+        if (topDonor != null) {
+            jdbcTemplate.update(UPDATE_TOP_DONOR_SQL,
+                    topDonor.get(giftMoney.name), topDonor.get(giftMoney.amount), topDonor.get(giftMoney.giftMoneyId), coupleId);
+        } else {
+            jdbcTemplate.update(UPDATE_TOP_DONOR_SQL, null, BigDecimal.ZERO, null, coupleId);
+        }
+    }
+    
+    private void resetStats(GiftMoneyStats stats) {
+        stats.setTotalAmount(BigDecimal.ZERO);
+        stats.setTotalCount(0);
+        stats.setThanksNotSentCount(0);
+        
         // 모든 관계별 통계 초기화
         stats.setFamilyAmount(BigDecimal.ZERO);
         stats.setFamilyCount(0);
@@ -279,39 +554,22 @@ public class GiftMoneyRepositoryCustomImpl implements GiftMoneyRepositoryCustom
         stats.setOtherAmount(BigDecimal.ZERO);
         stats.setOtherCount(0);
         
-                            // 관계별 통계 설정
-                    for (Tuple result : relationshipStats) {
-                        Relationship relationship = result.get(giftMoney.relationship);
-                        BigDecimal amount = result.get(giftMoney.amount.sum().coalesce(BigDecimal.ZERO));
-                        Long count = result.get(giftMoney.count());
-            
-            switch (relationship) {
-                case FAMILY:
-                    stats.setFamilyAmount(amount);
-                    stats.setFamilyCount(count.intValue());
-                    break;
-                case RELATIVE:
-                    stats.setRelativeAmount(amount);
-                    stats.setRelativeCount(count.intValue());
-                    break;
-                case FRIEND:
-                    stats.setFriendAmount(amount);
-                    stats.setFriendCount(count.intValue());
-                    break;
-                case COLLEAGUE:
-                    stats.setColleagueAmount(amount);
-                    stats.setColleagueCount(count.intValue());
-                    break;
-                case ACQUAINTANCE:
-                    stats.setAcquaintanceAmount(amount);
-                    stats.setAcquaintanceCount(count.intValue());
-                    break;
-                case OTHER:
-                    stats.setOtherAmount(amount);
-                    stats.setOtherCount(count.intValue());
-                    break;
-            }
-        }
+        // 모든 금액대별 통계 초기화
+        stats.setAmountUnder30kCount(0);
+        stats.setAmount30kTo50kCount(0);
+        stats.setAmount50kTo100kCount(0);
+        stats.setAmount100kTo200kCount(0);
+        stats.setAmount200kTo500kCount(0);
+        stats.setAmountOver500kCount(0);
+    }
+    
+    // 조건을 만족하는 행 수 (SUM(CASE WHEN ... THEN 1 ELSE 0 END))
+    private static NumberExpression<Long> countWhere(Predicate condition) {
+        return new CaseBuilder().when(condition).then(1L).otherwise(0L).sum();
+    }
+    
+    private static int orZero(Long value) {
+        return value != null ? value.intValue() : 0;
     }
     
     private void updateRelationshipStatsIncrementally(GiftMoneyStats stats, Relationship relationship, BigDecimal amount, int countDiff) {
@@ -343,115 +601,166 @@ public class GiftMoneyRepositoryCustomImpl implements GiftMoneyRepositoryCustom
         }
     }
     
-                    // 금액 범위 판별을 위한 공통 조건 함수들
-    private boolean isAmountUnder30k(BigDecimal amount) {
+    // 금액 범위 판별을 위한 공통 조건 함수들 (calculateAndUpdateStatistics의 CASE 구간과 동일)
+    private static boolean isAmountUnder30k(BigDecimal amount) {
         return amount != null && amount.compareTo(AMOUNT_30K) < 0;
     }
     
-    private boolean isAmount30kTo50k(BigDecimal amount) {
+    private static boolean isAmount30kTo50k(BigDecimal amount) {
         return amount != null && 
                amount.compareTo(AMOUNT_30K) >= 0 && 
                amount.compareTo(AMOUNT_50K) < 0;
     }
     
-    private boolean isAmount50kTo100k(BigDecimal amount) {
+    private static boolean isAmount50kTo100k(BigDecimal amount) {
         return amount != null && 
                amount.compareTo(AMOUNT_50K) >= 0 && 
                amount.compareTo(AMOUNT_100K) < 0;
     }
     
-    private boolean isAmount100kTo200k(BigDecimal amount) {
+    private static boolean isAmount100kTo200k(BigDecimal amount) {
         return amount != null && 
                amount.compareTo(AMOUNT_100K) >= 0 && 
                amount.compareTo(AMOUNT_200K) < 0;
     }
     
-    private boolean isAmount200kTo500k(BigDecimal amount) {
+    private static boolean isAmount200kTo500k(BigDecimal amount) {
         return amount != null && 
                amount.compareTo(AMOUNT_200K) >= 0 && 
                amount.compareTo(AMOUNT_500K) <= 0;
     }
     
-    private boolean isAmountOver500k(BigDecimal amount) {
+    private static boolean isAmountOver500k(BigDecimal amount) {
         return amount != null && amount.compareTo(AMOUNT_500K) > 0;
     }
 
-                    private void updateAmountRangeStats(GiftMoneyStats stats, Long coupleId) {
-        // 모든 축의금 데이터를 조회하여 공통 로직으로 계산
-        List<GiftMoney> allGiftMoney = queryFactory
-                .selectFrom(giftMoney)
-                .where(giftMoney.coupleId.eq(coupleId))
-                .fetch();
-        
-        int under30k = 0, amount30kTo50k = 0, amount50kTo100k = 0;
-        int amount100kTo200k = 0, amount200kTo500k = 0, amountOver500k = 0;
-        
-        for (GiftMoney gift : allGiftMoney) {
-            BigDecimal amount = gift.getAmount();
-            if (isAmountUnder30k(amount)) {
-                under30k++;
-            } else if (isAmount30kTo50k(amount)) {
-                amount30kTo50k++;
-            } else if (isAmount50kTo100k(amount)) {
-                amount50kTo100k++;
-            } else if (isAmount100kTo200k(amount)) {
-                amount100kTo200k++;
-            } else if (isAmount200kTo500k(amount)) {
-                amount200kTo500k++;
-            } else if (isAmountOver500k(amount)) {
-                amountOver500k++;
-            }
-        }
-        
-        stats.setAmountUnder30kCount(under30k);
-        stats.setAmount30kTo50kCount(amount30kTo50k);
-        stats.setAmount50kTo100kCount(amount50kTo100k);
-        stats.setAmount100kTo200kCount(amount100kTo200k);
-        stats.setAmount200kTo500kCount(amount200kTo500k);
-        stats.setAmountOver500kCount(amountOver500k);
-    }
-    
-    private void updateAmountRangeStatsIncrementally(GiftMoneyStats stats, BigDecimal amount, int countDiff) {
-        // 공통 조건 함수를 사용하여 완전히 동일한 로직 적용
+    // 금액대 인덱스 (0: 3만원 미만 ~ 5: 50만원 초과, -1: 해당 없음)
+    private static int amountRangeIndex(BigDecimal amount) {
         if (isAmountUnder30k(amount)) {
-            stats.setAmountUnder30kCount(stats.getAmountUnder30kCount() + countDiff);
+            return 0;
         } else if (isAmount30kTo50k(amount)) {
-            stats.setAmount30kTo50kCount(stats.getAmount30kTo50kCount() + countDiff);
+            return 1;
         } else if (isAmount50kTo100k(amount)) {
-            stats.setAmount50kTo100kCount(stats.getAmount50kTo100kCount() + countDiff);
+            return 2;
         } else if (isAmount100kTo200k(amount)) {
-            stats.setAmount100kTo200kCount(stats.getAmount100kTo200kCount() + countDiff);
+            return 3;
         } else if (isAmount200kTo500k(amount)) {
-            stats.setAmount200kTo500kCount(stats.getAmount200kTo500kCount() + countDiff);
+            return 4;
         } else if (isAmountOver500k(amount)) {
-            stats.setAmountOver500kCount(stats.getAmountOver500kCount() + countDiff);
+            return 5;
         }
-        // amount가 null이거나 음수인 경우는 아무 처리하지 않음
+        // amount가 null인 경우는 아무 구간에도 포함하지 않음
+        return -1;
     }
     
-    private void updateTopDonorIfNeeded(GiftMoneyStats stats, GiftMoney newGiftMoney) {
-        if (stats.getTopDonorAmount() == null || newGiftMoney.getAmount().compareTo(stats.getTopDonorAmount()) > 0) {
-            stats.setTopDonorName(newGiftMoney.getName());
-            stats.setTopDonorAmount(newGiftMoney.getAmount());
-            stats.setTopDonorGiftMoneyId(newGiftMoney.getGiftMoneyId());
-        }
+    // 재계산 전후 비교 대상 (저장되는 통계 값 전체, 금액은 scale 차이 무시)
+    private static List<Object> statValues(GiftMoneyStats stats) {
+        return Arrays.asList(
+                normalize(stats.getTotalAmount()), stats.getTotalCount(), stats.getThanksNotSentCount(),
+                normalize(stats.getFamilyAmount()), stats.getFamilyCount(),
+                normalize(stats.getRelativeAmount()), stats.getRelativeCount(),
+                normalize(stats.getFriendAmount()), stats.getFriendCount(),
+                normalize(stats.getColleagueAmount()), stats.getColleagueCount(),
+                normalize(stats.getAcquaintanceAmount()), stats.getAcquaintanceCount(),
+                normalize(stats.getOtherAmount()), stats.getOtherCount(),
+                stats.getAmountUnder30kCount(), stats.getAmount30kTo50kCount(), stats.getAmount50kTo100kCount(),
+                stats.getAmount100kTo200kCount(), stats.getAmount200kTo500kCount(), stats.getAmountOver500kCount(),
+                stats.getTopDonorName(), normalize(stats.getTopDonorAmount()), stats.getTopDonorGiftMoneyId(),
+                stats.getFirstGiftDate(), stats.getLastGiftDate(), stats.getGiftDaysCount(),
+                normalize(stats.getDailyAverageAmount()));
+    }
+    
+    private static BigDecimal normalize(BigDecimal amount) {
+        return amount != null ? amount.stripTrailingZeros() : null;
     }
     
     private void recalculateTopDonor(GiftMoneyStats stats, Long coupleId) {
-        GiftMoney topDonor = queryFactory
-                .selectFrom(giftMoney)
-                .where(giftMoney.coupleId.eq(coupleId))
-                .orderBy(giftMoney.amount.desc())
-                .fetchFirst();
+        Tuple topDonor = findTopDonor(coupleId, null);
         
         if (topDonor != null) {
-            stats.setTopDonorName(topDonor.getName());
-            stats.setTopDonorAmount(topDonor.getAmount());
-            stats.setTopDonorGiftMoneyId(topDonor.getGiftMoneyId());
+            stats.setTopDonorName(topDonor.get(giftMoney.name));
+            stats.setTopDonorAmount(topDonor.get(giftMoney.amount));
+            stats.setTopDonorGiftMoneyId(topDonor.get(giftMoney.giftMoneyId));
         } else {
             stats.setTopDonorName(null);
             stats.setTopDonorAmount(BigDecimal.ZERO);
             stats.setTopDonorGiftMoneyId(null);
         }
     }
+    
+    // 필요한 컬럼만 조회 (엔티티 로딩 없음, (couple_id, amount) 인덱스로 첫 행만 읽음)
+    private Tuple findTopDonor(Long coupleId, Long excludedGiftMoneyId) {
+        BooleanBuilder whereClause = new BooleanBuilder(giftMoney.coupleId.eq(coupleId));
+        if (excludedGiftMoneyId != null) {
+            whereClause.and(giftMoney.giftMoneyId.ne(excludedGiftMoneyId));
+        }
+        return queryFactory
+                .select(giftMoney.giftMoneyId, giftMoney.name, giftMoney.amount)
+                .from(giftMoney)
+                .where(whereClause)
+                .orderBy(giftMoney.amount.desc(), giftMoney.giftMoneyId.desc())
+                .fetchFirst();
+    }
+    
+    /**
+     * 축의금 1건 단위 통계 차이
+     */
+    private static class StatsDelta {
+        
+        private BigDecimal totalAmount = BigDecimal.ZERO;
+        private int totalCount;
+        private int thanksNotSentCount;
+        private final Map<Relationship, BigDecimal> relationshipAmounts = new EnumMap<>(Relationship.class);
+        private final Map<Relationship, Integer> relationshipCounts = new EnumMap<>(Relationship.class);
+        private final int[] amountRangeCounts = new int[6];
+        private LocalDate firstGiftDate;    // 생성 시에만 설정 (첫/마지막 축의금 날짜 갱신)
+        private LocalDate lastGiftDate;
+        
+        void add(GiftMoney gift, int sign) {
+            BigDecimal amount = gift.getAmount().multiply(BigDecimal.valueOf(sign));
+            totalAmount = totalAmount.add(amount);
+            totalCount += sign;
+            if (!gift.getThanksSent()) {
+                thanksNotSentCount += sign;
+            }
+            relationshipAmounts.merge(gift.getRelationship(), amount, BigDecimal::add);
+            relationshipCounts.merge(gift.getRelationship(), sign, Integer::sum);
+            int rangeIndex = amountRangeIndex(gift.getAmount());
+            if (rangeIndex >= 0) {
+                amountRangeCounts[rangeIndex] += sign;
+            }
+        }
+        
+        void includeGiftDate(LocalDate giftDate) {
+            if (firstGiftDate == null || giftDate.isBefore(firstGiftDate)) {
+                firstGiftDate = giftDate;
+            }
+            if (lastGiftDate == null || giftDate.isAfter(lastGiftDate)) {
+                lastGiftDate = giftDate;
+            }
+        }
+        
+        // APPLY_DELTA_SQL 파라미터 순서
+        Object[] toSqlArgs(Long coupleId) {
+            List<Object> args = new ArrayList<>();
+            args.add(totalAmount);
+            args.add(totalCount);
+            args.add(thanksNotSentCount);
+            for (Relationship relationship : RELATIONSHIP_COLUMN_ORDER) {
+                args.add(relationshipAmounts.getOrDefault(relationship, BigDecimal.ZERO));
+                args.add(relationshipCounts.getOrDefault(relationship, 0));
+            }
+            for (int count : amountRangeCounts) {
+                args.add(count);
+            }
+            args.add(firstGiftDate);
+            args.add(firstGiftDate);
+            args.add(firstGiftDate);
+            args.add(lastGiftDate);
+            args.add(lastGiftDate);
+            args.add(lastGiftDate);
+            args.add(coupleId);
+            return args.toArray();
+        }
+    }
 }
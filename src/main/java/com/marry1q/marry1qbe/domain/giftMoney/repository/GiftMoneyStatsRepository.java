@@ -1,9 +1,14 @@
 package com.marry1q.marry1qbe.domain.giftMoney.repository;
 
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoneyStats;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,6 +19,25 @@ public interface GiftMoneyStatsRepository extends JpaRepository<GiftMoneyStats,
      */
     Optional<GiftMoneyStats> findByCoupleId(Long coupleId);
     
+    /**
+     * 커플 ID로 통계 조회 (행 잠금, 재계산 중 증분 반영 대기)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM GiftMoneyStats s WHERE s.coupleId = :coupleId")
+    Optional<GiftMoneyStats> findByCoupleIdForUpdate(@Param("coupleId") Long coupleId);
+    
+    /**
+     * 커플 통계 버전 조회 (통계 스냅샷 캐시 재확인용)
+     */
+    @Query("SELECT s.snapshotVersion FROM GiftMoneyStats s WHERE s.coupleId = :coupleId")
+    Optional<Long> findSnapshotVersionByCoupleId(@Param("coupleId") Long coupleId);
+    
+    /**
+     * 통계가 있는 커플 ID 목록
+     */
+    @Query("SELECT s.coupleId FROM GiftMoneyStats s")
+    List<Long> findAllCoupleIds();
+    
     /**
      * 커플 ID로 통계 존재 여부 확인
      */
@@ -0,0 +1,114 @@
+package com.marry1q.marry1qbe.domain.giftMoney.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 축의금 업로드용 CSV 리더
+ *
+ * 파일 전체를 메모리에 올리지 않고 레코드 단위로 읽습니다.
+ * RFC 4180 형식(큰따옴표로 감싼 필드, "" 이스케이프, 필드 안 줄바꿈)과 UTF-8 BOM을 처리합니다.
+ */
+class GiftMoneyCsvReader implements Closeable {
+
+    private final BufferedReader reader;
+    private final int maxFieldLength;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private boolean firstChar = true;
+
+    GiftMoneyCsvReader(Reader reader, int maxFieldLength) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * 다음 레코드 (파일 끝이면 null, 빈 줄은 건너뜀)
+     */
+    List<String> readRecord() throws IOException {
+        while (true) {
+            recordLineNumber = lineNumber;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            append(field, '"');
+                        } else {
+                            quoted = false;
+                            if (next != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        append(field, (char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r') {
+                    // \r\n 의 \r 은 무시
+                } else if (c == '\n') {
+                    lineNumber++;
+                    break;
+                } else {
+                    append(field, (char) c);
+                }
+            }
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            return fields;
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 줄 번호 (1부터)
+     */
+    int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (firstChar) {
+            firstChar = false;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private void append(StringBuilder field, char c) throws IOException {
+        if (field.length() >= maxFieldLength) {
+            throw new IOException(recordLineNumber + "번째 줄의 필드가 너무 깁니다. (최대 " + maxFieldLength + "자)");
+        }
+        field.append(c);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,361 @@
+package com.marry1q.marry1qbe.domain.giftMoney.service;
+
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyImportResponse;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyLiveEvent;
+import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.Relationship;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.Source;
+import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyBatchRepository;
+import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyRepository;
+import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
+import com.marry1q.marry1qbe.grobal.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 축의금 CSV 일괄 등록
+ *
+ * 업로드 파일을 한 행씩 읽어 검증하고, batch-size 건마다 JDBC 배치 INSERT와
+ * 통계 증분 1회를 한 트랜잭션으로 반영합니다. 잘못된 행은 건너뛰고 줄 번호와 함께 보고합니다.
+ *
+ * 헤더 (영문 또는 한글): name/이름, amount/금액, relationship/관계, source/받은방법,
+ * giftDate/날짜 (필수), phone/연락처, address/주소, memo/메모 (선택)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GiftMoneyImportService {
+    
+    // 비정상 파일(닫히지 않은 따옴표 등)로 한 필드가 끝없이 커지는 것을 막는 상한
+    private static final int MAX_FIELD_LENGTH = 10000;
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal("1000");
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("10000000");
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^[0-9-]+$");
+    
+    private final GiftMoneyBatchRepository giftMoneyBatchRepository;
+    private final GiftMoneyRepository giftMoneyRepository;
+    private final GiftMoneyStatisticsCache statisticsCache;
+    private final GiftMoneyLiveFeed liveFeed;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${gift-money.import.batch-size:200}")
+    private int batchSize;
+    
+    @Value("${gift-money.import.max-rows:5000}")
+    private int maxRows;
+    
+    /**
+     * CSV 컬럼 (헤더 이름은 대소문자/공백 무시)
+     */
+    private enum Column {
+        NAME(true, "name", "이름", "축의자"),
+        AMOUNT(true, "amount", "금액", "축의금"),
+        RELATIONSHIP(true, "relationship", "관계"),
+        SOURCE(true, "source", "받은방법"),
+        GIFT_DATE(true, "giftdate", "날짜", "축의날짜"),
+        PHONE(false, "phone", "연락처"),
+        ADDRESS(false, "address", "주소"),
+        MEMO(false, "memo", "메모");
+        
+        private final boolean required;
+        private final List<String> headers;
+        
+        Column(boolean required, String... headers) {
+            this.required = required;
+            this.headers = List.of(headers);
+        }
+        
+        static Column fromHeader(String header) {
+            String normalized = header.replaceAll("[\\s_]", "").toLowerCase();
+            for (Column column : values()) {
+                if (column.headers.contains(normalized)) {
+                    return column;
+                }
+            }
+            return null;
+        }
+    }
+    
+    /**
+     * 축의금 CSV 일괄 등록
+     */
+    public GiftMoneyImportResponse importCsv(MultipartFile file, Long coupleId) {
+        if (file == null || file.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "업로드할 CSV 파일이 없습니다.");
+        }
+        
+        long startTime = System.currentTimeMillis();
+        List<GiftMoneyImportResponse.RowError> errors = new ArrayList<>();
+        List<GiftMoney> batch = new ArrayList<>(batchSize);
+        List<Integer> batchRowNumbers = new ArrayList<>(batchSize);
+        int totalRows = 0;
+        int importedCount = 0;
+        boolean headerRead = false;
+        
+        try (GiftMoneyCsvReader reader = new GiftMoneyCsvReader(
+                new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8), MAX_FIELD_LENGTH)) {
+            
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "CSV 파일이 비어 있습니다.");
+            }
+            Map<Column, Integer> columns = resolveColumns(header);
+            headerRead = true;
+            
+            while (true) {
+                List<String> record;
+                try {
+                    record = reader.readRecord();
+                } catch (IOException e) {
+                    // 앞선 배치는 이미 커밋되었으므로 예외 대신 여기까지의 결과와 실패한 행을 돌려줌
+                    log.warn("축의금 CSV 읽기 중단: coupleId={}, 줄={}, error={}", coupleId, reader.getRecordLineNumber(), e.getMessage());
+                    totalRows++;
+                    errors.add(rowError(reader.getRecordLineNumber(), "CSV 파일을 더 읽을 수 없어 이후 행은 처리하지 않았습니다: " + e.getMessage()));
+                    break;
+                }
+                if (record == null) {
+                    break;
+                }
+                
+                int rowNumber = reader.getRecordLineNumber();
+                if (totalRows >= maxRows) {
+                    errors.add(rowError(rowNumber, "한 번에 최대 " + maxRows + "건까지 등록할 수 있습니다. 이후 행은 처리하지 않았습니다."));
+                    break;
+                }
+                totalRows++;
+                
+                try {
+                    batch.add(toGiftMoney(record, columns, coupleId));
+                    batchRowNumbers.add(rowNumber);
+                } catch (IllegalArgumentException e) {
+                    errors.add(rowError(rowNumber, e.getMessage()));
+                }
+                
+                if (batch.size() >= batchSize) {
+                    importedCount += flush(batch, batchRowNumbers, coupleId, errors);
+                }
+            }
+            importedCount += flush(batch, batchRowNumbers, coupleId, errors);
+            
+        } catch (IOException e) {
+            if (headerRead) {
+                // 모든 행을 처리한 뒤 파일 닫기만 실패한 경우 (등록 결과는 그대로 반환)
+                log.warn("축의금 CSV 닫기 실패: coupleId={}, error={}", coupleId, e.getMessage());
+            } else {
+                log.warn("축의금 CSV 읽기 실패: coupleId={}, error={}", coupleId, e.getMessage());
+                throw new CustomException(ErrorCode.INVALID_REQUEST, "CSV 파일을 읽을 수 없습니다: " + e.getMessage());
+            }
+        }
+        
+        int failedCount = totalRows - importedCount;
+        log.info("축의금 일괄 등록 완료: coupleId={}, 전체={}, 등록={}, 실패={}, 소요시간={}ms",
+                coupleId, totalRows, importedCount, failedCount, System.currentTimeMillis() - startTime);
+        
+        return GiftMoneyImportResponse.builder()
+                .totalRows(totalRows)
+                .importedCount(importedCount)
+                .failedCount(failedCount)
+                .errors(errors)
+                .build();
+    }
+    
+    /**
+     * 배치 저장 + 통계 증분을 한 트랜잭션으로 반영
+     * 
+     * @return 저장된 건수
+     */
+    private int flush(List<GiftMoney> batch, List<Integer> batchRowNumbers, Long coupleId,
+                      List<GiftMoneyImportResponse.RowError> errors) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        List<GiftMoneyImportResponse.RowError> batchErrors = new ArrayList<>();
+        int inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> {
+                Map<Integer, String> failures = giftMoneyBatchRepository.batchInsert(batch);
+                List<GiftMoney> insertedRows = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    if (failures.containsKey(i)) {
+                        batchErrors.add(rowError(batchRowNumbers.get(i), "저장 실패: " + failures.get(i)));
+                    } else {
+                        insertedRows.add(batch.get(i));
+                    }
+                }
+                giftMoneyRepository.updateStatisticsIncrementallyForCreate(coupleId, insertedRows);
+                statisticsCache.invalidateCouple(coupleId);
+                if (!insertedRows.isEmpty()) {
+                    liveFeed.publish(coupleId, GiftMoneyLiveEvent.imported(insertedRows.size()));
+                }
+                return insertedRows.size();
+            });
+            errors.addAll(batchErrors);
+        } catch (RuntimeException e) {
+            log.error("축의금 일괄 등록 배치 실패: coupleId={}, 건수={}, error={}", coupleId, batch.size(), e.getMessage(), e);
+            for (Integer rowNumber : batchRowNumbers) {
+                errors.add(rowError(rowNumber, "저장 실패: " + e.getMessage()));
+            }
+            inserted = 0;
+        }
+        
+        batch.clear();
+        batchRowNumbers.clear();
+        return inserted;
+    }
+    
+    private Map<Column, Integer> resolveColumns(List<String> header) {
+        Map<Column, Integer> columns = new EnumMap<>(Column.class);
+        for (int i = 0; i < header.size(); i++) {
+            Column column = Column.fromHeader(header.get(i));
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        
+        List<String> missing = new ArrayList<>();
+        for (Column column : Column.values()) {
+            if (column.required && !columns.containsKey(column)) {
+                missing.add(column.headers.get(0));
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_REQUEST, "CSV 헤더에 필수 컬럼이 없습니다: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+    
+    /**
+     * 한 행을 축의금 엔티티로 변환 (CreateGiftMoneyRequest와 같은 규칙으로 검증)
+     */
+    private GiftMoney toGiftMoney(List<String> record, Map<Column, Integer> columns, Long coupleId) {
+        String name = field(record, columns, Column.NAME);
+        if (name == null) {
+            throw new IllegalArgumentException("축의자 이름은 필수입니다.");
+        }
+        if (name.length() > 100) {
+            throw new IllegalArgumentException("축의자 이름은 100자를 초과할 수 없습니다.");
+        }
+        
+        String phone = field(record, columns, Column.PHONE);
+        if (phone != null && (phone.length() > 20 || !PHONE_PATTERN.matcher(phone).matches())) {
+            throw new IllegalArgumentException("연락처 형식이 올바르지 않습니다.");
+        }
+        
+        String address = field(record, columns, Column.ADDRESS);
+        if (address != null && address.length() > 1000) {
+            throw new IllegalArgumentException("주소는 1000자를 초과할 수 없습니다.");
+        }
+        String memo = field(record, columns, Column.MEMO);
+        if (memo != null && memo.length() > 1000) {
+            throw new IllegalArgumentException("메모는 1000자를 초과할 수 없습니다.");
+        }
+        
+        return GiftMoney.builder()
+                .name(name)
+                .amount(parseAmount(field(record, columns, Column.AMOUNT)))
+                .relationship(parseRelationship(field(record, columns, Column.RELATIONSHIP)))
+                .source(parseSource(field(record, columns, Column.SOURCE)))
+                .phone(phone)
+                .address(address)
+                .memo(memo)
+                .giftDate(parseGiftDate(field(record, columns, Column.GIFT_DATE)))
+                .thanksSent(false) // 기본값: 감사 연락 미완료
+                .coupleId(coupleId)
+                .build();
+    }
+    
+    private static String field(List<String> record, Map<Column, Integer> columns, Column column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private static BigDecimal parseAmount(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("축의금 금액은 필수입니다.");
+        }
+        BigDecimal amount;
+        try {
+            amount = new BigDecimal(value.replace(",", "").replace("원", "").trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("축의금 금액 형식이 올바르지 않습니다: " + value);
+        }
+        if (amount.compareTo(MIN_AMOUNT) < 0) {
+            throw new IllegalArgumentException("축의금은 최소 1,000원 이상이어야 합니다.");
+        }
+        if (amount.compareTo(MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException("축의금은 최대 10,000,000원을 초과할 수 없습니다.");
+        }
+        if (amount.stripTrailingZeros().scale() > 0) {
+            throw new IllegalArgumentException("축의금 금액은 원 단위 정수여야 합니다.");
+        }
+        return amount.setScale(0);
+    }
+    
+    private static Relationship parseRelationship(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("관계는 필수입니다.");
+        }
+        for (Relationship relationship : Relationship.values()) {
+            if (relationship.name().equalsIgnoreCase(value) || relationship.getDisplayName().equals(value)) {
+                return relationship;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 관계입니다: " + value);
+    }
+    
+    private static Source parseSource(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("받은방법은 필수입니다.");
+        }
+        for (Source source : Source.values()) {
+            if (source.name().equalsIgnoreCase(value) || source.getDisplayName().equals(value)) {
+                return source;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 받은방법입니다: " + value);
+    }
+    
+    private static LocalDate parseGiftDate(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("축의 날짜는 필수입니다.");
+        }
+        LocalDate giftDate;
+        try {
+            giftDate = LocalDate.parse(value.replace('.', '-').replace('/', '-'));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("축의 날짜 형식이 올바르지 않습니다 (yyyy-MM-dd): " + value);
+        }
+        if (giftDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("축의 날짜는 과거 또는 오늘 날짜여야 합니다.");
+        }
+        return giftDate;
+    }
+    
+    private static GiftMoneyImportResponse.RowError rowError(int rowNumber, String message) {
+        return GiftMoneyImportResponse.RowError.builder()
+                .rowNumber(rowNumber)
+                .message(message)
+                .build();
+    }
+}
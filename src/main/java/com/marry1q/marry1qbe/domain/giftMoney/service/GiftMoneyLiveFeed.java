@@ -0,0 +1,348 @@
+package com.marry1q.marry1qbe.domain.giftMoney.service;
+
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyLiveEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 커플별 축의금 실시간 피드 (SSE)
+ *
+ * 축의금 생성/수정/삭제/일괄 등록과 새 안심계좌 입금을 구독 중인 커플 화면으로 보냅니다.
+ * SseEmitter는 서블릿 비동기 처리라 구독자마다 요청 스레드를 잡아두지 않고,
+ * 실제 전송은 구독자별 크기 제한 큐를 작은 공용 스레드 풀(sender-workers)이 비워서 처리합니다.
+ *
+ * 커플마다 최근 replay-size 개 이벤트를 보관해서 재연결 시 Last-Event-ID 이후부터 다시 보내고,
+ * 보관 범위를 벗어났거나 큐가 넘친 경우에는 resync 이벤트(전체 다시 조회) 또는 연결 종료로 처리합니다.
+ *
+ * 서버 간 전달(fan-out)은 하지 않습니다. 이벤트는 변경이 일어난 서버의 구독자에게만 가므로 여러 대로 운영하면:
+ * - 축의금 변경은 같은 커플의 요청과 피드 연결이 같은 서버로 가야(커플 기준 sticky 라우팅) 실시간으로 보입니다.
+ * - 안심계좌 입금은 백그라운드 동기화가 계좌를 가져간 서버에서만 발행되므로 sticky 라우팅으로도 보장되지 않고,
+ *   다른 서버의 구독자는 다음 목록 조회(또는 재연결 시 resync)에서 반영됩니다.
+ * 서버 간 전달이 필요해지면 메시지 브로커(Redis pub/sub 등)를 두고 publishNow 로 다시 발행하도록 확장합니다.
+ */
+@Slf4j
+@Component
+public class GiftMoneyLiveFeed implements DisposableBean {
+
+    private static final String EVENT_NAME = "gift-money";
+    private static final String RESYNC_EVENT_NAME = "resync";
+
+    private final ConcurrentMap<Long, CoupleChannel> channels = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor senderPool;
+    private final long timeoutMillis;
+    private final int replaySize;
+    private final int subscriberBufferSize;
+    private final int maxSubscribersPerCouple;
+    private final long channelIdleMillis;
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter overflowCounter;
+    private final Counter publishedCounter;
+
+    public GiftMoneyLiveFeed(@Value("${gift-money.live-feed.timeout-ms:1800000}") long timeoutMillis,
+                             @Value("${gift-money.live-feed.replay-size:200}") int replaySize,
+                             @Value("${gift-money.live-feed.subscriber-buffer-size:100}") int subscriberBufferSize,
+                             @Value("${gift-money.live-feed.max-subscribers-per-couple:20}") int maxSubscribersPerCouple,
+                             @Value("${gift-money.live-feed.channel-idle-ms:600000}") long channelIdleMillis,
+                             @Value("${gift-money.live-feed.sender-workers:4}") int senderWorkers,
+                             MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeoutMillis;
+        this.replaySize = replaySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.maxSubscribersPerCouple = maxSubscribersPerCouple;
+        this.channelIdleMillis = channelIdleMillis;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // 구독자당 전송 작업은 최대 1개만 대기하므로 큐 크기는 구독자 수 이하로 유지됨
+        this.senderPool = new ThreadPoolExecutor(
+                senderWorkers, senderWorkers,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "gift-money-feed-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.senderPool.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("gift.money.live.feed.subscribers", subscriberCount, AtomicInteger::get)
+                .description("축의금 실시간 피드 구독 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("gift.money.live.feed.sender.queued", senderPool, pool -> pool.getQueue().size())
+                .description("전송 대기 중인 구독자 수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("gift.money.live.feed.overflow")
+                .description("전송 큐가 가득 차 종료된 구독 연결 수")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("gift.money.live.feed.published")
+                .description("발행된 피드 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 피드 구독
+     *
+     * @param lastEventId 마지막으로 받은 이벤트 ID (재연결 시), 없으면 이후 이벤트만 받음
+     */
+    public SseEmitter subscribe(Long coupleId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AtomicReference<Subscriber> attached = new AtomicReference<>();
+
+        // 채널 조회와 구독자 추가를 같은 compute 안에서 처리해서 heartbeat 의 빈 채널 정리와 겹치지 않게 함
+        channels.compute(coupleId, (id, current) -> {
+            CoupleChannel channel = current != null ? current : new CoupleChannel();
+            synchronized (channel) {
+                if (channel.subscribers.size() >= maxSubscribersPerCouple) {
+                    return channel;
+                }
+                Subscriber subscriber = new Subscriber(coupleId, channel, emitter, subscriberBufferSize);
+
+                // 재연결이면 보관 중인 이벤트 중 놓친 것부터 큐에 넣음 (발행과 같은 잠금 안이라 순서가 섞이지 않음)
+                if (lastEventId != null) {
+                    List<FeedEvent> missed = channel.eventsAfter(lastEventId);
+                    if (missed == null || missed.size() > subscriberBufferSize) {
+                        subscriber.queue.offer(FeedEvent.resync(channel.sequence));
+                    } else {
+                        missed.forEach(subscriber.queue::offer);
+                    }
+                }
+                channel.subscribers.add(subscriber);
+                subscriberCount.incrementAndGet();
+                attached.set(subscriber);
+            }
+            return channel;
+        });
+
+        Subscriber subscriber = attached.get();
+        if (subscriber == null) {
+            log.warn("축의금 피드 구독 수 초과 - coupleId: {}, 상한: {}", coupleId, maxSubscribersPerCouple);
+            emitter.complete();
+            return emitter;
+        }
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(e -> subscriber.detach());
+        log.debug("축의금 피드 구독 - coupleId: {}, lastEventId: {}", coupleId, lastEventId);
+
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 이벤트 발행 (트랜잭션 안이면 커밋 후 발행)
+     */
+    public void publish(Long coupleId, GiftMoneyLiveEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(coupleId, event);
+                }
+            });
+        } else {
+            publishNow(coupleId, event);
+        }
+    }
+
+    /**
+     * 커플에 연결된 구독자가 있는지 여부 (이벤트를 만들기 위한 추가 조회 생략 판단용)
+     */
+    public boolean hasSubscribers(Long coupleId) {
+        CoupleChannel channel = channels.get(coupleId);
+        return channel != null && !channel.subscribers.isEmpty();
+    }
+
+    private void publishNow(Long coupleId, GiftMoneyLiveEvent event) {
+        CoupleChannel channel = channels.computeIfAbsent(coupleId, id -> new CoupleChannel());
+        List<Subscriber> targets;
+        synchronized (channel) {
+            FeedEvent feedEvent = new FeedEvent(++channel.sequence, EVENT_NAME, event);
+            channel.recent.addLast(feedEvent);
+            if (channel.recent.size() > replaySize) {
+                channel.recent.removeFirst();
+            }
+            channel.lastPublishedAt = System.currentTimeMillis();
+
+            targets = new ArrayList<>(channel.subscribers.size());
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.queue.offer(feedEvent)) {
+                    targets.add(subscriber);
+                } else {
+                    // 느린 구독자는 연결을 끊고 Last-Event-ID 재연결로 따라오게 함
+                    overflowCounter.increment();
+                    log.warn("축의금 피드 전송 큐 초과 - 연결 종료, coupleId: {}", coupleId);
+                    subscriber.close();
+                }
+            }
+        }
+        publishedCounter.increment();
+        targets.forEach(this::schedule);
+    }
+
+    /**
+     * 연결 유지용 heartbeat + 구독자 없는 오래된 채널 정리
+     */
+    @Scheduled(fixedDelayString = "${gift-money.live-feed.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        channels.forEach((coupleId, channel) -> {
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.queue.isEmpty() && subscriber.queue.offer(FeedEvent.HEARTBEAT)) {
+                    schedule(subscriber);
+                }
+            }
+            // 빈 채널 확인과 제거를 채널 잠금 + computeIfPresent 안에서 처리 (동시에 구독하면 제거하지 않음)
+            channels.computeIfPresent(coupleId, (id, current) -> {
+                synchronized (current) {
+                    return current.subscribers.isEmpty() && now - current.lastPublishedAt > channelIdleMillis
+                            ? null : current;
+                }
+            });
+        });
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        senderPool.execute(() -> drain(subscriber));
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            FeedEvent event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event.toSse());
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("축의금 피드 전송 실패 - 연결 종료, coupleId: {}, 오류: {}", subscriber.coupleId, e.getMessage());
+            subscriber.close();
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // drain 종료 직전에 들어온 이벤트 처리
+        if (!subscriber.closed) {
+            schedule(subscriber);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::close));
+        senderPool.shutdown();
+    }
+
+    /**
+     * 커플별 채널 (발행 순서, 최근 이벤트 보관, 구독자 목록)
+     */
+    private static class CoupleChannel {
+
+        // 재시작 후 ID가 이전 값과 겹치지 않도록 시각 기반으로 시작
+        private long sequence = System.currentTimeMillis() * 1000;
+        private final Deque<FeedEvent> recent = new ArrayDeque<>();
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private volatile long lastPublishedAt = System.currentTimeMillis();
+
+        /**
+         * lastEventId 이후 이벤트 (보관 범위를 벗어났거나 다른 서버의 ID면 null)
+         */
+        List<FeedEvent> eventsAfter(long lastEventId) {
+            long oldestId = recent.isEmpty() ? sequence + 1 : recent.peekFirst().id();
+            if (lastEventId < oldestId - 1 || lastEventId > sequence) {
+                return null;
+            }
+            List<FeedEvent> missed = new ArrayList<>();
+            for (FeedEvent event : recent) {
+                if (event.id() > lastEventId) {
+                    missed.add(event);
+                }
+            }
+            return missed;
+        }
+    }
+
+    private class Subscriber {
+
+        private final Long coupleId;
+        private final CoupleChannel channel;
+        private final SseEmitter emitter;
+        private final BlockingQueue<FeedEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(Long coupleId, CoupleChannel channel, SseEmitter emitter, int bufferSize) {
+            this.coupleId = coupleId;
+            this.channel = channel;
+            this.emitter = emitter;
+            // resync/heartbeat 여유분 1칸
+            this.queue = new ArrayBlockingQueue<>(bufferSize + 1);
+        }
+
+        /**
+         * 채널에서 제거 (연결 종료/타임아웃/오류 콜백)
+         */
+        void detach() {
+            closed = true;
+            if (channel.subscribers.remove(this)) {
+                subscriberCount.decrementAndGet();
+            }
+        }
+
+        void close() {
+            detach();
+            try {
+                emitter.complete();
+            } catch (Exception e) {
+                log.debug("축의금 피드 연결 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 피드 이벤트 (id가 null이면 heartbeat)
+     */
+    private record FeedEvent(Long id, String name, Object data) {
+
+        static final FeedEvent HEARTBEAT = new FeedEvent(null, null, null);
+
+        static FeedEvent resync(long currentId) {
+            return new FeedEvent(currentId, RESYNC_EVENT_NAME, "{}");
+        }
+
+        SseEmitter.SseEventBuilder toSse() {
+            if (id == null) {
+                return SseEmitter.event().comment("keep-alive");
+            }
+            return SseEmitter.event()
+                    .id(String.valueOf(id))
+                    .name(name)
+                    .data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
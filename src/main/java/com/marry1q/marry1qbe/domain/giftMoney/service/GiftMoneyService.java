@@ -1,15 +1,18 @@
 package com.marry1q.marry1qbe.domain.giftMoney.service;
 
 import com.marry1q.marry1qbe.domain.giftMoney.dto.request.CreateGiftMoneyRequest;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.request.GiftMoneyCursor;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.request.UpdateGiftMoneyRequest;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.request.UpdateThanksStatusRequest;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.request.UpdateSafeAccountTransactionReviewStatusRequest;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyListResponse;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyLiveEvent;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyStatisticsResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.dto.response.SafeAccountTransactionListResponse;
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
 import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoneyStats;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.GiftMoneyCountMode;
 import com.marry1q.marry1qbe.domain.giftMoney.exception.GiftMoneyNotFoundException;
 import com.marry1q.marry1qbe.domain.giftMoney.exception.GiftMoneyStatsNotFoundException;
 import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyRepository;
@@ -23,9 +26,11 @@ import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
 import com.marry1q.marry1qbe.grobal.exception.CustomException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -42,11 +47,17 @@ public class GiftMoneyService {
     
     private final GiftMoneyRepository giftMoneyRepository;
     private final GiftMoneyStatsRepository giftMoneyStatsRepository;
+    private final GiftMoneyStatisticsCache statisticsCache;
+    private final GiftMoneyLiveFeed liveFeed;
     private final AccountService accountService;
     private final CoupleAccountTransactionRepository coupleAccountTransactionRepository;
     private final CustomerService customerService;
     private final CommonCodeService commonCodeService;
     
+    // countMode=ESTIMATE에서 필터 조건이 있을 때 COUNT 상한
+    @Value("${gift-money.list.count-estimate-cap:1000}")
+    private long countEstimateCap;
+    
     /**
      * 축의금 목록 조회 (필터링 + 페이징)
      */
@@ -59,16 +70,80 @@ public class GiftMoneyService {
             Boolean thanksSent,
             Long coupleId,
             int page,
-            int size) {
+            int size,
+            GiftMoneyCountMode countMode) {
         
         Pageable pageable = PageRequest.of(page, size);
         
-        Page<GiftMoney> giftMoneyPage = giftMoneyRepository.findGiftMoneyWithFilters(
-                name, relationship, source, startDate, endDate, thanksSent, coupleId, pageable);
+        if (countMode == null || countMode == GiftMoneyCountMode.EXACT) {
+            Page<GiftMoney> giftMoneyPage = giftMoneyRepository.findGiftMoneyWithFilters(
+                    name, relationship, source, startDate, endDate, thanksSent, coupleId, pageable);
+            
+            Page<GiftMoneyResponse> responsePage = giftMoneyPage.map(GiftMoneyResponse::from);
+            
+            return GiftMoneyListResponse.from(responsePage);
+        }
+        
+        Slice<GiftMoneyResponse> responseSlice = giftMoneyRepository.findGiftMoneySliceWithFilters(
+                name, relationship, source, startDate, endDate, thanksSent, coupleId, pageable)
+                .map(GiftMoneyResponse::from);
+        
+        if (countMode == GiftMoneyCountMode.NONE) {
+            return GiftMoneyListResponse.from(responseSlice, null, false);
+        }
+        
+        // ESTIMATE: 필터가 없으면 축의금 통계의 총 건수, 있으면 상한까지만 COUNT
+        if (!hasListFilter(name, relationship, source, startDate, endDate, thanksSent)) {
+            Long statsTotal = giftMoneyStatsRepository.findByCoupleId(coupleId)
+                    .map(stats -> stats.getTotalCount() != null ? stats.getTotalCount().longValue() : 0L)
+                    .orElse(null);
+            if (statsTotal != null) {
+                return GiftMoneyListResponse.from(responseSlice, Math.max(statsTotal, minimumTotal(responseSlice)), true);
+            }
+        }
+        
+        long counted = giftMoneyRepository.countGiftMoneyWithFiltersUpTo(
+                name, relationship, source, startDate, endDate, thanksSent, coupleId, countEstimateCap + 1);
+        boolean capped = counted > countEstimateCap;
+        return GiftMoneyListResponse.from(responseSlice, capped ? countEstimateCap : counted, capped);
+    }
+    
+    /**
+     * 축의금 목록 커서 조회 (전체 개수 없이 다음 커서만 반환)
+     */
+    public GiftMoneyListResponse getGiftMoneyScroll(
+            String name,
+            String relationship,
+            String source,
+            LocalDate startDate,
+            LocalDate endDate,
+            Boolean thanksSent,
+            Long coupleId,
+            String cursor,
+            int size) {
+        
+        GiftMoneyCursor decodedCursor = GiftMoneyCursor.decode(cursor);
+        
+        Slice<GiftMoney> giftMoneySlice = giftMoneyRepository.findGiftMoneyWithFiltersAfter(
+                name, relationship, source, startDate, endDate, thanksSent, coupleId, decodedCursor, size);
         
-        Page<GiftMoneyResponse> responsePage = giftMoneyPage.map(GiftMoneyResponse::from);
+        List<GiftMoney> content = giftMoneySlice.getContent();
+        String nextCursor = giftMoneySlice.hasNext() && !content.isEmpty()
+                ? GiftMoneyCursor.of(content.get(content.size() - 1)).encode()
+                : null;
         
-        return GiftMoneyListResponse.from(responsePage);
+        return GiftMoneyListResponse.fromCursor(giftMoneySlice.map(GiftMoneyResponse::from), decodedCursor == null, nextCursor);
+    }
+    
+    private static boolean hasListFilter(String name, String relationship, String source,
+                                         LocalDate startDate, LocalDate endDate, Boolean thanksSent) {
+        return StringUtils.hasText(name) || StringUtils.hasText(relationship) || StringUtils.hasText(source)
+                || startDate != null || endDate != null || thanksSent != null;
+    }
+    
+    // 통계가 아직 반영되지 않았더라도 현재 페이지까지 본 건수보다 작게 내려가지 않도록 함
+    private static long minimumTotal(Slice<?> slice) {
+        return (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
     }
     
     /**
@@ -111,10 +186,13 @@ public class GiftMoneyService {
             
             // 통계 증분 업데이트
             giftMoneyRepository.updateStatisticsIncrementallyForCreate(coupleId, savedGiftMoney);
+            statisticsCache.invalidateCouple(coupleId);
             
             log.info("축의금 생성 완료: giftMoneyId={}, coupleId={}", savedGiftMoney.getGiftMoneyId(), coupleId);
             
-            return GiftMoneyResponse.from(savedGiftMoney);
+            GiftMoneyResponse response = GiftMoneyResponse.from(savedGiftMoney);
+            liveFeed.publish(coupleId, GiftMoneyLiveEvent.created(response));
+            return response;
             
                             } catch (Exception e) {
                         log.error("축의금 생성 중 오류 발생: coupleId={}, error={}", coupleId, e.getMessage(), e);
@@ -196,10 +274,13 @@ public class GiftMoneyService {
             
             // 통계 증분 업데이트
             giftMoneyRepository.updateStatisticsIncrementallyForUpdate(coupleId, oldGiftMoney, updatedGiftMoney);
+            statisticsCache.invalidateCouple(coupleId);
             
             log.info("축의금 수정 완료: giftMoneyId={}, coupleId={}", updatedGiftMoney.getGiftMoneyId(), coupleId);
             
-            return GiftMoneyResponse.from(updatedGiftMoney);
+            GiftMoneyResponse response = GiftMoneyResponse.from(updatedGiftMoney);
+            liveFeed.publish(coupleId, GiftMoneyLiveEvent.updated(response));
+            return response;
             
                             } catch (Exception e) {
                         log.error("축의금 수정 중 오류 발생: giftMoneyId={}, coupleId={}, error={}", giftMoneyId, coupleId, e.getMessage(), e);
@@ -251,11 +332,14 @@ public class GiftMoneyService {
             
             // 통계 증분 업데이트 (감사 연락 상태만 변경)
             giftMoneyRepository.updateStatisticsIncrementallyForUpdate(coupleId, oldGiftMoney, updatedGiftMoney);
+            statisticsCache.invalidateCouple(coupleId);
             
             log.info("감사 연락 상태 변경 완료: giftMoneyId={}, coupleId={}, thanksSent={}", 
                     updatedGiftMoney.getGiftMoneyId(), coupleId, request.getThanksSent());
             
-            return GiftMoneyResponse.from(updatedGiftMoney);
+            GiftMoneyResponse response = GiftMoneyResponse.from(updatedGiftMoney);
+            liveFeed.publish(coupleId, GiftMoneyLiveEvent.updated(response));
+            return response;
             
                             } catch (Exception e) {
                         log.error("감사 연락 상태 변경 중 오류 발생: giftMoneyId={}, coupleId={}, error={}", 
@@ -281,10 +365,13 @@ public class GiftMoneyService {
             
             // 통계 증분 업데이트 (삭제 전에 실행)
             giftMoneyRepository.updateStatisticsIncrementallyForDelete(coupleId, existingGiftMoney);
+            statisticsCache.invalidateCouple(coupleId);
             
             // 축의금 삭제
             giftMoneyRepository.delete(existingGiftMoney);
             
+            liveFeed.publish(coupleId, GiftMoneyLiveEvent.deleted(giftMoneyId));
+            
             log.info("축의금 삭제 완료: giftMoneyId={}, coupleId={}", giftMoneyId, coupleId);
             
                             } catch (Exception e) {
@@ -295,21 +382,30 @@ public class GiftMoneyService {
     }
     
     /**
-     * 안심계좌 입금 내역 조회 (거래내역 동기화 포함)
+     * 안심계좌 입금 내역 조회
+     * 
+     * 거래내역은 백그라운드에서 동기화되므로 DB 기준으로 바로 조회합니다.
+     * syncIfOlderThanSeconds가 있으면 마지막 동기화가 그보다 오래된 경우에만 먼저 동기화합니다.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public SafeAccountTransactionListResponse getSafeAccountTransactions(
             Long coupleId,
             int page,
-            int size) {
+            int size,
+            Integer syncIfOlderThanSeconds) {
         
         try {
-            log.info("안심계좌 입금 내역 조회 시작: coupleId={}, page={}, size={}", 
-                    coupleId, page, size);
-            
-            // 1. 거래내역 동기화 (동기 처리)
-            accountService.syncTransactions();
-            log.info("거래내역 동기화 완료");
+            log.info("안심계좌 입금 내역 조회 시작: coupleId={}, page={}, size={}, syncIfOlderThanSeconds={}", 
+                    coupleId, page, size, syncIfOlderThanSeconds);
+            
+            // 1. 요청 시에만 오래된 거래내역 동기화 (실패해도 DB 기준 조회는 계속)
+            if (syncIfOlderThanSeconds != null) {
+                try {
+                    accountService.syncTransactionsIfStale(syncIfOlderThanSeconds);
+                } catch (Exception e) {
+                    log.warn("거래내역 동기화 실패 - DB 기준으로 조회합니다: {}", e.getMessage());
+                }
+            }
             
             // 2. 현재 사용자의 모임통장 조회
             Account coupleAccount = customerService.getCurrentUserCoupleAccount();
@@ -0,0 +1,99 @@
+package com.marry1q.marry1qbe.domain.giftMoney.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyStatisticsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 축의금 전체 통계 스냅샷 캐시 (coupleId 기준)
+ * 
+ * 완성된 GiftMoneyStatisticsResponse를 통계 버전(gift_money_stats.snapshot_version)과 함께 보관하고,
+ * 조회는 잠금 없이 캐시에서 바로 반환합니다. 보관된 응답 객체는 공유되므로 꺼낸 뒤 수정하지 않습니다.
+ * 
+ * 축의금 생성/수정/삭제 시 커플 단위로 무효화하고 (트랜잭션 안이면 커밋 후 한 번 더),
+ * 다른 서버에서 바뀐 통계는 revalidate-after-ms 가 지난 뒤 버전만 조회해서 확인합니다.
+ */
+@Slf4j
+@Component
+public class GiftMoneyStatisticsCache {
+    
+    private final Cache<Long, Snapshot> cache;
+    private final long revalidateAfterMillis;
+    
+    public GiftMoneyStatisticsCache(@Value("${gift-money.stats-cache.max-size:10000}") long maxSize,
+                                    @Value("${gift-money.stats-cache.revalidate-after-ms:2000}") long revalidateAfterMillis,
+                                    MeterRegistry meterRegistry) {
+        this.revalidateAfterMillis = revalidateAfterMillis;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "giftMoneyStatistics");
+    }
+    
+    /**
+     * 캐시된 스냅샷 (없으면 null)
+     */
+    public Snapshot getIfPresent(Long coupleId) {
+        return cache.getIfPresent(coupleId);
+    }
+    
+    /**
+     * 버전 확인 없이 바로 반환해도 되는 스냅샷인지 여부
+     */
+    public boolean isFresh(Snapshot snapshot) {
+        return System.currentTimeMillis() - snapshot.verifiedAtMillis() < revalidateAfterMillis;
+    }
+    
+    /**
+     * 저장소 버전과 같음을 확인한 스냅샷의 확인 시각 갱신
+     */
+    public Snapshot markVerified(Long coupleId, Snapshot snapshot) {
+        Snapshot verified = new Snapshot(snapshot.version(), snapshot.statistics(), System.currentTimeMillis());
+        cache.asMap().replace(coupleId, snapshot, verified);
+        return verified;
+    }
+    
+    /**
+     * 새로 만든 스냅샷 저장 (이미 더 높은 버전이 있으면 유지)
+     */
+    public Snapshot put(Long coupleId, Snapshot snapshot) {
+        return cache.asMap().merge(coupleId, snapshot,
+                (existing, loaded) -> loaded.version() >= existing.version() ? loaded : existing);
+    }
+    
+    /**
+     * 커플의 통계 스냅샷 무효화
+     */
+    public void invalidateCouple(Long coupleId) {
+        cache.invalidate(coupleId);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(coupleId);
+                    log.debug("축의금 통계 캐시 무효화 - coupleId: {}", coupleId);
+                }
+            });
+        } else {
+            log.debug("축의금 통계 캐시 무효화 - coupleId: {}", coupleId);
+        }
+    }
+    
+    /**
+     * 통계 스냅샷
+     * 
+     * @param version 통계 버전 (gift_money_stats.snapshot_version, 통계가 없으면 0)
+     * @param verifiedAtMillis 저장소 버전과 마지막으로 비교한 시각
+     */
+    public record Snapshot(long version, GiftMoneyStatisticsResponse statistics, long verifiedAtMillis) {
+    }
+}
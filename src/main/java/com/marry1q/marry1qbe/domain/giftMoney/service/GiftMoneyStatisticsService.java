@@ -8,16 +8,26 @@ import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyStatsRepositor
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class GiftMoneyStatisticsService {
     
+    private static final int TOP_DONOR_LEADERBOARD_SIZE = 10;
+    
     private final GiftMoneyStatsRepository giftMoneyStatsRepository;
     private final GiftMoneyRepository giftMoneyRepository;
+    private final GiftMoneyStatisticsCache statisticsCache;
     
     /**
      * 요약 통계 조회 (대시보드용)
@@ -29,10 +39,85 @@ public class GiftMoneyStatisticsService {
     
     /**
      * 전체 통계 조회 (통계 페이지용)
+     * 
+     * 캐시된 스냅샷을 우선 반환하고, 재확인 주기가 지났으면 통계 버전만 조회해서
+     * 바뀐 경우에만 다시 만듭니다. 반환된 응답은 캐시와 공유되므로 수정하지 않습니다.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public GiftMoneyStatisticsResponse getFullStatistics(Long coupleId) {
+        GiftMoneyStatisticsCache.Snapshot cached = statisticsCache.getIfPresent(coupleId);
+        if (cached != null) {
+            if (statisticsCache.isFresh(cached)) {
+                return cached.statistics();
+            }
+            long currentVersion = giftMoneyStatsRepository.findSnapshotVersionByCoupleId(coupleId).orElse(0L);
+            if (currentVersion == cached.version()) {
+                return statisticsCache.markVerified(coupleId, cached).statistics();
+            }
+        }
+        
         GiftMoneyStats stats = getStats(coupleId);
-        return GiftMoneyStatisticsResponse.from(stats);
+        GiftMoneyStatisticsResponse response = GiftMoneyStatisticsResponse.from(stats);
+        response.setTopDonors(giftMoneyRepository.findTopDonors(coupleId, TOP_DONOR_LEADERBOARD_SIZE));
+        
+        GiftMoneyStatisticsCache.Snapshot loaded = new GiftMoneyStatisticsCache.Snapshot(
+                response.getSnapshotVersion(), response, System.currentTimeMillis());
+        return statisticsCache.put(coupleId, loaded).statistics();
+    }
+    
+    /**
+     * 통계 정합성 점검 및 복구
+     * 
+     * 통계 행을 잠근 상태에서 축의금 원본으로 재계산하고, 증분 통계와 달랐던 항목 이름을 반환합니다.
+     */
+    @Transactional
+    public List<String> reconcileStatistics(Long coupleId) {
+        Map<String, Object> before = snapshot(giftMoneyStatsRepository.findByCoupleIdForUpdate(coupleId)
+                .orElse(GiftMoneyStats.builder().coupleId(coupleId).build()));
+        
+        Map<String, Object> after = snapshot(giftMoneyRepository.calculateAndUpdateStatistics(coupleId));
+        statisticsCache.invalidateCouple(coupleId);
+        
+        return after.keySet().stream()
+                .filter(field -> !isSameValue(before.get(field), after.get(field)))
+                .toList();
+    }
+    
+    // 정합성 비교 대상 항목 (최고 후원자는 동일 금액 동률이 있을 수 있어 금액만 비교)
+    private static Map<String, Object> snapshot(GiftMoneyStats stats) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("totalAmount", stats.getTotalAmount());
+        values.put("totalCount", stats.getTotalCount());
+        values.put("thanksNotSentCount", stats.getThanksNotSentCount());
+        values.put("familyAmount", stats.getFamilyAmount());
+        values.put("familyCount", stats.getFamilyCount());
+        values.put("relativeAmount", stats.getRelativeAmount());
+        values.put("relativeCount", stats.getRelativeCount());
+        values.put("friendAmount", stats.getFriendAmount());
+        values.put("friendCount", stats.getFriendCount());
+        values.put("colleagueAmount", stats.getColleagueAmount());
+        values.put("colleagueCount", stats.getColleagueCount());
+        values.put("acquaintanceAmount", stats.getAcquaintanceAmount());
+        values.put("acquaintanceCount", stats.getAcquaintanceCount());
+        values.put("otherAmount", stats.getOtherAmount());
+        values.put("otherCount", stats.getOtherCount());
+        values.put("amountUnder30kCount", stats.getAmountUnder30kCount());
+        values.put("amount30kTo50kCount", stats.getAmount30kTo50kCount());
+        values.put("amount50kTo100kCount", stats.getAmount50kTo100kCount());
+        values.put("amount100kTo200kCount", stats.getAmount100kTo200kCount());
+        values.put("amount200kTo500kCount", stats.getAmount200kTo500kCount());
+        values.put("amountOver500kCount", stats.getAmountOver500kCount());
+        values.put("topDonorAmount", stats.getTopDonorAmount());
+        values.put("firstGiftDate", stats.getFirstGiftDate());
+        values.put("lastGiftDate", stats.getLastGiftDate());
+        return values;
+    }
+    
+    private static boolean isSameValue(Object before, Object after) {
+        if (before instanceof BigDecimal beforeAmount && after instanceof BigDecimal afterAmount) {
+            return beforeAmount.compareTo(afterAmount) == 0;
+        }
+        return Objects.equals(before, after);
     }
     
     /**
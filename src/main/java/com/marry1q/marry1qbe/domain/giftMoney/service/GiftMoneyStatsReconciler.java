@@ -0,0 +1,115 @@
+package com.marry1q.marry1qbe.domain.giftMoney.service;
+
+import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyRepository;
+import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 축의금 통계 정합성 점검 (주기 실행)
+ * 
+ * 증분 통계(gift_money_stats)를 축의금 원본 집계(calculateAndUpdateStatistics)와 비교해서
+ * 달라진 커플은 재계산 값으로 복구하고, 어긋난 항목 수를 메트릭으로 남깁니다.
+ */
+@Slf4j
+@Component
+public class GiftMoneyStatsReconciler {
+    
+    private final GiftMoneyRepository giftMoneyRepository;
+    private final GiftMoneyStatsRepository giftMoneyStatsRepository;
+    private final GiftMoneyStatisticsService giftMoneyStatisticsService;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Timer runTimer;
+    private final Counter cleanCouples;
+    private final Counter driftedCouples;
+    private final Counter failedCouples;
+    private final AtomicInteger lastDriftedCouples = new AtomicInteger();
+    
+    public GiftMoneyStatsReconciler(GiftMoneyRepository giftMoneyRepository,
+                                    GiftMoneyStatsRepository giftMoneyStatsRepository,
+                                    GiftMoneyStatisticsService giftMoneyStatisticsService,
+                                    @Value("${gift-money.stats-reconciliation.enabled:true}") boolean enabled,
+                                    MeterRegistry meterRegistry) {
+        this.giftMoneyRepository = giftMoneyRepository;
+        this.giftMoneyStatsRepository = giftMoneyStatsRepository;
+        this.giftMoneyStatisticsService = giftMoneyStatisticsService;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        
+        this.runTimer = Timer.builder("gift.money.stats.reconciliation")
+                .description("축의금 통계 정합성 점검 1회 소요 시간")
+                .register(meterRegistry);
+        this.cleanCouples = Counter.builder("gift.money.stats.reconciliation.couples")
+                .tag("result", "clean")
+                .description("정합성 점검한 커플 수")
+                .register(meterRegistry);
+        this.driftedCouples = Counter.builder("gift.money.stats.reconciliation.couples")
+                .tag("result", "drift")
+                .description("정합성 점검한 커플 수")
+                .register(meterRegistry);
+        this.failedCouples = Counter.builder("gift.money.stats.reconciliation.couples")
+                .tag("result", "failure")
+                .description("정합성 점검한 커플 수")
+                .register(meterRegistry);
+        Gauge.builder("gift.money.stats.reconciliation.last.drifted", lastDriftedCouples, AtomicInteger::get)
+                .description("마지막 점검에서 통계가 어긋나 있던 커플 수")
+                .register(meterRegistry);
+    }
+    
+    @Scheduled(fixedDelayString = "${gift-money.stats-reconciliation.interval-ms:3600000}",
+               initialDelayString = "${gift-money.stats-reconciliation.initial-delay-ms:600000}")
+    public void reconcileAll() {
+        if (!enabled) {
+            return;
+        }
+        runTimer.record(() -> {
+            // 축의금이 있는 커플 + 통계만 남아 있는 커플 (모두 삭제된 경우)
+            Set<Long> coupleIds = new TreeSet<>(giftMoneyRepository.findDistinctCoupleIds());
+            coupleIds.addAll(giftMoneyStatsRepository.findAllCoupleIds());
+            
+            int drifted = 0;
+            for (Long coupleId : coupleIds) {
+                if (reconcile(coupleId)) {
+                    drifted++;
+                }
+            }
+            lastDriftedCouples.set(drifted);
+            log.info("축의금 통계 정합성 점검 완료 - 대상 커플: {}, 복구: {}", coupleIds.size(), drifted);
+        });
+    }
+    
+    private boolean reconcile(Long coupleId) {
+        try {
+            List<String> driftedFields = giftMoneyStatisticsService.reconcileStatistics(coupleId);
+            if (driftedFields.isEmpty()) {
+                cleanCouples.increment();
+                return false;
+            }
+            
+            driftedCouples.increment();
+            driftedFields.forEach(field -> Counter.builder("gift.money.stats.reconciliation.drift")
+                    .tag("field", field)
+                    .description("정합성 점검에서 복구된 통계 항목 수")
+                    .register(meterRegistry)
+                    .increment());
+            log.warn("축의금 통계 불일치 복구 - coupleId: {}, 항목: {}", coupleId, driftedFields);
+            return true;
+        } catch (Exception e) {
+            failedCouples.increment();
+            log.error("축의금 통계 정합성 점검 실패 - coupleId: {}, error: {}", coupleId, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -23,11 +23,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.bind.annotation.RequestPart;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.security.access.prepost.PreAuthorize;
 
+import java.time.ZoneId;
 import java.util.List;
 
 @Slf4j
@@ -426,13 +430,29 @@ public class InvitationController {
             )
         )
     })
-    public CustomApiResponse<InvitationResponse> getPublicInvitation(
+    public ResponseEntity<CustomApiResponse<InvitationResponse>> getPublicInvitation(
             @Parameter(
                 description = "커플 슬러그 (공개 URL에서 사용되는 고유 식별자)",
                 example = "kim-lee-wedding",
                 required = true
-            ) @PathVariable String coupleSlug) {
+            ) @PathVariable String coupleSlug,
+            WebRequest webRequest) {
         InvitationResponse invitation = invitationService.getPublicInvitationWithViewIncrement(coupleSlug);
-        return CustomApiResponse.success(invitation);
+        
+        // 청첩장 내용(updatedAt) 기준 조건부 응답 - 변경이 없으면 304 (조회수는 위에서 이미 반영)
+        if (invitation.getUpdatedAt() == null) {
+            return ResponseEntity.ok(CustomApiResponse.success(invitation));
+        }
+        long lastModified = invitation.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String etag = "W/\"" + invitation.getInvitationId() + "-" + lastModified + "\"";
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache())
+                .body(CustomApiResponse.success(invitation));
     }
 }
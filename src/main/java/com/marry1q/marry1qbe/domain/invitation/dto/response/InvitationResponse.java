@@ -1,6 +1,7 @@
 package com.marry1q.marry1qbe.domain.invitation.dto.response;
 
 import com.marry1q.marry1qbe.domain.invitation.entity.Invitation;
+import com.marry1q.marry1qbe.grobal.image.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,7 +11,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "청첩장 응답")
 public class InvitationResponse {
     
@@ -44,9 +45,15 @@ public class InvitationResponse {
     @Schema(description = "결혼식장 경도")
     private Double venueLongitude;
     
-    @Schema(description = "메인 이미지 URL")
+    @Schema(description = "메인 이미지 URL (full, 긴 변 최대 2048px)")
     private String mainImageUrl;
     
+    @Schema(description = "메인 이미지 모바일용 URL (긴 변 최대 1080px, 파생본이 없으면 mainImageUrl과 동일)")
+    private String mainImageMobileUrl;
+    
+    @Schema(description = "메인 이미지 썸네일 URL (긴 변 최대 320px, 파생본이 없으면 mainImageUrl과 동일)")
+    private String mainImageThumbnailUrl;
+    
     @Schema(description = "마음 전할 곳 메시지")
     private String accountMessage;
     
@@ -110,6 +117,8 @@ public class InvitationResponse {
                 .venueLatitude(invitation.getVenueLatitude())
                 .venueLongitude(invitation.getVenueLongitude())
                 .mainImageUrl(invitation.getMainImageUrl())
+                .mainImageMobileUrl(ImageVariant.MOBILE.urlOf(invitation.getMainImageUrl()))
+                .mainImageThumbnailUrl(ImageVariant.THUMBNAIL.urlOf(invitation.getMainImageUrl()))
                 .accountMessage(invitation.getAccountMessage())
                 .totalViews(invitation.getTotalViews())
                 .isRepresentative(invitation.getIsRepresentative())
@@ -142,6 +151,8 @@ public class InvitationResponse {
                 .venueLatitude(invitation.getVenueLatitude())
                 .venueLongitude(invitation.getVenueLongitude())
                 .mainImageUrl(invitation.getMainImageUrl())
+                .mainImageMobileUrl(ImageVariant.MOBILE.urlOf(invitation.getMainImageUrl()))
+                .mainImageThumbnailUrl(ImageVariant.THUMBNAIL.urlOf(invitation.getMainImageUrl()))
                 .accountMessage(invitation.getAccountMessage())
                 .totalViews(invitation.getTotalViews())
                 .isRepresentative(invitation.getIsRepresentative())
@@ -53,7 +53,8 @@ public class Invitation {
     @Column(name = "account_message", columnDefinition = "TEXT")
     private String accountMessage;
     
-    @Column(name = "total_views", nullable = false)
+    // 조회수는 InvitationViewCounter의 증분 UPDATE로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(name = "total_views", nullable = false, updatable = false)
     private Integer totalViews = 0;
     
     @Column(name = "is_primary", nullable = false)
@@ -150,11 +151,6 @@ public class Invitation {
         this.isRepresentative = isRepresentative;
     }
     
-    // 조회수 증가 메서드
-    public void incrementViewCount() {
-        this.totalViews++;
-    }
-    
     // 결혼일 이후 접근 가능 여부 확인 (주석처리 - wedding_date 만료 후 접속 차단 기능 비활성화)
     /*
     public boolean isAccessibleAfterWedding() {
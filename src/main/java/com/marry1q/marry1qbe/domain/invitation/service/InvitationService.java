@@ -15,10 +15,12 @@ import com.marry1q.marry1qbe.domain.invitation.entity.Invitation;
 import com.marry1q.marry1qbe.domain.invitation.exception.*;
 import com.marry1q.marry1qbe.domain.invitation.repository.InvitationRepository;
 import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
-import com.marry1q.marry1qbe.grobal.service.S3Service;
+import com.marry1q.marry1qbe.grobal.image.ImageDerivativeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -39,9 +41,14 @@ public class InvitationService {
     private final InvitationRepository invitationRepository;
     private final CoupleRepository coupleRepository;
     private final CustomerRepository customerRepository;
-    private final S3Service s3Service;
     private final CoupleService coupleService;
     private final AccountService accountService;
+    private final InvitationViewCounter invitationViewCounter;
+    private final PublicInvitationCache publicInvitationCache;
+    private final ImageDerivativeService imageDerivativeService;
+    
+    @Value("${aws.s3.endpoint:}")
+    private String s3Endpoint;
     
     // 청첩장 목록 조회 (userSeqNo로)
     @Transactional(readOnly = true)
@@ -91,6 +98,7 @@ public class InvitationService {
         
         // 1. 현재 사용자의 coupleId 가져오기
         Long coupleId = coupleService.getCurrentCoupleId();
+        publicInvitationCache.invalidateCouple(coupleId);
         
         // 2. 커플 정보 확인
         Marry1qCouple couple = coupleRepository.findByCoupleId(coupleId)
@@ -161,6 +169,7 @@ public class InvitationService {
         // 1. 현재 사용자의 coupleId 가져오기
         Long coupleId = coupleService.getCurrentCoupleId();
         log.info("현재 사용자 coupleId: {}", coupleId);
+        publicInvitationCache.invalidateCouple(coupleId);
         
         // 2. 커플 정보 확인
         Marry1qCouple couple = coupleRepository.findByCoupleId(coupleId)
@@ -226,15 +235,14 @@ public class InvitationService {
     // S3에 메인 이미지 업로드 (private 메서드)
     private String uploadMainImageToS3(MultipartFile file, Long coupleId) {
         try {
-            // UUID 기반 파일명으로 통일
-            String uuid = UUID.randomUUID().toString();
-            String extension = getFileExtension(file.getOriginalFilename());
-            
-            String fileName = String.format("invitations/%d/%s.%s", coupleId, uuid, extension);
+            // UUID 기반 경로로 통일: invitations/{coupleId}/{uuid}/{full,mobile,thumbnail}.jpg
+            String baseKey = String.format("invitations/%d/%s", coupleId, UUID.randomUUID());
             
-            // S3에 업로드
-            return s3Service.uploadFile(file, fileName);
+            // 파생본 생성 후 S3에 업로드 (full URL을 mainImageUrl로 사용)
+            return imageDerivativeService.uploadDerivatives(file, baseKey).fullUrl();
             
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("S3 이미지 업로드 실패", e);
             throw new RuntimeException("이미지 업로드에 실패했습니다: " + e.getMessage());
@@ -279,6 +287,7 @@ public class InvitationService {
         // 1. 청첩장 조회
         Invitation invitation = invitationRepository.findById(invitationId)
                 .orElseThrow(() -> new InvitationNotFoundException("청첩장이 존재하지 않습니다."));
+        publicInvitationCache.invalidateCouple(invitation.getCoupleId());
         
         log.info("기존 청첩장 정보:");
         log.info("  - coupleId: {}", invitation.getCoupleId());
@@ -344,8 +353,8 @@ public class InvitationService {
                 try {
                     log.info("기존 이미지 삭제 시도 - URL: {}", originalImageUrl);
                     String s3Key = extractS3KeyFromUrl(originalImageUrl);
-                    log.info("S3Service.deleteFile() 호출 - s3Key: {}", s3Key);
-                    s3Service.deleteFile(s3Key);
+                    log.info("S3 이미지(파생본 포함) 삭제 호출 - s3Key: {}", s3Key);
+                    imageDerivativeService.deleteWithDerivatives(s3Key);
                     log.info("기존 메인 이미지 S3 삭제 완료 - invitationId: {}, s3Key: {}", invitationId, s3Key);
                 } catch (Exception e) {
                     log.error("기존 메인 이미지 S3 삭제 실패 - invitationId: {}, URL: {}, error: {}", 
@@ -376,8 +385,8 @@ public class InvitationService {
                 try {
                     log.info("롤백: 새로 업로드된 이미지 삭제 시도 - URL: {}", newImageUrl);
                     String s3Key = extractS3KeyFromUrl(newImageUrl);
-                    log.info("롤백: S3Service.deleteFile() 호출 - s3Key: {}", s3Key);
-                    s3Service.deleteFile(s3Key);
+                    log.info("롤백: S3 이미지(파생본 포함) 삭제 호출 - s3Key: {}", s3Key);
+                    imageDerivativeService.deleteWithDerivatives(s3Key);
                     log.info("롤백: 새로 업로드된 이미지 S3 삭제 완료 - invitationId: {}, s3Key: {}", invitationId, s3Key);
                 } catch (Exception deleteException) {
                     log.error("롤백: 새로 업로드된 이미지 S3 삭제 실패 - invitationId: {}, URL: {}, error: {}", 
@@ -402,6 +411,7 @@ public class InvitationService {
         
         Invitation invitation = invitationRepository.findById(invitationId)
                 .orElseThrow(() -> new InvitationNotFoundException("청첩장이 존재하지 않습니다."));
+        publicInvitationCache.invalidateCouple(invitation.getCoupleId());
         
         // 부분 업데이트
         if (request.getTitle() != null) invitation.update(
@@ -442,6 +452,7 @@ public class InvitationService {
         // 1. 청첩장 조회
         Invitation invitation = invitationRepository.findById(invitationId)
                 .orElseThrow(() -> new InvitationNotFoundException("청첩장이 존재하지 않습니다."));
+        publicInvitationCache.invalidateCouple(invitation.getCoupleId());
         
         // 2. 삭제할 청첩장이 대표 청첩장인지 확인
         boolean isRepresentative = invitation.getIsRepresentative();
@@ -452,7 +463,7 @@ public class InvitationService {
             try {
                 log.info("청첩장 삭제: S3 이미지 삭제 시도 - invitationId: {}, URL: {}", invitationId, mainImageUrl);
                 String s3Key = extractS3KeyFromUrl(mainImageUrl);
-                s3Service.deleteFile(s3Key);
+                imageDerivativeService.deleteWithDerivatives(s3Key);
                 log.info("청첩장 삭제: S3 이미지 삭제 완료 - invitationId: {}, s3Key: {}", invitationId, s3Key);
             } catch (Exception e) {
                 log.error("청첩장 삭제: S3 이미지 삭제 실패 - invitationId: {}, URL: {}, error: {}", 
@@ -488,6 +499,7 @@ public class InvitationService {
         
         // 1. 현재 사용자의 coupleId 가져오기
         Long coupleId = coupleService.getCurrentCoupleId();
+        publicInvitationCache.invalidateCouple(coupleId);
         
         // 2. 기존 이미지 삭제 (있다면)
         try {
@@ -510,6 +522,7 @@ public class InvitationService {
         
         // 1. 현재 사용자의 coupleId 가져오기
         Long coupleId = coupleService.getCurrentCoupleId();
+        publicInvitationCache.invalidateCouple(coupleId);
         
         // 2. 이미지 삭제
         deleteMainImageInternal(coupleId);
@@ -524,6 +537,7 @@ public class InvitationService {
         // 1. 청첩장 조회
         Invitation invitation = invitationRepository.findById(invitationId)
                 .orElseThrow(() -> new InvitationNotFoundException("청첩장이 존재하지 않습니다."));
+        publicInvitationCache.invalidateCouple(invitation.getCoupleId());
         
         // 2. 기존 대표 청첩장 해제
         List<Invitation> existingRepresentatives = invitationRepository.findByCoupleIdOrderByUpdatedAtDesc(invitation.getCoupleId())
@@ -544,44 +558,24 @@ public class InvitationService {
     }
     
     // 공개 청첩장 조회 (조회수 자동 증가)
-    @Transactional
+    // 응답은 PublicInvitationCache에서 재사용하고, 조회수는 InvitationViewCounter에서 모아서 반영
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public InvitationResponse getPublicInvitationWithViewIncrement(String coupleSlug) {
         try {
-            // 1. 커플 정보 조회
-            Marry1qCouple couple = coupleRepository.findByUrlSlug(coupleSlug)
-                    .orElseThrow(() -> new CoupleNotFoundException("커플 정보를 찾을 수 없습니다. URL 슬러그: " + coupleSlug));
+            // 1. 캐시 조회 (없으면 커플/대표 청첩장 조회 후 생성)
+            PublicInvitationCache.CachedInvitation cached = publicInvitationCache.get(coupleSlug, this::loadPublicInvitation);
+            Long invitationId = cached.response().getInvitationId();
             
-            // 2. 대표 청첩장 조회
-            Invitation invitation = invitationRepository.findByCoupleIdAndIsRepresentativeTrue(couple.getCoupleId())
-                    .orElseThrow(() -> new InvitationNotFoundException("청첩장이 존재하지 않습니다. 커플 ID: " + couple.getCoupleId()));
+            // 2. 조회수 증가 (메모리 카운터, 주기적으로 DB 반영)
+            invitationViewCounter.increment(invitationId);
             
-            // 3. 결혼일 이후 접근 제한 확인 (주석처리 - wedding_date 만료 후 접속 차단 기능 비활성화)
-            /*
-            if (!invitation.isAccessibleAfterWedding()) {
-                throw new InvitationAccessDeniedException("결혼식이 종료되었습니다. 결혼일: " + invitation.getWeddingDate());
-            }
-            */
+            log.info("공개 청첩장 조회 성공 - coupleSlug: {}, invitationId: {}", coupleSlug, invitationId);
             
-            // 4. 조회수 증가 (동기 처리)
-            try {
-                int previousViews = invitation.getTotalViews();
-                invitation.incrementViewCount();
-                invitationRepository.save(invitation);
-                log.info("조회수 증가 성공 - invitationId: {}, 이전 조회수: {}, 현재 조회수: {}", 
-                        invitation.getInvitationId(), previousViews, invitation.getTotalViews());
-                
-                // 특별 로깅: 조회수 증가 시 웨딩 데이터 추적
-                logWeddingDataReceived(invitation, "VIEW_INCREMENT");
-            } catch (Exception e) {
-                // 조회수 증가 실패 시 로그만 남기고 계속 진행
-                log.info("조회수 증가 실패 - invitationId: {}, error: {}", 
-                        invitation.getInvitationId(), e.getMessage());
-            }
-            
-            log.info("공개 청첩장 조회 성공 - coupleSlug: {}, invitationId: {}", 
-                    coupleSlug, invitation.getInvitationId());
-            
-            return createInvitationResponseWithMeetingAccount(invitation);
+            // 캐시 이후 늘어난 조회수까지 포함해서 응답
+            long viewsSinceCached = invitationViewCounter.recordedViews(invitationId) - cached.recordedViews();
+            return cached.response().toBuilder()
+                    .totalViews((int) (cached.response().getTotalViews() + viewsSinceCached))
+                    .build();
             
         } catch (Exception e) {
             log.info("공개 청첩장 조회 실패 - coupleSlug: {}, error: {}", coupleSlug, e.getMessage());
@@ -589,7 +583,33 @@ public class InvitationService {
         }
     }
     
-
+    // 공개 청첩장 캐시 항목 생성
+    private PublicInvitationCache.CachedInvitation loadPublicInvitation(String coupleSlug) {
+        // 1. 커플 정보 조회
+        Marry1qCouple couple = coupleRepository.findByUrlSlug(coupleSlug)
+                .orElseThrow(() -> new CoupleNotFoundException("커플 정보를 찾을 수 없습니다. URL 슬러그: " + coupleSlug));
+        
+        // 2. 대표 청첩장 조회
+        Invitation invitation = invitationRepository.findByCoupleIdAndIsRepresentativeTrue(couple.getCoupleId())
+                .orElseThrow(() -> new InvitationNotFoundException("청첩장이 존재하지 않습니다. 커플 ID: " + couple.getCoupleId()));
+        
+        // 3. 결혼일 이후 접근 제한 확인 (주석처리 - wedding_date 만료 후 접속 차단 기능 비활성화)
+        /*
+        if (!invitation.isAccessibleAfterWedding()) {
+            throw new InvitationAccessDeniedException("결혼식이 종료되었습니다. 결혼일: " + invitation.getWeddingDate());
+        }
+        */
+        
+        // 아직 DB에 반영되지 않은 조회수까지 포함
+        Long invitationId = invitation.getInvitationId();
+        InvitationResponse response = createInvitationResponseWithMeetingAccount(invitation).toBuilder()
+                .totalViews((int) (invitation.getTotalViews() + invitationViewCounter.pendingViews(invitationId)))
+                .build();
+        
+        log.debug("공개 청첩장 캐시 생성 - coupleSlug: {}, invitationId: {}", coupleSlug, invitationId);
+        return new PublicInvitationCache.CachedInvitation(
+                response, couple.getCoupleId(), invitationViewCounter.recordedViews(invitationId));
+    }
     
     // 최근 수정된 청첩장을 대표로 설정
     private void setLatestInvitationAsRepresentative(Long coupleId) {
@@ -639,6 +659,15 @@ public class InvitationService {
                 extractedKey = path.substring(1); // 첫 번째 '/' 제거
                 log.info("CloudFront URL에서 추출된 키: {}", extractedKey);
             }
+            // 로컬 S3 호환 서버 URL (path-style): http://localhost:9000/bucket/invitations/1/main-image.jpg
+            else if (s3Endpoint != null && !s3Endpoint.isBlank() && imageUrl.startsWith(s3Endpoint)) {
+                log.info("로컬 S3 URL 형식 감지됨");
+                String[] pathParts = path.split("/");
+                if (pathParts.length > 2) {
+                    extractedKey = String.join("/", Arrays.copyOfRange(pathParts, 2, pathParts.length));
+                }
+                log.info("로컬 S3 URL에서 추출된 키: {}", extractedKey);
+            }
             else {
                 log.error("지원하지 않는 URL 형식 - URL: {}", imageUrl);
                 throw new S3UrlInvalidException("지원하지 않는 URL 형식입니다: " + imageUrl);
@@ -658,27 +687,20 @@ public class InvitationService {
         }
     }
     
-    // 파일 확장자 추출
-    private String getFileExtension(String filename) {
-        if (filename == null || filename.lastIndexOf(".") == -1) {
-            return "jpg"; // 기본값
-        }
-        return filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
-    }
-
     // 내부 메서드: 메인 이미지 업로드
     private String uploadMainImageInternal(Long coupleId, MultipartFile file) {
         // UUID 생성
         String uuid = UUID.randomUUID().toString();
         
-        // S3 키 생성: invitations/{coupleId}/{uuid}.{확장자}
-        String newS3Key = String.format("invitations/%d/%s.%s", 
-                coupleId, uuid, getFileExtension(file.getOriginalFilename()));
+        // S3 키 생성: invitations/{coupleId}/{uuid}/{full,mobile,thumbnail}.jpg
+        String newS3Key = String.format("invitations/%d/%s", coupleId, uuid);
         
         try {
-            String imageUrl = s3Service.uploadFile(file, newS3Key);
+            String imageUrl = imageDerivativeService.uploadDerivatives(file, newS3Key).fullUrl();
             log.info("메인 이미지 S3 업로드 완료 - coupleId: {}, s3Key: {}", coupleId, newS3Key);
             return imageUrl;
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("메인 이미지 S3 업로드 실패 - coupleId: {}, s3Key: {}, error: {}", 
                     coupleId, newS3Key, e.getMessage());
@@ -704,8 +726,8 @@ public class InvitationService {
             try {
                 log.info("대표 청첩장 이미지 삭제 시도 - coupleId: {}, URL: {}", coupleId, representativeInvitation.getMainImageUrl());
                 String s3Key = extractS3KeyFromUrl(representativeInvitation.getMainImageUrl());
-                log.info("S3Service.deleteFile() 호출 - s3Key: {}", s3Key);
-                s3Service.deleteFile(s3Key);
+                log.info("S3 이미지(파생본 포함) 삭제 호출 - s3Key: {}", s3Key);
+                imageDerivativeService.deleteWithDerivatives(s3Key);
                 log.info("기존 메인 이미지 S3 삭제 완료 - coupleId: {}, s3Key: {}", coupleId, s3Key);
                 
                 // DB에서 이미지 URL 제거
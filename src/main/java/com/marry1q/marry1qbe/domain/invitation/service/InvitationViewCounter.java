@@ -0,0 +1,105 @@
+package com.marry1q.marry1qbe.domain.invitation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공개 청첩장 조회수 카운터 (write-behind)
+ * 
+ * 조회 시에는 메모리의 LongAdder만 증가시키고,
+ * 주기적으로 모아서 total_views = total_views + ? 배치 UPDATE로 반영합니다.
+ * 반영 실패 시 증가분을 다시 메모리에 되돌려 다음 주기에 재시도합니다.
+ */
+@Slf4j
+@Component
+public class InvitationViewCounter {
+    
+    private static final String FLUSH_SQL =
+            "UPDATE marry1q_invitation SET total_views = total_views + ? WHERE invitation_id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, LongAdder> recordedViews = new ConcurrentHashMap<>();
+    private final Counter flushedViews;
+    
+    public InvitationViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushedViews = Counter.builder("invitation.views.flushed")
+                .description("DB에 반영된 청첩장 조회수")
+                .register(meterRegistry);
+        Gauge.builder("invitation.views.pending", pendingViews,
+                        views -> views.values().stream().mapToLong(LongAdder::sum).sum())
+                .description("DB 반영 대기 중인 조회수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 조회수 1 증가 (메모리)
+     */
+    public void increment(Long invitationId) {
+        recordedViews.computeIfAbsent(invitationId, id -> new LongAdder()).increment();
+        pendingViews.computeIfAbsent(invitationId, id -> new LongAdder()).increment();
+    }
+    
+    /**
+     * 서버 기동 이후 기록된 전체 조회수 (DB 반영 여부와 무관, 감소하지 않음)
+     */
+    public long recordedViews(Long invitationId) {
+        LongAdder adder = recordedViews.get(invitationId);
+        return adder != null ? adder.sum() : 0;
+    }
+    
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingViews(Long invitationId) {
+        LongAdder adder = pendingViews.get(invitationId);
+        return adder != null ? adder.sum() : 0;
+    }
+    
+    /**
+     * 누적 조회수 DB 반영
+     */
+    @Scheduled(fixedDelayString = "${invitation.view-counter.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+            long views = entry.getValue().sumThenReset();
+            if (views > 0) {
+                batchArgs.add(new Object[]{views, entry.getKey()});
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+            long total = batchArgs.stream().mapToLong(args -> (Long) args[0]).sum();
+            flushedViews.increment(total);
+            log.debug("청첩장 조회수 반영 완료 - 청첩장: {}건, 조회수: {}", batchArgs.size(), total);
+        } catch (Exception e) {
+            log.warn("청첩장 조회수 반영 실패 - 다음 주기에 재시도 ({}건): {}", batchArgs.size(), e.getMessage());
+            for (Object[] args : batchArgs) {
+                pendingViews.computeIfAbsent((Long) args[1], id -> new LongAdder()).add((Long) args[0]);
+            }
+        }
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,76 @@
+package com.marry1q.marry1qbe.domain.invitation.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.marry1q.marry1qbe.domain.invitation.dto.response.InvitationResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 공개 청첩장 응답 캐시 (coupleSlug 기준)
+ * 
+ * 하객 조회가 대부분이고 수정은 드물기 때문에 완성된 InvitationResponse를 보관합니다.
+ * 청첩장/대표 설정/이미지가 바뀌면 커플 단위로 무효화하고,
+ * 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 무효화해서 커밋 전 값이 다시 캐시되지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class PublicInvitationCache {
+    
+    private final Cache<String, CachedInvitation> cache;
+    
+    public PublicInvitationCache(@Value("${invitation.public-cache.max-size:5000}") long maxSize,
+                                 @Value("${invitation.public-cache.ttl-seconds:300}") long ttlSeconds,
+                                 MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "publicInvitation");
+    }
+    
+    /**
+     * 캐시 조회 (없으면 loader로 생성 후 저장)
+     */
+    public CachedInvitation get(String coupleSlug, Function<String, CachedInvitation> loader) {
+        return cache.get(coupleSlug, loader);
+    }
+    
+    /**
+     * 커플의 공개 청첩장 캐시 무효화
+     */
+    public void invalidateCouple(Long coupleId) {
+        evictCouple(coupleId);
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCouple(coupleId);
+                }
+            });
+        }
+    }
+    
+    private void evictCouple(Long coupleId) {
+        cache.asMap().values().removeIf(cached -> cached.coupleId().equals(coupleId));
+        log.debug("공개 청첩장 캐시 무효화 - coupleId: {}", coupleId);
+    }
+    
+    /**
+     * 캐시 항목
+     * 
+     * @param recordedViews 캐시 시점까지 InvitationViewCounter에 기록된 조회수 (이후 증가분 계산용)
+     */
+    public record CachedInvitation(InvitationResponse response, Long coupleId, long recordedViews) {
+    }
+}
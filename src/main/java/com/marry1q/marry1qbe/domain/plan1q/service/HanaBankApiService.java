@@ -7,8 +7,14 @@ import com.marry1q.marry1qbe.domain.plan1q.dto.response.HanaBankProductResponse;
 import com.marry1q.marry1qbe.grobal.config.ExternalApiConfig;
 import com.marry1q.marry1qbe.grobal.exception.CustomException;
 import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -17,6 +23,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -27,6 +35,18 @@ public class HanaBankApiService {
     
     private final RestTemplate restTemplate;
     private final ExternalApiConfig externalApiConfig;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${hana-bank.profit-info-cache.max-size:10000}")
+    private long profitInfoCacheMaxSize;
+    
+    @Value("${hana-bank.profit-info-cache.refresh-after-seconds:60}")
+    private long profitInfoRefreshAfterSeconds;
+    
+    @Value("${hana-bank.profit-info-cache.ttl-seconds:600}")
+    private long profitInfoTtlSeconds;
+    
+    private LoadingCache<ProfitInfoCacheKey, AccountProfitInfoResponse> profitInfoCache;
     
     /**
      * 상품 가입 및 계좌 생성
@@ -58,9 +78,52 @@ public class HanaBankApiService {
     }
     
     /**
-     * 계좌별 실시간 수익 정보 조회
+     * 수익 정보 캐시 초기화
+     * 
+     * - refreshAfterWrite 이후 조회는 기존 값을 바로 반환하고 백그라운드에서 갱신 (stale-while-revalidate)
+     * - 갱신이 실패하거나 느리면 마지막으로 받은 값(lastUpdated 포함)을 계속 반환
+     * - expireAfterWrite 가 지나면 항목을 버리고 다시 동기 조회
+     */
+    @PostConstruct
+    void initProfitInfoCache() {
+        profitInfoCache = Caffeine.newBuilder()
+                .maximumSize(profitInfoCacheMaxSize)
+                .refreshAfterWrite(Duration.ofSeconds(profitInfoRefreshAfterSeconds))
+                .expireAfterWrite(Duration.ofSeconds(profitInfoTtlSeconds))
+                .recordStats()
+                .build(key -> fetchAccountProfitInfo(key.accountNumber(), key.userCi()));
+        
+        // cache.gets{result=hit|miss}, cache.evictions 등 메트릭 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, profitInfoCache, "hanaBankProfitInfo");
+        
+        log.info("하나은행 수익 정보 캐시 초기화 - 최대 크기: {}, 갱신 주기: {}초, TTL: {}초", 
+                profitInfoCacheMaxSize, profitInfoRefreshAfterSeconds, profitInfoTtlSeconds);
+    }
+    
+    /**
+     * 계좌별 실시간 수익 정보 조회 (캐시 사용)
      */
     public AccountProfitInfoResponse getAccountProfitInfo(String accountNumber, String userCi) {
+        return profitInfoCache.get(new ProfitInfoCacheKey(accountNumber, userCi));
+    }
+    
+    /**
+     * 계좌 수익 정보 캐시 무효화
+     * 
+     * 가입/수동납입/자동이체 변경처럼 잔액이 바뀌는 작업 후 호출합니다.
+     */
+    public void invalidateAccountProfitInfo(String accountNumber) {
+        if (accountNumber == null) {
+            return;
+        }
+        profitInfoCache.asMap().keySet().removeIf(key -> accountNumber.equals(key.accountNumber()));
+        log.debug("하나은행 수익 정보 캐시 무효화 - 계좌번호: {}", accountNumber);
+    }
+    
+    /**
+     * 계좌별 실시간 수익 정보 조회 (하나은행 API 직접 호출)
+     */
+    private AccountProfitInfoResponse fetchAccountProfitInfo(String accountNumber, String userCi) {
         String endpoint = "/api/v1/accounts/" + accountNumber + "/profit-info?userCi=" + userCi;
         String fullUrl = externalApiConfig.getHanaBank().getUrl() + endpoint;
         
@@ -73,6 +136,10 @@ public class HanaBankApiService {
             if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null && response.getBody().isSuccess()) {
                 AccountProfitInfoResponse data = response.getBody().getData();
                 log.info("하나은행 백엔드 계좌 수익 정보 조회 성공 - 응답: {}", data);
+                if (data != null && data.getLastUpdated() == null) {
+                    // 캐시된 값이 언제 기준인지 알 수 있도록 조회 시각을 기록
+                    data.setLastUpdated(LocalDateTime.now());
+                }
                 return data;
             } else {
                 String errorMessage = response.getBody() != null ? response.getBody().getMessage() : "알 수 없는 오류";
@@ -145,6 +212,9 @@ public class HanaBankApiService {
         }
     }
 
+    // 수익 정보 캐시 키 (계좌번호 + userCi)
+    private record ProfitInfoCacheKey(String accountNumber, String userCi) {}
+    
     // Helper classes for API response mapping
     private static class ApiResponseWrapper<T> {
         private T data;
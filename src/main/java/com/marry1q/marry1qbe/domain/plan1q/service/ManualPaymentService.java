@@ -5,6 +5,7 @@ import com.marry1q.marry1qbe.domain.account.dto.request.AutoTransferCreateReques
 import com.marry1q.marry1qbe.domain.account.dto.request.WithdrawRequest;
 import com.marry1q.marry1qbe.domain.account.dto.response.AutoTransferResponse;
 import com.marry1q.marry1qbe.domain.account.dto.response.WithdrawResponse;
+import com.marry1q.marry1qbe.domain.account.service.AutoTransferOutboxService;
 import com.marry1q.marry1qbe.domain.account.service.AutoTransferService;
 import com.marry1q.marry1qbe.domain.account.service.WithdrawService;
 import com.marry1q.marry1qbe.domain.plan1q.dto.request.ManualPaymentRequest;
@@ -26,7 +27,7 @@ import java.time.LocalDateTime;
  * Plan1Q 상품 수동납입 서비스
  * 
  * 기능: 사용자가 Plan1Q 상품에 수동으로 납입하는 기능
- * 처리 과정: 이체 처리 → 자동이체 정보 즉시 업데이트
+ * 처리 과정: 이체 처리 → 자동이체 회차 반영 예약 (아웃박스, 커밋 후 하나은행에 비동기 반영)
  */
 @Service
 @RequiredArgsConstructor
@@ -38,6 +39,8 @@ public class ManualPaymentService {
     private final AutoTransferService autoTransferService;
     private final SecurityUtil securityUtil;
     private final CustomerRepository customerRepository;
+    private final HanaBankApiService hanaBankApiService;
+    private final AutoTransferOutboxService autoTransferOutboxService;
     
     /**
      * 수동납입 처리
@@ -45,7 +48,7 @@ public class ManualPaymentService {
      * 처리 과정:
      * 1. 자동이체 정보 검증
      * 2. 기존 보내기 서비스로 이체 처리
-     * 3. 자동이체 정보 즉시 업데이트
+     * 3. 자동이체 회차 반영 예약
      */
     public ManualPaymentResponse processManualPayment(ManualPaymentRequest request) {
         log.info("수동납입 처리 시작 - 자동이체ID: {}, 금액: {}", 
@@ -65,10 +68,13 @@ public class ManualPaymentService {
             WithdrawRequest withdrawRequest = createWithdrawRequest(request, autoTransfer);
             WithdrawResponse withdrawResponse = withdrawService.processWithdraw(withdrawRequest);
             
-            // 4. 자동이체 정보 즉시 업데이트
-            updateAutoTransferAfterManualPayment(request, autoTransfer);
+            // 4. 자동이체 회차 반영 예약 (하나은행 호출은 커밋 후 디스패처가 처리)
+            updateAutoTransferAfterManualPayment(request, autoTransfer, withdrawResponse);
             
-            // 5. 수동납입 응답 생성
+            // 5. 납입 계좌 수익 정보 캐시 무효화
+            hanaBankApiService.invalidateAccountProfitInfo(autoTransfer.getToAccountNumber());
+            
+            // 6. 수동납입 응답 생성
             Integer currentInstallment = autoTransfer.getCurrentInstallment();
             Integer remainingInstallments = autoTransfer.getRemainingInstallments();
             
@@ -77,7 +83,7 @@ public class ManualPaymentService {
             int remainingInstallmentsValue = remainingInstallments != null ? remainingInstallments : 0;
             
             return ManualPaymentResponse.builder()
-                .transactionId(withdrawResponse.getTransactionId() != null ? withdrawResponse.getTransactionId().toString() : "UNKNOWN")
+                .transactionId(withdrawResponse.getTransactionId() != null ? withdrawResponse.getTransactionId().toString() : withdrawResponse.getBankTranId())
                 .amount(withdrawResponse.getAmount())
                 .balanceAfterTransaction(withdrawResponse.getBalanceAfterTransaction())
                 .currentInstallment(currentInstallmentValue + 1)
@@ -123,6 +129,16 @@ public class ManualPaymentService {
             throw new IllegalArgumentException("모든 회차가 완료된 자동이체는 수동납입할 수 없습니다.");
         }
         
+        // 같은 자동이체의 동시 수동납입 차단 (잠금은 이 트랜잭션 종료까지 유지)
+        if (!autoTransferOutboxService.tryLockAutoTransfer(autoTransferId)) {
+            throw new IllegalArgumentException("이전 납입을 처리하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
+        // 이전 납입의 회차 반영이 아직 전송 중이면 같은 회차로 중복 반영되지 않게 차단
+        if (autoTransferOutboxService.hasPendingChanges(autoTransferId)) {
+            throw new IllegalArgumentException("이전 납입 내역을 반영하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        
         return autoTransfer;
     }
     
@@ -144,16 +160,15 @@ public class ManualPaymentService {
     }
     
     /**
-     * 수동납입 후 자동이체 정보 즉시 업데이트
+     * 수동납입 후 자동이체 정보 업데이트 예약
      */
-    private void updateAutoTransferAfterManualPayment(ManualPaymentRequest request, AutoTransferResponse autoTransfer) {
+    private void updateAutoTransferAfterManualPayment(ManualPaymentRequest request, AutoTransferResponse autoTransfer,
+                                                      WithdrawResponse withdrawResponse) {
         try {
-            log.info("수동납입 후 자동이체 정보 업데이트 시작 - 자동이체ID: {}", request.getAutoTransferId());
+            log.info("수동납입 후 자동이체 정보 업데이트 예약 시작 - 자동이체ID: {}", request.getAutoTransferId());
             
             // 수동납입의 경우 기존 자동이체를 삭제하고 새로운 자동이체를 등록
-            // (회차 정보가 업데이트된 상태로)
-            autoTransferService.deleteAutoTransfer(request.getAutoTransferId());
-            
+            // (회차 정보가 업데이트된 상태로, 삭제와 등록은 하나의 아웃박스 메시지로 순서대로 전송)
             // 새로운 자동이체 등록 (업데이트된 회차 정보로)
             // 출금 계좌는 현재 사용자의 모임통장으로 설정
             String fromAccountNumber = getCurrentUserAccountNumber();
@@ -173,15 +188,20 @@ public class ManualPaymentService {
                 .lastExecutionDate(LocalDate.now())
                 .build();
             
-            autoTransferService.createAutoTransfer(newAutoTransferRequest);
+            // 같은 납입 건은 한 번만 반영되도록 은행 거래 ID(이체 원장 키)로 멱등성 키 생성
+            // (재요청이 이체 원장에서 재생되면 같은 bankTranId 가 돌아와 아웃박스에 중복 등록되지 않음)
+            String idempotencyKey = "manual-payment:" + request.getAutoTransferId() + ":" + withdrawResponse.getBankTranId();
+            
+            // 별도 트랜잭션으로 커밋 (실패해도 이 트랜잭션을 rollback-only 로 만들지 않음)
+            autoTransferService.enqueueReplaceAutoTransfer(request.getAutoTransferId(), newAutoTransferRequest, idempotencyKey);
             
-            log.info("수동납입 후 자동이체 정보 업데이트 완료 - 자동이체ID: {}, 현재회차: {}, 남은회차: {}", 
+            log.info("수동납입 후 자동이체 정보 업데이트 예약 완료 - 자동이체ID: {}, 현재회차: {}, 남은회차: {}", 
                      request.getAutoTransferId(), 
                      autoTransfer.getCurrentInstallment() != null ? autoTransfer.getCurrentInstallment() + 1 : 2, 
                      autoTransfer.getRemainingInstallments() != null ? autoTransfer.getRemainingInstallments() - 1 : 0);
             
         } catch (Exception e) {
-            log.error("수동납입 후 자동이체 정보 업데이트 실패 - 자동이체ID: {}, 오류: {}", 
+            log.error("수동납입 후 자동이체 정보 업데이트 예약 실패 - 자동이체ID: {}, 오류: {}", 
                       request.getAutoTransferId(), e.getMessage(), e);
             // 수동납입은 성공했으므로 예외를 던지지 않음
         }
@@ -13,19 +13,31 @@ import com.marry1q.marry1qbe.grobal.exception.CustomException;
 import com.marry1q.marry1qbe.grobal.commonCode.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import com.marry1q.marry1qbe.domain.plan1q.dto.hanabank.AccountProfitInfoResponse;
 import com.marry1q.marry1qbe.domain.plan1q.dto.response.Plan1QProductResponse;
 import com.marry1q.marry1qbe.domain.plan1q.exception.Plan1QGoalNotFoundException;
 import com.marry1q.marry1qbe.domain.plan1q.service.HanaBankApiService;
 import com.marry1q.marry1qbe.domain.customer.entity.Customer;
 import com.marry1q.marry1qbe.domain.customer.repository.CustomerRepository;
+import com.marry1q.marry1qbe.grobal.executor.ExternalApiExecutor;
 
 @Service
 @RequiredArgsConstructor
@@ -38,6 +50,10 @@ public class Plan1QGoalService {
     private final CommonCodeService commonCodeService;
     private final HanaBankApiService hanaBankApiService;
     private final CustomerRepository customerRepository;
+    private final ExternalApiExecutor externalApiExecutor;
+    
+    @Value("${plan1q.real-time.request-budget-ms:5000}")
+    private long realTimeBudgetMs;
     
     /**
      * Plan1Q 목표 생성 (AI 추천 포함)
@@ -335,15 +351,12 @@ public class Plan1QGoalService {
                 .map(goal -> Plan1QGoalDetailResponse.from(goal, commonCodeService))
                 .toList();
             
-            // 각 목표에 대해 실시간 데이터 업데이트
-            for (Plan1QGoalDetailResponse response : responses) {
-                try {
-                    updateGoalWithRealTimeData(response, response.getUserSeqNo());
-                } catch (Exception e) {
-                    log.warn("목표 실시간 데이터 업데이트 실패 - 목표ID: {}, 오류: {}", 
-                        response.getGoalId(), e.getMessage());
-                    response.setErrorMessage("실시간 데이터를 가져올 수 없습니다");
-                }
+            // 전체 목표의 실시간 데이터를 한 번에 업데이트
+            try {
+                updateGoalsWithRealTimeData(responses);
+            } catch (Exception e) {
+                log.warn("목표 실시간 데이터 업데이트 실패 - 커플ID: {}, 오류: {}", coupleId, e.getMessage());
+                responses.forEach(response -> response.setErrorMessage("실시간 데이터를 가져올 수 없습니다"));
             }
             
             log.info("-----------------------------------------------------");
@@ -384,7 +397,7 @@ public class Plan1QGoalService {
         
         // 3. 실시간 데이터 업데이트 및 수익률 계산
         try {
-            updateGoalWithRealTimeData(response, goal.getUserSeqNo());
+            updateGoalsWithRealTimeData(List.of(response));
         } catch (Exception e) {
             log.warn("목표 실시간 데이터 업데이트 실패 - 목표ID: {}, 오류: {}", 
                 goalId, e.getMessage());
@@ -529,78 +542,112 @@ public class Plan1QGoalService {
     // ==================== 실시간 데이터 업데이트 공통 메서드들 ====================
     
     /**
-     * 목표에 실시간 데이터 업데이트 및 수익률 계산 (공통 메서드)
+     * 목표 목록에 실시간 데이터 업데이트 및 수익률 계산 (공통 메서드)
+     * 
+     * 모든 목표의 가입 상품 수익 정보 조회를 한 번에 동시 실행하고,
+     * 요청 전체 제한 시간(realTimeBudgetMs) 안에 응답하지 못한 상품은 실패로 처리합니다.
+     * 하나은행 동시 호출 수는 ExternalApiExecutor 의 hana-bank 제한을 따릅니다.
      */
-    private void updateGoalWithRealTimeData(Plan1QGoalDetailResponse response, String userSeqNo) {
+    private void updateGoalsWithRealTimeData(List<Plan1QGoalDetailResponse> responses) {
         long startTime = System.currentTimeMillis();
-        
-        try {
-            // 1. 가입된 상품에 대해 하나은행 API 호출하여 실시간 데이터 조회 (개별 처리)
-            boolean allSuccess = updateProductsWithRealTimeData(response.getProducts(), userSeqNo);
+        Set<Plan1QGoalDetailResponse> failedGoals = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, String> userCiBySeqNo = new HashMap<>();
+        List<ProfitInfoTask> tasks = new ArrayList<>();
+        // 동시 호출 한도 대기도 요청 전체 제한 시간 안에서만 허용
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(realTimeBudgetMs);
+        
+        // 1. 가입된 상품 전체에 대해 하나은행 수익 정보 조회 시작
+        for (Plan1QGoalDetailResponse response : responses) {
+            String userCi;
+            try {
+                userCi = userCiBySeqNo.computeIfAbsent(response.getUserSeqNo(), this::getUserCiFromUserSeqNo);
+            } catch (Exception e) {
+                log.info("❌ 사용자 정보 조회 실패로 실시간 데이터 업데이트 불가 - 목표ID: {}, 오류: {}", 
+                    response.getGoalId(), e.getMessage());
+                response.getProducts().stream()
+                    .filter(this::isRealTimeTarget)
+                    .forEach(this::setProductDataToNull);
+                failedGoals.add(response);
+                continue;
+            }
             
-            // 2. 현재 모은 금액 계산 및 업데이트 (성공한 상품만)
+            for (Plan1QProductResponse product : response.getProducts()) {
+                if (isRealTimeTarget(product)) {
+                    String accountNumber = product.getAccountNumber();
+                    long remainingMs = TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - System.nanoTime()));
+                    tasks.add(new ProfitInfoTask(response, product, externalApiExecutor.supplyAsync("hana-bank",
+                        () -> hanaBankApiService.getAccountProfitInfo(accountNumber, userCi), remainingMs)));
+                }
+            }
+        }
+        
+        // 2. 요청 전체 제한 시간 안에서 결과 수집 (실패/시간 초과 상품만 null 처리)
+        for (ProfitInfoTask task : tasks) {
+            Plan1QProductResponse product = task.product;
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                setProductRealTimeData(product, task.future.get(remaining, TimeUnit.NANOSECONDS));
+                log.info("✅ 상품 실시간 데이터 업데이트 성공 - 계좌번호: {}, 상품명: {}", 
+                    product.getAccountNumber(), product.getProductName());
+            } catch (TimeoutException e) {
+                // 결과만 포기 (실행 중인 호출은 HTTP 읽기 제한 시간에 끝나고 그때 permit 반납)
+                task.future.cancel(false);
+                log.info("⏱️ 상품 실시간 데이터 조회 시간 초과 - 계좌번호: {}, 상품명: {}", 
+                    product.getAccountNumber(), product.getProductName());
+                setProductDataToNull(product);
+                failedGoals.add(task.goal);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                task.future.cancel(false);
+                setProductDataToNull(product);
+                failedGoals.add(task.goal);
+            } catch (Exception e) {
+                Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                log.info("❌ 상품 실시간 데이터 업데이트 실패 - 계좌번호: {}, 상품명: {}, 오류: {}", 
+                    product.getAccountNumber(), product.getProductName(), cause.getMessage());
+                // 실패한 상품만 null로 설정
+                setProductDataToNull(product);
+                failedGoals.add(task.goal);
+            }
+        }
+        
+        // 3. 목표별 현재 모은 금액 / 실제 수익률 계산 (성공한 상품만)
+        for (Plan1QGoalDetailResponse response : responses) {
             calculateAndUpdateCurrentAmount(response);
-            
-            // 3. 실제 수익률 계산 및 업데이트 (성공한 상품만)
             calculateAndUpdateActualReturnRate(response);
             
-            if (allSuccess) {
-                log.info("✅ 실시간 데이터 업데이트 완료 - 목표ID: {}, 목표명: {}", 
-                    response.getGoalId(), response.getGoalName());
-            } else {
+            if (failedGoals.contains(response)) {
                 log.info("⚠️ 일부 실시간 데이터 업데이트 실패 - 목표ID: {}, 목표명: {}", 
                     response.getGoalId(), response.getGoalName());
                 response.setErrorMessage("실시간 데이터를 가져올 수 없습니다");
             }
-            
-        } finally {
-            long endTime = System.currentTimeMillis();
-            log.info("⏱️ 실시간 데이터 업데이트 완료 - 목표ID: {}, 소요시간: {}ms", 
-                response.getGoalId(), (endTime - startTime));
         }
+        
+        log.info("⏱️ 실시간 데이터 업데이트 완료 - 목표 수: {}, 조회 상품 수: {}, 실패 목표 수: {}, 소요시간: {}ms", 
+            responses.size(), tasks.size(), failedGoals.size(), System.currentTimeMillis() - startTime);
     }
     
     /**
-     * 상품 목록에 실시간 데이터 업데이트 (개별 처리)
-     * @return 모든 API 호출이 성공했는지 여부
+     * 실시간 데이터 조회 대상 상품 여부 (가입 완료 + 계좌번호 존재)
      */
-    private boolean updateProductsWithRealTimeData(List<Plan1QProductResponse> products, String userSeqNo) {
-        boolean allSuccess = true;
-        
-        for (Plan1QProductResponse product : products) {
-            if (product.getSubscribed() && product.getAccountNumber() != null) {
-                try {
-                    updateProductWithRealTimeData(product, userSeqNo);
-                    log.info("✅ 상품 실시간 데이터 업데이트 성공 - 계좌번호: {}, 상품명: {}", 
-                        product.getAccountNumber(), product.getProductName());
-                } catch (Exception e) {
-                    log.info("❌ 상품 실시간 데이터 업데이트 실패 - 계좌번호: {}, 상품명: {}, 오류: {}", 
-                        product.getAccountNumber(), product.getProductName(), e.getMessage());
-                    // 실패한 상품만 null로 설정
-                    setProductDataToNull(product);
-                    allSuccess = false;
-                }
-            }
-        }
-        
-        return allSuccess;
+    private boolean isRealTimeTarget(Plan1QProductResponse product) {
+        return Boolean.TRUE.equals(product.getSubscribed()) && product.getAccountNumber() != null;
     }
     
     /**
-     * 개별 상품에 실시간 데이터 업데이트
+     * 상품별 하나은행 수익 정보 조회 작업
      */
-    private void updateProductWithRealTimeData(Plan1QProductResponse product, String userSeqNo) {
-        // userSeqNo를 userCi로 변환
-        String userCi = getUserCiFromUserSeqNo(userSeqNo);
-        
-        // 하나은행 API 호출하여 실시간 데이터 조회
-        AccountProfitInfoResponse hanaData = hanaBankApiService.getAccountProfitInfo(
-            product.getAccountNumber(), 
-            userCi
-        );
-        
-        // 하나은행 API 응답을 상품 데이터에 설정
-        setProductRealTimeData(product, hanaData);
+    private static class ProfitInfoTask {
+        private final Plan1QGoalDetailResponse goal;
+        private final Plan1QProductResponse product;
+        private final CompletableFuture<AccountProfitInfoResponse> future;
+        
+        private ProfitInfoTask(Plan1QGoalDetailResponse goal, Plan1QProductResponse product,
+                               CompletableFuture<AccountProfitInfoResponse> future) {
+            this.goal = goal;
+            this.product = product;
+            this.future = future;
+        }
     }
     
     /**
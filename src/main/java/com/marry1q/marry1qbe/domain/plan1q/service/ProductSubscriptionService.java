@@ -167,7 +167,10 @@ public class ProductSubscriptionService {
                 }
             }
             
-            // 8. 응답 생성
+            // 8. 새 계좌 수익 정보 캐시 무효화 (초기 납입/자동이체 반영)
+            hanaBankApiService.invalidateAccountProfitInfo(hanaBankResponse.getAccountNumber());
+            
+            // 9. 응답 생성
             ProductSubscriptionResponse response = createSuccessResponse(
                 hanaBankResponse, autoTransferResponse, withdrawResponse, plan1QProduct, 
                 autoTransferStatus, lastExecutionStatus);
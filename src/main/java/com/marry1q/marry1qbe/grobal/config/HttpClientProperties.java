@@ -0,0 +1,36 @@
+package com.marry1q.marry1qbe.grobal.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 API HTTP 클라이언트 설정
+ *
+ * pooled=true 이면 업스트림(auth-backend, hana-bank, gemini-ai)별로
+ * keep-alive 커넥션 풀을 분리해서 사용합니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+@Getter
+@Setter
+public class HttpClientProperties {
+
+    private boolean pooled = true;
+    private Pool authBackend = new Pool();
+    private Pool hanaBank = new Pool();
+    private Pool geminiAi = new Pool();
+    private Pool defaults = new Pool();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private int maxConnections = 50;
+        private int connectTimeoutMs = 15000;
+        private int readTimeoutMs = 60000;
+        private int connectionRequestTimeoutMs = 5000;
+        private long idleEvictSeconds = 30;
+        private long timeToLiveSeconds = 300;
+    }
+}
@@ -0,0 +1,38 @@
+package com.marry1q.marry1qbe.grobal.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Open EntityManager In View 설정
+ * 
+ * 기본 OSIV(spring.jpa.open-in-view)는 모든 경로에 적용되어 응답이 끝날 때까지 DB 커넥션을 잡고 있습니다.
+ * SSE 같은 장기 연결은 연결이 유지되는 동안 커넥션을 점유하므로 기본 OSIV를 끄고 해당 경로만 제외해 다시 등록합니다.
+ */
+@Configuration
+public class OpenEntityManagerInViewConfig implements WebMvcConfigurer {
+    
+    /**
+     * OSIV 제외 경로 (장기 연결)
+     */
+    private static final String[] EXCLUDED_PATHS = {
+            "/api/gift-money/live"
+    };
+    
+    private final EntityManagerFactory entityManagerFactory;
+    
+    public OpenEntityManagerInViewConfig(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor)
+                .excludePathPatterns(EXCLUDED_PATHS);
+    }
+}
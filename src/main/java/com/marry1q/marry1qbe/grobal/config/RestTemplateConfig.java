@@ -1,19 +1,133 @@
 package com.marry1q.marry1qbe.grobal.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Configuration
+@RequiredArgsConstructor
+@Slf4j
 public class RestTemplateConfig {
-    
+
+    private final ExternalApiConfig externalApiConfig;
+    private final HttpClientProperties httpClientProperties;
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(15000); // 15초로 증가 (연결 타임아웃)
-        factory.setReadTimeout(60000);    // 60초로 증가 (AI API 응답 대기)
-        
-        return new RestTemplate(factory);
+    public RestTemplate restTemplate(ClientHttpRequestFactory externalApiRequestFactory) {
+        return new RestTemplate(externalApiRequestFactory);
+    }
+
+    /**
+     * 외부 API RequestFactory
+     *
+     * pooled 모드에서는 업스트림별 커넥션 풀을 사용하고,
+     * 아니면 기존처럼 요청마다 HttpURLConnection을 새로 엽니다.
+     */
+    @Bean
+    public ClientHttpRequestFactory externalApiRequestFactory(MeterRegistry meterRegistry) {
+        if (!httpClientProperties.isPooled()) {
+            SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+            factory.setConnectTimeout(15000); // 15초로 증가 (연결 타임아웃)
+            factory.setReadTimeout(60000);    // 60초로 증가 (AI API 응답 대기)
+            log.info("외부 API HTTP 클라이언트 - simple 모드");
+            return factory;
+        }
+
+        Map<String, HttpComponentsClientHttpRequestFactory> upstreams = new LinkedHashMap<>();
+        registerUpstream(upstreams, "auth-backend",
+                externalApiConfig.getAuthBackend() != null ? externalApiConfig.getAuthBackend().getUrl() : null,
+                httpClientProperties.getAuthBackend(), meterRegistry);
+        registerUpstream(upstreams, "hana-bank",
+                externalApiConfig.getHanaBank() != null ? externalApiConfig.getHanaBank().getUrl() : null,
+                httpClientProperties.getHanaBank(), meterRegistry);
+        registerUpstream(upstreams, "gemini-ai",
+                externalApiConfig.getGeminiAi() != null ? externalApiConfig.getGeminiAi().getUrl() : null,
+                httpClientProperties.getGeminiAi(), meterRegistry);
+
+        HttpComponentsClientHttpRequestFactory fallback =
+                createPooledFactory("default", httpClientProperties.getDefaults(), meterRegistry);
+
+        log.info("외부 API HTTP 클라이언트 - pooled 모드, 업스트림: {}", upstreams.keySet());
+        return new UpstreamRoutingClientHttpRequestFactory(upstreams, fallback);
+    }
+
+    private void registerUpstream(Map<String, HttpComponentsClientHttpRequestFactory> upstreams, String name,
+                                  String baseUrl, HttpClientProperties.Pool pool, MeterRegistry meterRegistry) {
+        if (baseUrl == null || baseUrl.isBlank()) {
+            log.warn("외부 API URL 미설정 - 업스트림: {} (기본 풀 사용)", name);
+            return;
+        }
+        String routeKey = UpstreamRoutingClientHttpRequestFactory.routeKey(URI.create(baseUrl.trim()));
+        upstreams.put(routeKey, createPooledFactory(name, pool, meterRegistry));
+    }
+
+    /**
+     * 업스트림 전용 커넥션 풀 생성 (idle 커넥션 정리 + 풀 메트릭 등록)
+     */
+    private HttpComponentsClientHttpRequestFactory createPooledFactory(String name, HttpClientProperties.Pool pool,
+                                                                       MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxConnections())
+                .setMaxConnPerRoute(pool.getMaxConnections())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeoutMs()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(pool.getReadTimeoutMs()))
+                        .setTimeToLive(TimeValue.ofSeconds(pool.getTimeToLiveSeconds()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getConnectionRequestTimeoutMs()))
+                        .setResponseTimeout(Timeout.ofMilliseconds(pool.getReadTimeoutMs()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(pool.getIdleEvictSeconds()))
+                .build();
+
+        bindPoolMetrics(name, connectionManager, meterRegistry);
+
+        log.info("커넥션 풀 생성 - 업스트림: {}, 최대 커넥션: {}, 연결 타임아웃: {}ms, 읽기 타임아웃: {}ms",
+                name, pool.getMaxConnections(), pool.getConnectTimeoutMs(), pool.getReadTimeoutMs());
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private void bindPoolMetrics(String name, PoolingHttpClientConnectionManager connectionManager, MeterRegistry meterRegistry) {
+        Gauge.builder("http.client.pool.leased", connectionManager, cm -> cm.getTotalStats().getLeased())
+                .tag("upstream", name)
+                .description("사용 중인 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.pending", connectionManager, cm -> cm.getTotalStats().getPending())
+                .tag("upstream", name)
+                .description("커넥션 대기 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.available", connectionManager, cm -> cm.getTotalStats().getAvailable())
+                .tag("upstream", name)
+                .description("재사용 가능한 유휴 커넥션 수")
+                .register(meterRegistry);
+        Gauge.builder("http.client.pool.max", connectionManager, cm -> cm.getTotalStats().getMax())
+                .tag("upstream", name)
+                .description("최대 커넥션 수")
+                .register(meterRegistry);
     }
 }
@@ -2,6 +2,7 @@ package com.marry1q.marry1qbe.grobal.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import lombok.Data;
@@ -17,14 +18,21 @@ public class S3Config {
     private String secretKey;
     private String region;
     private String bucketName;
+    private String endpoint;            // 로컬 S3 호환 서버 (MinIO, LocalStack 등) 사용 시에만 설정
+    private boolean pathStyleAccess;
     
     @Bean
     public AmazonS3 s3Client() {
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .build();
+                .withPathStyleAccessEnabled(pathStyleAccess);
+        if (endpoint != null && !endpoint.isBlank()) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        } else {
+            builder.withRegion(region);
+        }
+        return builder.build();
     }
     
     @Bean
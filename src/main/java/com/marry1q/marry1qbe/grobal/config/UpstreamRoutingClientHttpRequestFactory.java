@@ -0,0 +1,56 @@
+package com.marry1q.marry1qbe.grobal.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 URI의 scheme://host:port 기준으로 업스트림별 커넥션 풀을 선택하는 RequestFactory
+ *
+ * 등록되지 않은 호스트는 기본 풀로 보냅니다.
+ */
+@Slf4j
+public class UpstreamRoutingClientHttpRequestFactory implements ClientHttpRequestFactory, DisposableBean {
+
+    private final Map<String, HttpComponentsClientHttpRequestFactory> upstreams;
+    private final HttpComponentsClientHttpRequestFactory fallback;
+
+    public UpstreamRoutingClientHttpRequestFactory(Map<String, HttpComponentsClientHttpRequestFactory> upstreams,
+                                                   HttpComponentsClientHttpRequestFactory fallback) {
+        this.upstreams = upstreams;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        HttpComponentsClientHttpRequestFactory factory = upstreams.get(routeKey(uri));
+        return (factory != null ? factory : fallback).createRequest(uri, httpMethod);
+    }
+
+    /**
+     * 라우팅 키 생성 (scheme://authority, 소문자)
+     */
+    public static String routeKey(URI uri) {
+        if (uri == null || uri.getScheme() == null || uri.getRawAuthority() == null) {
+            return "";
+        }
+        return (uri.getScheme() + "://" + uri.getRawAuthority()).toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (HttpComponentsClientHttpRequestFactory factory : upstreams.values()) {
+            factory.destroy();
+        }
+        fallback.destroy();
+        log.info("외부 API 커넥션 풀 종료 완료");
+    }
+}
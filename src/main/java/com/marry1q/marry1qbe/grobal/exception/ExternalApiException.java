@@ -23,4 +23,13 @@ public class ExternalApiException extends RuntimeException {
     public ExternalApiException(String externalApiName, String message) {
         this(externalApiName, message, null, 500);
     }
+    
+    /**
+     * 업스트림이 요청을 거절했다고 응답했는지 여부 (실패 응답 본문 또는 4xx)
+     * 
+     * 타임아웃/연결 오류/5xx 는 업스트림에서 처리됐는지 알 수 없으므로 false 입니다.
+     */
+    public boolean isRejectedByUpstream() {
+        return httpStatusCode < 500;
+    }
 }
@@ -0,0 +1,153 @@
+package com.marry1q.marry1qbe.grobal.executor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 병렬 호출용 Executor
+ *
+ * 잔액/수익 정보처럼 서로 독립적인 외부 호출을 동시에 실행할 때 사용합니다.
+ * 기본은 크기가 제한된 플랫폼 스레드 풀이고, JDK 21 이상에서는
+ * external-api-executor.virtual-threads=true 로 가상 스레드를 사용할 수 있습니다.
+ * 두 모드 모두 max-concurrency 를 넘는 동시 실행은 허용하지 않습니다.
+ *
+ * 업스트림 이름을 넘기면 external-api-executor.upstream-max-concurrency.{upstream}
+ * (기본 upstream-max-concurrency-default) 만큼만 해당 업스트림을 동시에 호출합니다.
+ * 호출 허용(permit)은 작업을 넘기기 전에 제한 시간 안에서만 기다리고, 실제 작업이 끝날 때 반납합니다.
+ * 반환된 Future 를 취소해도 실행 중인 호출은 중단되지 않으며(HTTP 읽기 제한 시간에 종료),
+ * 그동안 permit 도 계속 사용 중으로 계산됩니다.
+ */
+@Slf4j
+@Component
+public class ExternalApiExecutor implements DisposableBean {
+
+    private final Executor executor;
+    private final ThreadPoolExecutor threadPool;
+    private final Environment environment;
+    private final int upstreamMaxConcurrencyDefault;
+    private final long permitTimeoutMs;
+    private final ConcurrentMap<String, Semaphore> upstreamPermits = new ConcurrentHashMap<>();
+
+    public ExternalApiExecutor(@Value("${external-api-executor.virtual-threads:false}") boolean virtualThreads,
+                               @Value("${external-api-executor.max-concurrency:32}") int maxConcurrency,
+                               @Value("${external-api-executor.queue-capacity:200}") int queueCapacity,
+                               @Value("${external-api-executor.upstream-max-concurrency-default:8}") int upstreamMaxConcurrencyDefault,
+                               @Value("${external-api-executor.permit-timeout-ms:30000}") long permitTimeoutMs,
+                               Environment environment,
+                               MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.upstreamMaxConcurrencyDefault = upstreamMaxConcurrencyDefault;
+        this.permitTimeoutMs = permitTimeoutMs;
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("ext-api-vt-");
+            virtualExecutor.setVirtualThreads(true);
+            virtualExecutor.setConcurrencyLimit(maxConcurrency);
+            this.executor = virtualExecutor;
+            this.threadPool = null;
+            log.info("외부 API Executor - 가상 스레드 모드, 최대 동시 실행: {}", maxConcurrency);
+        } else {
+            if (virtualThreads) {
+                log.warn("가상 스레드는 JDK 21 이상에서만 지원됩니다. 플랫폼 스레드 풀을 사용합니다. (현재 JDK: {})",
+                        Runtime.version().feature());
+            }
+            AtomicInteger threadCount = new AtomicInteger();
+            this.threadPool = new ThreadPoolExecutor(
+                    maxConcurrency, maxConcurrency,
+                    60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "ext-api-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    // 큐가 가득 차면 호출 스레드에서 실행 (요청 유실 없이 자연스럽게 속도 조절)
+                    new ThreadPoolExecutor.CallerRunsPolicy());
+            this.threadPool.allowCoreThreadTimeOut(true);
+            this.executor = threadPool;
+
+            Gauge.builder("external.api.executor.active", threadPool, ThreadPoolExecutor::getActiveCount)
+                    .description("실행 중인 외부 API 호출 수")
+                    .register(meterRegistry);
+            Gauge.builder("external.api.executor.queued", threadPool, pool -> pool.getQueue().size())
+                    .description("대기 중인 외부 API 호출 수")
+                    .register(meterRegistry);
+            log.info("외부 API Executor - 플랫폼 스레드 모드, 최대 동시 실행: {}, 큐 크기: {}", maxConcurrency, queueCapacity);
+        }
+    }
+
+    /**
+     * 비동기 실행
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    /**
+     * 업스트림별 동시 호출 수를 제한하는 비동기 실행 (permit 대기는 permit-timeout-ms 까지)
+     */
+    public <T> CompletableFuture<T> supplyAsync(String upstream, Supplier<T> supplier) {
+        return supplyAsync(upstream, supplier, permitTimeoutMs);
+    }
+
+    /**
+     * 업스트림별 동시 호출 수를 제한하는 비동기 실행
+     *
+     * 호출 스레드에서 permit 을 최대 permitTimeoutMs 동안 기다리고, 얻지 못하면
+     * TimeoutException 으로 실패한 Future 를 반환합니다 (요청 스레드가 무기한 대기하지 않음).
+     */
+    public <T> CompletableFuture<T> supplyAsync(String upstream, Supplier<T> supplier, long permitTimeoutMs) {
+        Semaphore permits = upstreamPermits.computeIfAbsent(upstream, this::createUpstreamPermits);
+        try {
+            if (!permits.tryAcquire(Math.max(0, permitTimeoutMs), TimeUnit.MILLISECONDS)) {
+                return CompletableFuture.failedFuture(new TimeoutException(
+                        "외부 API 동시 호출 한도 대기 시간 초과 - 업스트림: " + upstream));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new IllegalStateException(
+                    "외부 API 호출 대기 중 인터럽트 발생 - 업스트림: " + upstream, e));
+        }
+
+        CompletableFuture<T> task;
+        try {
+            task = CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        // 호출자가 반환된 Future 를 취소해도 작업이 실제로 끝날 때 반납되도록 작업 Future 에 연결
+        return task.whenComplete((result, error) -> permits.release());
+    }
+
+    private Semaphore createUpstreamPermits(String upstream) {
+        int limit = environment.getProperty(
+                "external-api-executor.upstream-max-concurrency." + upstream, Integer.class, upstreamMaxConcurrencyDefault);
+        log.info("업스트림 동시 호출 제한 설정 - 업스트림: {}, 최대 동시 호출: {}", upstream, limit);
+        return new Semaphore(limit);
+    }
+
+    @Override
+    public void destroy() {
+        if (threadPool != null) {
+            threadPool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,338 @@
+package com.marry1q.marry1qbe.grobal.image;
+
+import com.marry1q.marry1qbe.grobal.service.S3Service;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.w3c.dom.NodeList;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 이미지 파생본 생성/업로드
+ * 
+ * 업로드된 이미지를 한 번만 디코딩하고 FULL → MOBILE → THUMBNAIL 순서로
+ * 리사이즈/JPEG 재인코딩해서 S3에 저장합니다. 하객 화면은 필요한 크기의 파생본만 내려받습니다.
+ * 
+ * 재인코딩하면 EXIF 가 빠지므로 JPEG 의 EXIF 방향(Orientation)은 리사이즈 전에 픽셀에 적용합니다.
+ * JDK 가 디코딩하지 못하는 JPEG(CMYK/YCCK)는 원본 파일을 그대로 모든 파생본 키에 저장합니다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeService {
+    
+    private final S3Service s3Service;
+    private final long maxPixels;
+    private final Timer processTimer;
+    
+    public ImageDerivativeService(S3Service s3Service,
+                                  @Value("${image.derivative.max-pixels:40000000}") long maxPixels,
+                                  MeterRegistry meterRegistry) {
+        this.s3Service = s3Service;
+        this.maxPixels = maxPixels;
+        this.processTimer = Timer.builder("image.derivative.process")
+                .description("이미지 디코딩 + 파생본 생성 시간 (업로드 제외)")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 파생본 생성 후 업로드 (baseKey/{full,mobile,thumbnail}.jpg)
+     * 
+     * 파생본은 S3 업로드 Executor에서 동시에 올리고,
+     * 하나라도 실패하면 올라간 파생본을 모두 삭제하고 예외를 던집니다.
+     * 응답에 파생본 URL 이 필요하므로 요청 스레드는 가장 늦은 업로드까지만 기다립니다 (순차 업로드 합계가 아님).
+     */
+    public ImageDerivatives uploadDerivatives(MultipartFile file, String baseKey) {
+        Map<ImageVariant, byte[]> encoded = processTimer.record(() -> createDerivatives(file));
+        
+        Map<ImageVariant, CompletableFuture<String>> uploads = new EnumMap<>(ImageVariant.class);
+        encoded.forEach((variant, bytes) ->
+                uploads.put(variant, s3Service.uploadBytesAsync(bytes, ImageVariant.CONTENT_TYPE, variant.keyOf(baseKey))));
+        
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        try {
+            CompletableFuture.allOf(uploads.values().toArray(new CompletableFuture[0])).join();
+            uploads.forEach((variant, upload) -> urls.put(variant, upload.join()));
+        } catch (CompletionException e) {
+            deleteQuietly(encoded.keySet().stream().map(variant -> variant.keyOf(baseKey)).toList());
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        
+        log.info("이미지 파생본 업로드 완료 - baseKey: {}, 원본 크기: {} bytes, full: {} bytes, mobile: {} bytes, thumbnail: {} bytes",
+                baseKey, file.getSize(), encoded.get(ImageVariant.FULL).length,
+                encoded.get(ImageVariant.MOBILE).length, encoded.get(ImageVariant.THUMBNAIL).length);
+        return new ImageDerivatives(
+                urls.get(ImageVariant.FULL), urls.get(ImageVariant.MOBILE), urls.get(ImageVariant.THUMBNAIL));
+    }
+    
+    /**
+     * 메인 이미지와 파생본을 한 번의 다중 객체 삭제로 삭제
+     * 
+     * 파생본이 없는 이전 이미지는 메인 이미지 키만 삭제합니다.
+     */
+    public void deleteWithDerivatives(String fullKey) {
+        List<String> keys = new ArrayList<>();
+        keys.add(fullKey);
+        for (ImageVariant variant : ImageVariant.values()) {
+            String key = variant.siblingOf(fullKey);
+            if (variant != ImageVariant.FULL && key != null) {
+                keys.add(key);
+            }
+        }
+        s3Service.deleteFiles(keys);
+    }
+    
+    private Map<ImageVariant, byte[]> createDerivatives(MultipartFile file) {
+        Optional<BufferedImage> decoded = decode(file);
+        if (decoded.isEmpty()) {
+            return originalAsDerivatives(file);
+        }
+        BufferedImage current = decoded.get();
+        
+        // 큰 파생본 결과를 다음 파생본의 입력으로 사용 (원본 재디코딩/재축소 없음)
+        Map<ImageVariant, byte[]> encoded = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            current = resize(current, variant.getMaxEdge());
+            encoded.put(variant, encodeJpeg(current, variant.getQuality()));
+        }
+        return encoded;
+    }
+    
+    /**
+     * 디코딩 + EXIF 방향 적용
+     * 
+     * @return 디코딩한 이미지 (JDK 가 지원하지 않는 색 공간의 JPEG 이면 empty)
+     */
+    private Optional<BufferedImage> decode(MultipartFile file) {
+        try (InputStream inputStream = file.getInputStream();
+             ImageInputStream input = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                
+                // 전체 디코딩 전에 해상도 확인 (과도하게 큰 이미지로 인한 메모리 사용 방지)
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다. 현재: "
+                            + reader.getWidth(0) + "x" + reader.getHeight(0));
+                }
+                
+                boolean jpeg = "jpeg".equalsIgnoreCase(reader.getFormatName());
+                if (jpeg && !reader.getImageTypes(0).hasNext()) {
+                    // CMYK/YCCK JPEG (JDK 리더가 RGB 로 변환할 수 없음)
+                    return Optional.empty();
+                }
+                int orientation = jpeg ? readExifOrientation(reader) : 1;
+                return Optional.of(applyOrientation(reader.read(0), orientation));
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 디코딩할 수 없는 JPEG 는 원본을 그대로 모든 파생본으로 사용 (크기는 줄지 않지만 URL 은 유효)
+     */
+    private Map<ImageVariant, byte[]> originalAsDerivatives(MultipartFile file) {
+        byte[] original;
+        try {
+            original = file.getBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        log.warn("지원하지 않는 색 공간의 JPEG - 원본을 파생본으로 사용합니다. 파일명: {}, 크기: {} bytes",
+                file.getOriginalFilename(), original.length);
+        
+        Map<ImageVariant, byte[]> encoded = new EnumMap<>(ImageVariant.class);
+        for (ImageVariant variant : ImageVariant.values()) {
+            encoded.put(variant, original);
+        }
+        return encoded;
+    }
+    
+    /**
+     * JPEG APP1(Exif) 의 IFD0 Orientation 태그 (없거나 읽을 수 없으면 1)
+     */
+    private int readExifOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null) {
+                return 1;
+            }
+            IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree("javax_imageio_jpeg_image_1.0");
+            NodeList markers = root.getElementsByTagName("unknown");
+            for (int i = 0; i < markers.getLength(); i++) {
+                IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+                if ("225".equals(marker.getAttribute("MarkerTag")) && marker.getUserObject() instanceof byte[] app1) {
+                    int orientation = parseExifOrientation(app1);
+                    if (orientation != 0) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.debug("EXIF 방향 정보 읽기 실패 (무시): {}", e.getMessage());
+        }
+        return 1;
+    }
+    
+    /**
+     * "Exif\0\0" + TIFF 헤더 + IFD0 에서 Orientation(0x0112) 값 추출 (Exif 가 아니면 0)
+     */
+    private int parseExifOrientation(byte[] app1) {
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f'
+                || app1[4] != 0 || app1[5] != 0) {
+            return 0;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifdOffset = tiff.getInt(4);
+        if (ifdOffset < 8 || ifdOffset + 2 > tiff.limit()) {
+            return 1;
+        }
+        int entryCount = tiff.getShort(ifdOffset) & 0xFFFF;
+        for (int i = 0; i < entryCount; i++) {
+            int entry = ifdOffset + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == 0x0112) {
+                int orientation = tiff.getShort(entry + 8) & 0xFFFF;
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+    
+    /**
+     * EXIF 방향대로 회전/반전 (5~8 은 가로세로가 바뀜, 결과는 RGB)
+     */
+    private BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        if (orientation == 1) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> { transform.translate(width, 0); transform.scale(-1, 1); }
+            case 3 -> { transform.translate(width, height); transform.rotate(Math.PI); }
+            case 4 -> { transform.translate(0, height); transform.scale(1, -1); }
+            case 5 -> { transform.rotate(Math.PI / 2); transform.scale(1, -1); }
+            case 6 -> { transform.translate(height, 0); transform.rotate(Math.PI / 2); }
+            case 7 -> { transform.translate(height, width); transform.rotate(-Math.PI / 2); transform.scale(1, -1); }
+            case 8 -> { transform.translate(0, width); transform.rotate(-Math.PI / 2); }
+            default -> { return source; }
+        }
+        
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+    
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 축소 (절반씩 단계적으로 줄여서 화질 유지)
+     * 
+     * 결과는 항상 RGB (JPEG 인코딩용, 투명 영역은 흰색)
+     */
+    private BufferedImage resize(BufferedImage source, int maxEdge) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        
+        BufferedImage current = source.getType() == BufferedImage.TYPE_INT_RGB
+                ? source : draw(source, width, height);
+        while (width != targetWidth || height != targetHeight) {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        }
+        return current;
+    }
+    
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+    
+    private byte[] encodeJpeg(BufferedImage image, float quality) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new IllegalStateException("이미지 인코딩에 실패했습니다.", e);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+    
+    private void deleteQuietly(List<String> keys) {
+        try {
+            s3Service.deleteFiles(keys);
+        } catch (Exception e) {
+            log.warn("이미지 파생본 삭제 실패 (무시) - keys: {}, error: {}", keys, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.marry1q.marry1qbe.grobal.image;
+
+/**
+ * 업로드된 이미지 파생본 URL
+ */
+public record ImageDerivatives(String fullUrl, String mobileUrl, String thumbnailUrl) {
+}
@@ -0,0 +1,51 @@
+package com.marry1q.marry1qbe.grobal.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 시 생성하는 이미지 파생본 종류
+ * 
+ * 원본을 한 번만 디코딩한 뒤 큰 크기부터 차례로 축소해서 만들고,
+ * {baseKey}/{variant}.jpg 키로 저장합니다. (FULL이 청첩장 mainImageUrl)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    
+    FULL("full", 2048, 0.88f),
+    MOBILE("mobile", 1080, 0.82f),
+    THUMBNAIL("thumbnail", 320, 0.80f);
+    
+    public static final String EXTENSION = "jpg";
+    public static final String CONTENT_TYPE = "image/jpeg";
+    
+    private final String suffix;
+    private final int maxEdge;          // 긴 변 최대 픽셀 (작은 원본은 확대하지 않음)
+    private final float quality;        // JPEG 압축 품질
+    
+    public String keyOf(String baseKey) {
+        return baseKey + "/" + suffix + "." + EXTENSION;
+    }
+    
+    /**
+     * FULL 파생본 키/URL에서 다른 파생본 키/URL 계산
+     * 
+     * 파생본 파이프라인 이전에 업로드된 이미지(단일 파일)는 파생본이 없으므로 null을 반환합니다.
+     */
+    public String siblingOf(String fullKeyOrUrl) {
+        String fullName = "/" + FULL.suffix + "." + EXTENSION;
+        if (fullKeyOrUrl == null || !fullKeyOrUrl.endsWith(fullName)) {
+            return null;
+        }
+        return fullKeyOrUrl.substring(0, fullKeyOrUrl.length() - fullName.length()) + "/" + suffix + "." + EXTENSION;
+    }
+    
+    /**
+     * 응답용 파생본 URL (파생본이 없는 이미지는 원본 URL 그대로)
+     */
+    public String urlOf(String mainImageUrl) {
+        String siblingUrl = siblingOf(mainImageUrl);
+        return siblingUrl != null ? siblingUrl : mainImageUrl;
+    }
+}
@@ -1,12 +1,15 @@
 package com.marry1q.marry1qbe.grobal.jwt;
 
 import com.marry1q.marry1qbe.grobal.security.CustomUserDetailsService;
+import com.marry1q.marry1qbe.grobal.security.JwtUserDetails;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,6 +20,7 @@ import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,6 +29,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenBlacklistService tokenBlacklistService;
+    
+    /**
+     * true: JWT Claims만으로 인증 (요청마다 사용자 조회 생략)
+     * false: 기존처럼 CustomUserDetailsService로 사용자 조회
+     */
+    @Value("${jwt.stateless-auth:true}")
+    private boolean statelessAuth;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     @Override
@@ -39,22 +51,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             log.debug("Extracted JWT token: {}", jwt != null ? "TOKEN_PRESENT" : "NO_TOKEN");
 
             if (StringUtils.hasText(jwt)) {
-                boolean isValid = jwtTokenProvider.validateToken(jwt);
-                log.debug("JWT token validation result: {}", isValid);
+                Optional<Claims> claims = jwtTokenProvider.parseValidClaims(jwt);
+                log.debug("JWT token validation result: {}", claims.isPresent());
                 
-                if (isValid) {
-                    String userSeqNo = jwtTokenProvider.getUserSeqNoFromToken(jwt);
+                if (claims.isPresent()) {
+                    String userSeqNo = claims.get().getSubject();
                     log.debug("UserSeqNo from JWT: {}", userSeqNo);
                     
-                    UserDetails userDetails = customUserDetailsService.loadUserByUsername(userSeqNo);
-                    log.debug("Loaded UserDetails: {}", userDetails.getUsername());
-                    
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    if (tokenBlacklistService.isRevoked(userSeqNo, claims.get().getIssuedAt())) {
+                        log.warn("Revoked JWT token used for request: {} (user: {})", requestPath, userSeqNo);
+                    } else {
+                        UserDetails userDetails = statelessAuth
+                                ? JwtUserDetails.from(claims.get())
+                                : customUserDetailsService.loadUserByUsername(userSeqNo);
+                        log.debug("Loaded UserDetails: {}", userDetails.getUsername());
+                        
+                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Authentication set in SecurityContext for user: {}", userSeqNo);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Authentication set in SecurityContext for user: {}", userSeqNo);
+                    }
                 } else {
                     log.warn("JWT token validation failed for request: {}", requestPath);
                 }
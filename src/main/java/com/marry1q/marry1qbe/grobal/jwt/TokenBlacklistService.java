@@ -1,19 +1,93 @@
 package com.marry1q.marry1qbe.grobal.jwt;
 
+import com.marry1q.marry1qbe.grobal.jwt.entity.JwtRevocation;
 import com.marry1q.marry1qbe.grobal.jwt.entity.JwtToken;
+import com.marry1q.marry1qbe.grobal.jwt.repository.JwtRevocationRepository;
 import com.marry1q.marry1qbe.grobal.jwt.repository.JwtTokenRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
     
     private final JwtTokenRepository jwtTokenRepository;
+    private final JwtRevocationRepository jwtRevocationRepository;
+    
+    @Value("${jwt.revocation-cache.max-size:10000}")
+    private long revocationCacheMaxSize;
+    
+    @Value("${jwt.revocation-cache.ttl-seconds:30}")
+    private long revocationCacheTtlSeconds;
+    
+    @Value("${jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+    
+    /**
+     * 사용자 → 로그아웃 시각 (없으면 empty)
+     * 
+     * 폐기 시각은 DB(marry1q_token_revocation)에 저장하고, 요청마다 DB를 조회하지 않도록
+     * ttl-seconds 동안 메모리에 보관합니다. 다른 서버에서의 로그아웃은 최대 ttl-seconds 뒤에 반영되고,
+     * 재시작해도 DB에서 다시 읽으므로 폐기가 풀리지 않습니다.
+     */
+    private LoadingCache<String, Optional<Instant>> revokedUsers;
+    
+    @PostConstruct
+    void initRevocationCache() {
+        this.revokedUsers = Caffeine.newBuilder()
+                .maximumSize(revocationCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(revocationCacheTtlSeconds))
+                .build(this::loadRevokedAt);
+    }
+    
+    /**
+     * 사용자가 지금까지 발급받은 액세스 토큰 폐기 (로그아웃)
+     */
+    @Transactional
+    public void revokeIssuedTokens(String userSeqNo) {
+        LocalDateTime now = LocalDateTime.now();
+        jwtRevocationRepository.save(JwtRevocation.builder()
+                .userSeqNo(userSeqNo)
+                .revokedAt(now)
+                .build());
+        revokedUsers.put(userSeqNo, Optional.of(now.atZone(ZoneId.systemDefault()).toInstant()));
+        log.info("액세스 토큰 폐기 등록 - userSeqNo: {}", userSeqNo);
+    }
+    
+    /**
+     * 폐기된 액세스 토큰인지 확인 (캐시에 없을 때만 DB 조회)
+     */
+    public boolean isRevoked(String userSeqNo, Date issuedAt) {
+        Instant revokedAt = revokedUsers.get(userSeqNo).orElse(null);
+        if (revokedAt == null) {
+            return false;
+        }
+        // iat는 초 단위이므로 같은 초에 발급된 토큰은 로그아웃 이후 발급으로 간주
+        return issuedAt == null || issuedAt.toInstant().isBefore(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+    }
+    
+    // 액세스 토큰 수명이 지난 폐기 기록은 더 이상 거부할 토큰이 없으므로 무시
+    private Optional<Instant> loadRevokedAt(String userSeqNo) {
+        Instant oldestLiveIssuedAt = Instant.now().minusSeconds(accessTokenExpiration);
+        return jwtRevocationRepository.findById(userSeqNo)
+                .map(revocation -> revocation.getRevokedAt().atZone(ZoneId.systemDefault()).toInstant())
+                .filter(revokedAt -> revokedAt.isAfter(oldestLiveIssuedAt));
+    }
     
     @Transactional
     public void blacklistToken(String userSeqNo) {
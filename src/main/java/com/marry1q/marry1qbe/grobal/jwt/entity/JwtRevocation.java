@@ -0,0 +1,29 @@
+package com.marry1q.marry1qbe.grobal.jwt.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 액세스 토큰 폐기 시각 (로그아웃)
+ * 
+ * 이 시각 이전에 발급된 액세스 토큰은 모든 서버에서 거부합니다. 사용자당 한 행만 유지합니다.
+ */
+@Entity
+@Table(name = "marry1q_token_revocation")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JwtRevocation {
+    @Id
+    @Column(name = "user_seq_no", length = 20)
+    private String userSeqNo;
+    
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,9 @@
+package com.marry1q.marry1qbe.grobal.jwt.repository;
+
+import com.marry1q.marry1qbe.grobal.jwt.entity.JwtRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JwtRevocationRepository extends JpaRepository<JwtRevocation, String> {
+}
@@ -8,8 +8,10 @@ import com.marry1q.marry1qbe.grobal.dto.ExternalApiResponse;
 import com.marry1q.marry1qbe.grobal.exception.ExternalApiException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -18,66 +20,189 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 오픈뱅킹 토큰 관리
+ * 
+ * 토큰은 메모리에 보관하고 openbanking_token 테이블은 백업 저장소로만 사용합니다.
+ * - getValidToken(): 메모리만 조회 (최초 1회만 DB에서 적재, 적재 중에 들어온 요청은 적재 완료를 기다림)
+ * - issueAndSaveToken(): 동시에 여러 요청이 들어와도 발급은 한 번만 수행 (single-flight)
+ * - 만료 refreshBeforeSeconds 전부터 스케줄러가 미리 재발급
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class OpenBankingTokenService {
     
     private final OpenBankingTokenRepository openBankingTokenRepository;
     private final ExternalApiConfig externalApiConfig;
     private final RestTemplate restTemplate;
     
+    @Value("${openbanking.token.refresh-before-seconds:300}")
+    private long refreshBeforeSeconds;
+    
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlightRefresh = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CachedToken>> initialLoad = new AtomicReference<>();
+    private volatile CachedToken cachedToken;
+    
     /**
-     * 유효한 토큰 조회
+     * 유효한 토큰 조회 (메모리)
      */
-    @Transactional(readOnly = true)
     public Optional<String> getValidToken() {
-        LocalDateTime now = LocalDateTime.now();
-        Optional<OpenBankingToken> token = openBankingTokenRepository.findLatestValidToken(now);
+        CachedToken token = cachedToken;
+        if (token == null) {
+            awaitInitialLoad();
+            token = cachedToken;
+        }
         
-        if (token.isPresent()) {
-            log.debug("유효한 오픈뱅킹 토큰 조회 성공 - 만료시간: {}", token.get().getExpiresAt());
-            return Optional.of(token.get().getAccessToken());
-        } else {
-            log.debug("유효한 오픈뱅킹 토큰이 없습니다.");
-            return Optional.empty();
+        if (token != null && token.isValidAt(LocalDateTime.now())) {
+            return Optional.of(token.accessToken());
         }
+        
+        log.debug("유효한 오픈뱅킹 토큰이 없습니다.");
+        return Optional.empty();
     }
     
     /**
      * 토큰 발급 및 저장
+     * 
+     * 이미 다른 요청이 발급 중이면 그 결과를 함께 기다리고,
+     * 방금 발급된 토큰이 있으면 재발급하지 않고 그대로 반환합니다.
      */
     public String issueAndSaveToken() {
+        CachedToken token = cachedToken;
+        if (token != null && !token.needsRefreshAt(LocalDateTime.now(), refreshBeforeSeconds)) {
+            return token.accessToken();
+        }
+        
         try {
-            log.info("=== 오픈뱅킹 토큰 발급 프로세스 시작 ===");
-            
-            ExternalApiResponse<TokenResponse> response = issueToken();
-            
-            if (response == null || !response.isSuccess() || response.getData() == null) {
-                log.error("토큰 발급 응답이 유효하지 않습니다: {}", response);
-                throw new RuntimeException("토큰 발급 응답이 유효하지 않습니다");
+            return refreshToken().join().accessToken();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("토큰 발급 중 오류: {}", cause.getMessage(), cause);
+            throw new RuntimeException("오픈뱅킹 토큰 발급에 실패했습니다: " + cause.getMessage());
+        }
+    }
+    
+    /**
+     * 만료 임박 토큰 사전 재발급
+     */
+    @Scheduled(fixedDelayString = "${openbanking.token.refresh-check-interval-ms:60000}")
+    public void refreshTokenIfExpiringSoon() {
+        CachedToken token = cachedToken;
+        if (token == null || !token.needsRefreshAt(LocalDateTime.now(), refreshBeforeSeconds)) {
+            return;
+        }
+        
+        log.info("오픈뱅킹 토큰 만료 임박 - 사전 재발급 시작 (만료시간: {})", token.expiresAt());
+        try {
+            refreshToken().join();
+        } catch (CompletionException e) {
+            log.warn("오픈뱅킹 토큰 사전 재발급 실패 (다음 주기에 재시도): {}", 
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        }
+    }
+    
+    /**
+     * 토큰 재발급 (single-flight)
+     */
+    private CompletableFuture<CachedToken> refreshToken() {
+        while (true) {
+            CompletableFuture<CachedToken> existing = inFlightRefresh.get();
+            if (existing != null) {
+                log.debug("진행 중인 오픈뱅킹 토큰 발급 결과를 대기합니다.");
+                return existing;
             }
             
-            TokenResponse tokenResponse = response.getData();
-            log.info("토큰 발급 성공 - accessToken: {}", 
-                    tokenResponse.getAuthAccessToken().substring(0, Math.min(20, tokenResponse.getAuthAccessToken().length())) + "...");
-            
-            OpenBankingToken token = convertToOpenBankingToken(tokenResponse);
-            
-            log.info("토큰 저장 시작 - tokenId: {}, expiresAt: {}", token.getTokenId(), token.getExpiresAt());
-            
-            saveToken(token);
-            
-            log.info("=== 오픈뱅킹 토큰 발급 및 저장 완료 ===");
-            
-            return token.getAccessToken();
+            CompletableFuture<CachedToken> refresh = new CompletableFuture<>();
+            if (!inFlightRefresh.compareAndSet(null, refresh)) {
+                continue;
+            }
             
+            try {
+                // 확인과 선점 사이에 다른 발급이 끝났거나 DB에 유효한 토큰이 있으면 재발급하지 않음
+                awaitInitialLoad();
+                CachedToken current = cachedToken;
+                if (current != null && !current.needsRefreshAt(LocalDateTime.now(), refreshBeforeSeconds)) {
+                    refresh.complete(current);
+                    return refresh;
+                }
+                
+                CachedToken issued = issueAndStoreToken();
+                cachedToken = issued;
+                refresh.complete(issued);
+            } catch (Exception e) {
+                refresh.completeExceptionally(e);
+            } finally {
+                inFlightRefresh.set(null);
+            }
+            return refresh;
+        }
+    }
+    
+    /**
+     * 토큰 발급 후 DB 저장
+     */
+    private CachedToken issueAndStoreToken() {
+        log.info("=== 오픈뱅킹 토큰 발급 프로세스 시작 ===");
+        
+        ExternalApiResponse<TokenResponse> response = issueToken();
+        
+        if (response == null || !response.isSuccess() || response.getData() == null) {
+            log.error("토큰 발급 응답이 유효하지 않습니다: {}", response);
+            throw new RuntimeException("토큰 발급 응답이 유효하지 않습니다");
+        }
+        
+        TokenResponse tokenResponse = response.getData();
+        log.info("토큰 발급 성공 - accessToken: {}", 
+                tokenResponse.getAuthAccessToken().substring(0, Math.min(20, tokenResponse.getAuthAccessToken().length())) + "...");
+        
+        OpenBankingToken token = convertToOpenBankingToken(tokenResponse);
+        
+        log.info("토큰 저장 시작 - tokenId: {}, expiresAt: {}", token.getTokenId(), token.getExpiresAt());
+        
+        saveToken(token);
+        
+        log.info("=== 오픈뱅킹 토큰 발급 및 저장 완료 ===");
+        
+        return new CachedToken(token.getAccessToken(), token.getExpiresAt());
+    }
+    
+    /**
+     * 최초 DB 적재 대기 (처음 호출한 요청만 적재하고, 동시에 들어온 요청은 그 결과를 기다림)
+     */
+    private void awaitInitialLoad() {
+        CompletableFuture<CachedToken> load = initialLoad.get();
+        if (load == null) {
+            CompletableFuture<CachedToken> created = new CompletableFuture<>();
+            if (initialLoad.compareAndSet(null, created)) {
+                created.complete(loadTokenFromDatabase());
+                return;
+            }
+            load = initialLoad.get();
+        }
+        load.join();
+    }
+    
+    /**
+     * DB에 저장된 토큰을 메모리로 적재 (기동 후 최초 1회)
+     */
+    private CachedToken loadTokenFromDatabase() {
+        try {
+            Optional<OpenBankingToken> token = openBankingTokenRepository.findLatestValidToken(LocalDateTime.now());
+            if (token.isPresent()) {
+                CachedToken loaded = new CachedToken(token.get().getAccessToken(), token.get().getExpiresAt());
+                cachedToken = loaded;
+                log.info("DB에서 오픈뱅킹 토큰 적재 완료 - 만료시간: {}", loaded.expiresAt());
+                return loaded;
+            }
         } catch (Exception e) {
-            log.error("토큰 발급 중 오류: {}", e.getMessage(), e);
-            throw new RuntimeException("오픈뱅킹 토큰 발급에 실패했습니다: " + e.getMessage());
+            log.warn("DB 오픈뱅킹 토큰 적재 실패: {}", e.getMessage());
         }
+        return null;
     }
     
     /**
@@ -156,7 +281,7 @@ public class OpenBankingTokenService {
     }
     
     /**
-     * 토큰 저장
+     * 토큰 저장 (DB 백업)
      */
     private void saveToken(OpenBankingToken token) {
         try {
@@ -208,12 +333,27 @@ public class OpenBankingTokenService {
     /**
      * 만료된 토큰 정리
      */
+    @Transactional
     public void cleanupExpiredTokens() {
         LocalDateTime now = LocalDateTime.now();
         openBankingTokenRepository.deleteExpiredTokens(now);
         log.debug("만료된 오픈뱅킹 토큰 정리 완료");
     }
     
+    /**
+     * 메모리 보관 토큰 (만료시간 포함)
+     */
+    private record CachedToken(String accessToken, LocalDateTime expiresAt) {
+        
+        boolean isValidAt(LocalDateTime now) {
+            return expiresAt != null && expiresAt.isAfter(now);
+        }
+        
+        boolean needsRefreshAt(LocalDateTime now, long refreshBeforeSeconds) {
+            return expiresAt == null || !expiresAt.minusSeconds(refreshBeforeSeconds).isAfter(now);
+        }
+    }
+    
     /**
      * 토큰 정보 조회 (디버깅용)
      */
@@ -0,0 +1,24 @@
+package com.marry1q.marry1qbe.grobal.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+
+/**
+ * JWT Claims만으로 만든 인증 사용자 (DB 조회 없음)
+ * 
+ * 비밀번호는 보관하지 않습니다. 커플 정보처럼 바뀔 수 있는 값은 토큰에 담지 않고
+ * 필요할 때 CurrentCoupleContext 로 조회합니다.
+ */
+public class JwtUserDetails extends User {
+    
+    public JwtUserDetails(String userSeqNo) {
+        super(userSeqNo, "", Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+    
+    public static JwtUserDetails from(Claims claims) {
+        return new JwtUserDetails(claims.getSubject());
+    }
+}
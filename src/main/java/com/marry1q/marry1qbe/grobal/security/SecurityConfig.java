@@ -1,6 +1,7 @@
 package com.marry1q.marry1qbe.grobal.security;
 
 import com.marry1q.marry1qbe.grobal.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -34,6 +35,10 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins}")
     private String corsAllowedOrigins;
     
+    // 관리 포트 (외부에 공개하지 않는 포트, 미설정 시 -1)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+    
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -41,11 +46,17 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // SSE 등 비동기 응답의 재디스패치 (최초 요청에서 이미 인증됨)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // 인증 불필요 엔드포인트
                 .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/auth/refresh").permitAll()
                 .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/api-docs/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**").permitAll()
                 // Actuator 헬스체크 엔드포인트는 인증 불필요
                 .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                // 모니터링용 메트릭 엔드포인트 (커넥션 풀 등)는 관리 포트로 들어온 요청만 인증 없이 허용
+                .requestMatchers(request -> managementPort > 0
+                        && request.getLocalPort() == managementPort
+                        && request.getRequestURI().startsWith("/actuator/metrics")).permitAll()
                 // 커스텀 헬스체크 엔드포인트는 인증 불필요
                 .requestMatchers("/api/health").permitAll()
                 // 공개 청첩장 조회는 인증 불필요
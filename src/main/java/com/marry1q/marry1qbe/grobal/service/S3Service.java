@@ -1,50 +1,115 @@
 package com.marry1q.marry1qbe.grobal.service;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * S3 업로드/삭제
+ *
+ * - 업로드 대상은 서버에서 만든 이미지 파생본(10MB 이하 원본에서 생성)이라 단일 PUT 으로 올립니다.
+ * - uploadBytesAsync 는 크기가 제한된 업로드 전용 Executor에서 실행되고, 반환된 future로 완료 콜백을 등록할 수 있습니다.
+ * - deleteFiles는 최대 1000개씩 다중 객체 삭제 요청으로 보냅니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class S3Service {
-    
+public class S3Service implements DisposableBean {
+
+    private static final int MAX_DELETE_BATCH = 1000;    // S3 DeleteObjects 요청당 최대 키 수
+
     private final AmazonS3 s3Client;
-    
-    @Value("${aws.s3.bucket-name}")
-    private String bucketName;
-    
+    private final String bucketName;
+    private final ThreadPoolExecutor uploadExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Counter deletedObjects;
+    private final Counter deleteFailures;
+
+    public S3Service(AmazonS3 s3Client,
+                     @Value("${aws.s3.bucket-name}") String bucketName,
+                     @Value("${aws.s3.upload.async-workers:4}") int asyncWorkers,
+                     @Value("${aws.s3.upload.async-queue-capacity:100}") int asyncQueueCapacity,
+                     MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.meterRegistry = meterRegistry;
+
+        this.uploadExecutor = new ThreadPoolExecutor(
+                asyncWorkers, asyncWorkers,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(asyncQueueCapacity),
+                daemonThreadFactory("s3-upload-"),
+                // 큐가 가득 차면 호출 스레드에서 실행 (업로드 유실 없이 속도 조절)
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.uploadExecutor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("s3.upload.executor.active", uploadExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비동기 S3 업로드 수")
+                .register(meterRegistry);
+        Gauge.builder("s3.upload.executor.queued", uploadExecutor, pool -> pool.getQueue().size())
+                .description("대기 중인 비동기 S3 업로드 수")
+                .register(meterRegistry);
+        this.deletedObjects = Counter.builder("s3.delete.objects")
+                .tag("outcome", "success")
+                .description("삭제된 S3 객체 수")
+                .register(meterRegistry);
+        this.deleteFailures = Counter.builder("s3.delete.objects")
+                .tag("outcome", "failure")
+                .description("삭제 실패한 S3 객체 수")
+                .register(meterRegistry);
+
+        log.info("S3 업로드 설정 - 비동기 업로드 워커: {}, 대기열: {}", asyncWorkers, asyncQueueCapacity);
+    }
+
     /**
-     * 파일 업로드
+     * 바이트 배열 업로드 (서버에서 생성한 이미지 파생본 등)
+     *
+     * 키에 UUID가 포함되어 내용이 바뀌지 않으므로 브라우저/CDN 장기 캐시를 허용합니다.
      */
-    public String uploadFile(MultipartFile file, String s3Key) {
+    public String uploadBytes(byte[] content, String contentType, String s3Key) {
         try {
-            log.info("S3 파일 업로드 시작 - bucket: {}, key: {}, fileSize: {}", bucketName, s3Key, file.getSize());
-            
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(file.getContentType());
-            metadata.setContentLength(file.getSize());
-            
-            // ACL 없이 파일 업로드 (버킷 정책으로 접근 권한 관리)
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, s3Key, file.getInputStream(), metadata);
-            
-            s3Client.putObject(putObjectRequest);
-            
-            String fileUrl = s3Client.getUrl(bucketName, s3Key).toString();
+            log.info("S3 파일 업로드 시작 - bucket: {}, key: {}, fileSize: {}", bucketName, s3Key, content.length);
+
+            String fileUrl = putObject(new ByteArrayInputStream(content), contentType, content.length, s3Key,
+                    "public, max-age=31536000, immutable");
             log.info("S3 파일 업로드 완료 - URL: {}", fileUrl);
-            
+
             return fileUrl;
         } catch (Exception e) {
             log.error("S3 파일 업로드 실패 - key: {}, error: {}", s3Key, e.getMessage());
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
         }
     }
-    
+
+    /**
+     * 바이트 배열 비동기 업로드
+     */
+    public CompletableFuture<String> uploadBytesAsync(byte[] content, String contentType, String s3Key) {
+        return CompletableFuture.supplyAsync(() -> uploadBytes(content, contentType, s3Key), uploadExecutor);
+    }
+
     /**
      * 파일 삭제
      */
@@ -52,10 +117,107 @@ public class S3Service {
         try {
             log.info("S3 파일 삭제 시작 - bucket: {}, key: {}", bucketName, s3Key);
             s3Client.deleteObject(bucketName, s3Key);
+            deletedObjects.increment();
             log.info("S3 파일 삭제 완료 - key: {}", s3Key);
         } catch (Exception e) {
+            deleteFailures.increment();
             log.error("S3 파일 삭제 실패 - key: {}, error: {}", s3Key, e.getMessage());
             throw new RuntimeException("파일 삭제에 실패했습니다.", e);
         }
     }
+
+    /**
+     * 여러 파일 삭제 (다중 객체 삭제, 요청당 최대 1000개)
+     *
+     * 일부 키만 실패해도 나머지는 삭제하고, 실패한 키가 있으면 마지막에 예외를 던집니다.
+     */
+    public void deleteFiles(Collection<String> s3Keys) {
+        if (s3Keys == null || s3Keys.isEmpty()) {
+            return;
+        }
+        log.info("S3 파일 일괄 삭제 시작 - bucket: {}, 개수: {}", bucketName, s3Keys.size());
+
+        List<String> keys = new ArrayList<>(s3Keys);
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH) {
+            List<String> batch = keys.subList(from, Math.min(from + MAX_DELETE_BATCH, keys.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                    .withKeys(batch.toArray(new String[0]))
+                    .withQuiet(true);
+            try {
+                s3Client.deleteObjects(request);
+                deletedObjects.increment(batch.size());
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> {
+                    log.error("S3 파일 삭제 실패 - key: {}, code: {}, message: {}",
+                            error.getKey(), error.getCode(), error.getMessage());
+                    failedKeys.add(error.getKey());
+                });
+                deletedObjects.increment(e.getDeletedObjects().size());
+                deleteFailures.increment(e.getErrors().size());
+            } catch (Exception e) {
+                log.error("S3 파일 일괄 삭제 실패 - 개수: {}, error: {}", batch.size(), e.getMessage());
+                failedKeys.addAll(batch);
+                deleteFailures.increment(batch.size());
+            }
+        }
+
+        if (!failedKeys.isEmpty()) {
+            throw new RuntimeException("파일 삭제에 실패했습니다. 실패 키: " + failedKeys);
+        }
+        log.info("S3 파일 일괄 삭제 완료 - 개수: {}", keys.size());
+    }
+
+    private String putObject(InputStream inputStream, String contentType, long size, String s3Key, String cacheControl) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setContentLength(size);    // 길이를 알려줘야 SDK가 스트림을 메모리에 버퍼링하지 않음
+        if (cacheControl != null) {
+            metadata.setCacheControl(cacheControl);
+        }
+
+        // ACL 없이 파일 업로드 (버킷 정책으로 접근 권한 관리)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            s3Client.putObject(new PutObjectRequest(bucketName, s3Key, inputStream, metadata));
+            success = true;
+        } finally {
+            recordUpload(sample, "single", size, success);
+        }
+        return s3Client.getUrl(bucketName, s3Key).toString();
+    }
+
+    /**
+     * 업로드 지연시간/바이트 기록 (처리량 = s3.upload.bytes / s3.upload 시간)
+     */
+    private void recordUpload(Timer.Sample sample, String mode, long size, boolean success) {
+        sample.stop(Timer.builder("s3.upload")
+                .tag("mode", mode)
+                .tag("outcome", success ? "success" : "failure")
+                .description("S3 업로드 시간")
+                .register(meterRegistry));
+        if (success) {
+            DistributionSummary.builder("s3.upload.bytes")
+                    .tag("mode", mode)
+                    .baseUnit("bytes")
+                    .description("S3 업로드 크기")
+                    .register(meterRegistry)
+                    .record(size);
+        }
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void destroy() {
+        uploadExecutor.shutdown();
+    }
 }
@@ -0,0 +1,166 @@
+package com.marry1q.marry1qbe.grobal.util;
+
+import com.marry1q.marry1qbe.domain.account.entity.Account;
+import com.marry1q.marry1qbe.domain.account.repository.AccountRepository;
+import com.marry1q.marry1qbe.domain.couple.entity.Marry1qCouple;
+import com.marry1q.marry1qbe.domain.couple.repository.Marry1qCoupleRepository;
+import com.marry1q.marry1qbe.domain.customer.entity.Customer;
+import com.marry1q.marry1qbe.domain.customer.repository.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * 현재 요청 사용자의 고객/커플/모임통장 정보
+ * 
+ * 요청 안에서 처음 필요할 때 한 번만 조회하고 이후에는 재사용합니다.
+ * (고객 → 커플 → 모임통장 순서로 필요한 만큼만 조회)
+ * HTTP 요청 밖(스케줄러, 비동기 스레드)에서는 캐시하지 않고 매번 조회합니다.
+ */
+@Slf4j
+@Component
+public class CurrentCoupleContext {
+    
+    private static final String ATTRIBUTE_NAME = CurrentCoupleContext.class.getName() + ".snapshot";
+    
+    private final SecurityUtil securityUtil;
+    private final CustomerRepository customerRepository;
+    private final Marry1qCoupleRepository coupleRepository;
+    private final AccountRepository accountRepository;
+    
+    private final Counter customerQueries;
+    private final Counter coupleQueries;
+    private final Counter accountQueries;
+    private final Counter cacheHits;
+    private final DistributionSummary queriesPerRequest;
+    
+    public CurrentCoupleContext(SecurityUtil securityUtil,
+                                CustomerRepository customerRepository,
+                                Marry1qCoupleRepository coupleRepository,
+                                AccountRepository accountRepository,
+                                MeterRegistry meterRegistry) {
+        this.securityUtil = securityUtil;
+        this.customerRepository = customerRepository;
+        this.coupleRepository = coupleRepository;
+        this.accountRepository = accountRepository;
+        this.customerQueries = queryCounter(meterRegistry, "customer");
+        this.coupleQueries = queryCounter(meterRegistry, "couple");
+        this.accountQueries = queryCounter(meterRegistry, "account");
+        this.cacheHits = Counter.builder("current.couple.context.cache.hits")
+                .description("요청 내 재사용된 고객/커플/모임통장 조회 수")
+                .register(meterRegistry);
+        this.queriesPerRequest = DistributionSummary.builder("current.couple.context.queries.per.request")
+                .description("요청당 고객/커플/모임통장 조회 쿼리 수")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 현재 사용자 조회
+     */
+    public Customer getCustomer() {
+        Snapshot snapshot = snapshot();
+        if (snapshot.customer == null) {
+            customerQueries.increment();
+            snapshot.queryCount++;
+            snapshot.customer = customerRepository.findById(snapshot.userSeqNo)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다. userSeqNo: " + snapshot.userSeqNo));
+        } else {
+            cacheHits.increment();
+        }
+        return snapshot.customer;
+    }
+    
+    /**
+     * 현재 사용자의 coupleId (커플 미가입이면 null)
+     */
+    public Long getCoupleId() {
+        return getCustomer().getCoupleId();
+    }
+    
+    /**
+     * 현재 사용자의 커플 조회
+     */
+    public Optional<Marry1qCouple> getCouple() {
+        Long coupleId = getCoupleId();
+        if (coupleId == null) {
+            return Optional.empty();
+        }
+        
+        Snapshot snapshot = snapshot();
+        if (snapshot.couple == null) {
+            coupleQueries.increment();
+            snapshot.queryCount++;
+            snapshot.couple = coupleRepository.findById(coupleId);
+        } else {
+            cacheHits.increment();
+        }
+        return snapshot.couple;
+    }
+    
+    /**
+     * 현재 사용자의 모임통장 조회
+     */
+    public Optional<Account> getCoupleAccount() {
+        Optional<String> coupleAccountNumber = getCouple().map(Marry1qCouple::getCoupleAccount);
+        if (coupleAccountNumber.isEmpty()) {
+            return Optional.empty();
+        }
+        
+        Snapshot snapshot = snapshot();
+        if (snapshot.coupleAccount == null) {
+            accountQueries.increment();
+            snapshot.queryCount++;
+            snapshot.coupleAccount = accountRepository.findByAccountNumber(coupleAccountNumber.get());
+        } else {
+            cacheHits.increment();
+        }
+        return snapshot.coupleAccount;
+    }
+    
+    /**
+     * 요청 단위 조회 결과 (요청 스레드에서만 사용)
+     */
+    private Snapshot snapshot() {
+        String userSeqNo = securityUtil.getCurrentUserSeqNo();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new Snapshot(userSeqNo);
+        }
+        
+        Object existing = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof Snapshot snapshot && snapshot.userSeqNo.equals(userSeqNo)) {
+            return snapshot;
+        }
+        
+        Snapshot snapshot = new Snapshot(userSeqNo);
+        attributes.setAttribute(ATTRIBUTE_NAME, snapshot, RequestAttributes.SCOPE_REQUEST);
+        attributes.registerDestructionCallback(ATTRIBUTE_NAME,
+                () -> queriesPerRequest.record(snapshot.queryCount), RequestAttributes.SCOPE_REQUEST);
+        return snapshot;
+    }
+    
+    private static Counter queryCounter(MeterRegistry meterRegistry, String entity) {
+        return Counter.builder("current.couple.context.queries")
+                .tag("entity", entity)
+                .description("고객/커플/모임통장 조회 쿼리 수")
+                .register(meterRegistry);
+    }
+    
+    private static class Snapshot {
+        private final String userSeqNo;
+        private Customer customer;
+        private Optional<Marry1qCouple> couple;
+        private Optional<Account> coupleAccount;
+        private int queryCount;
+        
+        private Snapshot(String userSeqNo) {
+            this.userSeqNo = userSeqNo;
+        }
+    }
+}
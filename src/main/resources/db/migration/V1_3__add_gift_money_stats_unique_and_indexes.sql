@@ -0,0 +1,47 @@
+-- 축의금 통계 행을 커플당 하나로 제한하고 축의금 조회/집계용 인덱스 추가
+-- 증분 통계는 INSERT IGNORE + couple_id 유니크 키로 통계 행을 하나만 만들기 때문에 유니크 키가 반드시 필요함
+-- 중복 통계 행은 가장 먼저 만들어진 행만 남기고 삭제 (값은 정합성 점검이 원본 기준으로 복구)
+-- ddl-auto: update 가 같은 이름으로 먼저 만들었을 수 있으므로 information_schema 로 확인 후 없을 때만 생성 (여러 번 실행해도 안전)
+
+DELETE s FROM gift_money_stats s
+JOIN gift_money_stats keep
+  ON keep.couple_id = s.couple_id AND keep.gift_money_stats_id < s.gift_money_stats_id;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'gift_money_stats' AND index_name = 'uk_gift_money_stats_couple') = 0,
+              'ALTER TABLE gift_money_stats ADD CONSTRAINT uk_gift_money_stats_couple UNIQUE (couple_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 최고 후원자 / 후원자 순위 (couple_id, amount 역순)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'gift_money' AND index_name = 'idx_gift_money_couple_amount') = 0,
+              'CREATE INDEX idx_gift_money_couple_amount ON gift_money (couple_id, amount)',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 목록 정렬/커서 조회 및 첫/마지막 날짜 재계산 (gift_date, created_at, gift_money_id 역순)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'gift_money' AND index_name = 'idx_gift_money_couple_list') = 0,
+              'CREATE INDEX idx_gift_money_couple_list ON gift_money (couple_id, gift_date, created_at, gift_money_id)',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+-- 감사 연락 / 관계 / 경로 필터 목록
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'gift_money' AND index_name = 'idx_gift_money_couple_thanks') = 0,
+              'CREATE INDEX idx_gift_money_couple_thanks ON gift_money (couple_id, thanks_sent, gift_date)',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'gift_money' AND index_name = 'idx_gift_money_couple_relationship') = 0,
+              'CREATE INDEX idx_gift_money_couple_relationship ON gift_money (couple_id, relationship, gift_date)',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics
+               WHERE table_schema = DATABASE() AND table_name = 'gift_money' AND index_name = 'idx_gift_money_couple_source') = 0,
+              'CREATE INDEX idx_gift_money_couple_source ON gift_money (couple_id, source, gift_date)',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
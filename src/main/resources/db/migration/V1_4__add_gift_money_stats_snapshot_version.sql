@@ -0,0 +1,8 @@
+-- 축의금 통계 스냅샷 버전 추가 (통계가 바뀔 때마다 1씩 증가, 통계 캐시/조건부 응답의 버전)
+-- ddl-auto: update 가 먼저 추가했을 수 있으므로 information_schema 로 확인 후 없을 때만 추가 (여러 번 실행해도 안전)
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'gift_money_stats' AND column_name = 'snapshot_version') = 0,
+              'ALTER TABLE gift_money_stats ADD COLUMN snapshot_version BIGINT NOT NULL DEFAULT 0 COMMENT ''통계 스냅샷 버전''',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
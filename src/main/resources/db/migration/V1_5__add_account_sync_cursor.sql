@@ -0,0 +1,21 @@
+-- 모임통장 거래내역 증분 동기화 커서 추가 (마지막으로 반영한 거래의 거래일시/bankTranId)
+-- 기존 계좌는 NULL 로 두고 첫 동기화에서 전체 기간을 조회한 뒤 커서를 채움
+-- ddl-auto: update 가 먼저 추가했을 수 있으므로 information_schema 로 확인 후 없을 때만 추가 (여러 번 실행해도 안전)
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'account' AND column_name = 'sync_cursor_tran_date') = 0,
+              'ALTER TABLE account ADD COLUMN sync_cursor_tran_date DATE NULL COMMENT ''동기화 커서 거래일''',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'account' AND column_name = 'sync_cursor_tran_time') = 0,
+              'ALTER TABLE account ADD COLUMN sync_cursor_tran_time TIME NULL COMMENT ''동기화 커서 거래시각''',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'account' AND column_name = 'sync_cursor_tran_id') = 0,
+              'ALTER TABLE account ADD COLUMN sync_cursor_tran_id VARCHAR(50) NULL COMMENT ''동기화 커서 bankTranId''',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
@@ -0,0 +1,8 @@
+-- 로그아웃/토큰 폐기 시각 (이 시각 이전에 발급된 사용자 토큰은 거부, 서버 재시작/다른 서버에서도 유지)
+-- ddl-auto: update 가 먼저 만들었을 수 있으므로 없을 때만 생성 (여러 번 실행해도 안전)
+
+CREATE TABLE IF NOT EXISTS marry1q_token_revocation (
+    user_seq_no VARCHAR(20) NOT NULL COMMENT '사용자 번호',
+    revoked_at DATETIME(6) NOT NULL COMMENT '토큰 폐기 시각',
+    PRIMARY KEY (user_seq_no)
+);
@@ -0,0 +1,40 @@
+-- 자동이체 변경 아웃박스 (수동납입 후 하나은행 자동이체 재등록을 커밋 후 비동기 전송)와 자동이체 단위 잠금 행
+-- ddl-auto: update 가 먼저 만들었을 수 있으므로 없을 때만 생성 (여러 번 실행해도 안전)
+
+CREATE TABLE IF NOT EXISTS auto_transfer_outbox (
+    outbox_id BIGINT NOT NULL AUTO_INCREMENT,
+    idempotency_key VARCHAR(100) NOT NULL COMMENT '중복 등록 방지 키 (하나은행 Idempotency-Key)',
+    operation VARCHAR(20) NOT NULL COMMENT 'CREATE / UPDATE / DELETE / REPLACE',
+    auto_transfer_id BIGINT NULL COMMENT '대상 자동이체 ID',
+    ordering_key VARCHAR(50) NOT NULL COMMENT '전송 순서 보장 단위 (입금 계좌번호)',
+    payload TEXT NULL,
+    user_seq_no VARCHAR(50) NULL,
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING / IN_PROGRESS / SENT / DEAD',
+    completed_steps INT NOT NULL DEFAULT 0,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6) NOT NULL,
+    locked_until DATETIME(6) NULL COMMENT '디스패처 임대 만료 시각',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT '임대 획득마다 증가 (상태 변경 펜싱)',
+    last_error TEXT NULL,
+    result_auto_transfer_id BIGINT NULL,
+    sent_at DATETIME(6) NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (outbox_id),
+    CONSTRAINT uk_auto_transfer_outbox_idempotency UNIQUE (idempotency_key),
+    INDEX idx_auto_transfer_outbox_due (status, next_attempt_at),
+    INDEX idx_auto_transfer_outbox_ordering (ordering_key, status),
+    INDEX idx_auto_transfer_outbox_target (auto_transfer_id, status)
+);
+
+-- 이전 버전 아웃박스 테이블에는 version 컬럼이 없음
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'auto_transfer_outbox' AND column_name = 'version') = 0,
+              'ALTER TABLE auto_transfer_outbox ADD COLUMN version BIGINT NOT NULL DEFAULT 0 COMMENT ''임대 획득마다 증가 (상태 변경 펜싱)''',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS auto_transfer_lock (
+    auto_transfer_id BIGINT NOT NULL COMMENT '같은 자동이체 동시 수동납입 차단용 잠금 행',
+    PRIMARY KEY (auto_transfer_id)
+);
@@ -0,0 +1,44 @@
+-- 계좌별 이체 잠금 행 (서버 간 같은 모임통장 이체 직렬화, 전용 커넥션에서 SELECT ... FOR UPDATE)과 이체 원장
+-- ddl-auto: update 가 먼저 만들었을 수 있으므로 없을 때만 생성 (여러 번 실행해도 안전)
+
+CREATE TABLE IF NOT EXISTS account_transfer_lock (
+    account_number VARCHAR(50) NOT NULL COMMENT '모임통장 계좌번호',
+    PRIMARY KEY (account_number)
+);
+
+-- 임대 방식에서 쓰던 컬럼 정리 (행 잠금 방식으로 바뀌어 사용하지 않음)
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'account_transfer_lock' AND column_name = 'lock_owner') > 0,
+              'ALTER TABLE account_transfer_lock DROP COLUMN lock_owner',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'account_transfer_lock' AND column_name = 'locked_until') > 0,
+              'ALTER TABLE account_transfer_lock DROP COLUMN locked_until',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
+
+CREATE TABLE IF NOT EXISTS transfer_ledger (
+    ledger_id BIGINT NOT NULL AUTO_INCREMENT,
+    idempotency_key VARCHAR(100) NULL COMMENT '클라이언트 멱등성 키',
+    user_seq_no VARCHAR(50) NOT NULL,
+    transfer_type VARCHAR(20) NOT NULL COMMENT 'DEPOSIT / WITHDRAW',
+    bank_tran_id VARCHAR(50) NOT NULL COMMENT '은행 거래 고유 ID (출금/입금이체 공통)',
+    account_number VARCHAR(50) NOT NULL,
+    counterpart_account_number VARCHAR(50) NULL,
+    amount DECIMAL(18, 0) NOT NULL,
+    request_fingerprint VARCHAR(64) NOT NULL COMMENT '요청 본문 해시 (같은 키로 다른 요청 차단)',
+    status VARCHAR(20) NOT NULL COMMENT 'IN_PROGRESS / COMPLETED / FAILED / NEEDS_REVIEW',
+    withdraw_leg_status VARCHAR(20) NOT NULL,
+    deposit_leg_status VARCHAR(20) NOT NULL,
+    response_payload TEXT NULL,
+    error_message VARCHAR(500) NULL,
+    completed_at DATETIME(6) NULL,
+    created_at DATETIME(6) NULL,
+    updated_at DATETIME(6) NULL,
+    PRIMARY KEY (ledger_id),
+    CONSTRAINT uk_transfer_ledger_idempotency UNIQUE (user_seq_no, idempotency_key),
+    CONSTRAINT uk_transfer_ledger_bank_tran_id UNIQUE (bank_tran_id),
+    INDEX idx_transfer_ledger_status (status, updated_at)
+);
@@ -0,0 +1,8 @@
+-- 백그라운드 거래내역 동기화 선점 만료 시각 (여러 서버가 같은 계좌를 동시에 동기화하지 않도록 조건부 UPDATE 로 선점)
+-- ddl-auto: update 가 먼저 추가했을 수 있으므로 information_schema 로 확인 후 없을 때만 추가 (여러 번 실행해도 안전)
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns
+               WHERE table_schema = DATABASE() AND table_name = 'account' AND column_name = 'sync_claimed_until') = 0,
+              'ALTER TABLE account ADD COLUMN sync_claimed_until DATETIME(6) NULL COMMENT ''백그라운드 동기화 선점 만료 시각''',
+              'DO 0');
+PREPARE stmt FROM @ddl; EXECUTE stmt; DEALLOCATE PREPARE stmt;
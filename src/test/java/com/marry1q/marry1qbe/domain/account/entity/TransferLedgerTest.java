@@ -0,0 +1,92 @@
+package com.marry1q.marry1qbe.domain.account.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferLedgerTest {
+
+    @Test
+    @DisplayName("출금을 업스트림이 거절하면 FAILED 로 남기고 입금은 실행하지 않은 것으로 기록한다")
+    void fail_rejectedWithdraw_isFailed() {
+        TransferLedger ledger = ledger();
+
+        ledger.fail("잔액 부족", true);
+
+        assertThat(ledger.getStatus()).isEqualTo(TransferLedger.Status.FAILED);
+        assertThat(ledger.getWithdrawLegStatus()).isEqualTo(TransferLedger.LegStatus.FAILED);
+        assertThat(ledger.getDepositLegStatus()).isEqualTo(TransferLedger.LegStatus.SKIPPED);
+        assertThat(ledger.getErrorMessage()).isEqualTo("잔액 부족");
+        assertThat(ledger.getCompletedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("출금 결과를 알 수 없으면(타임아웃 등) NEEDS_REVIEW 로 남긴다")
+    void fail_unknownWithdraw_needsReview() {
+        TransferLedger ledger = ledger();
+
+        ledger.fail("Read timed out", false);
+
+        assertThat(ledger.getStatus()).isEqualTo(TransferLedger.Status.NEEDS_REVIEW);
+        assertThat(ledger.getWithdrawLegStatus()).isEqualTo(TransferLedger.LegStatus.UNKNOWN);
+        assertThat(ledger.getDepositLegStatus()).isEqualTo(TransferLedger.LegStatus.SKIPPED);
+        assertThat(ledger.isWithdrawLegUnresolved()).isTrue();
+    }
+
+    @Test
+    @DisplayName("출금 성공 후 입금이 실패하면 거절이어도 NEEDS_REVIEW 로 남긴다")
+    void fail_depositAfterWithdraw_needsReview() {
+        TransferLedger ledger = ledger();
+        ledger.markLegSucceeded(TransferLedger.Leg.WITHDRAW);
+
+        ledger.fail("입금 계좌 오류", true);
+
+        assertThat(ledger.getStatus()).isEqualTo(TransferLedger.Status.NEEDS_REVIEW);
+        assertThat(ledger.getWithdrawLegStatus()).isEqualTo(TransferLedger.LegStatus.SUCCEEDED);
+        assertThat(ledger.getDepositLegStatus()).isEqualTo(TransferLedger.LegStatus.FAILED);
+        assertThat(ledger.isWithdrawLegUnresolved()).isFalse();
+    }
+
+    @Test
+    @DisplayName("출금 전에 만료되면 출금은 결과 불명, 입금은 실행하지 않은 것으로 기록한다")
+    void expire_beforeWithdraw() {
+        TransferLedger ledger = ledger();
+
+        ledger.expire("서버 종료");
+
+        assertThat(ledger.getStatus()).isEqualTo(TransferLedger.Status.NEEDS_REVIEW);
+        assertThat(ledger.getWithdrawLegStatus()).isEqualTo(TransferLedger.LegStatus.UNKNOWN);
+        assertThat(ledger.getDepositLegStatus()).isEqualTo(TransferLedger.LegStatus.SKIPPED);
+    }
+
+    @Test
+    @DisplayName("출금 성공 후 만료되면 입금만 결과 불명으로 기록한다")
+    void expire_afterWithdraw() {
+        TransferLedger ledger = ledger();
+        ledger.markLegSucceeded(TransferLedger.Leg.WITHDRAW);
+
+        assertThat(ledger.expiredWithdrawLegStatus()).isEqualTo(TransferLedger.LegStatus.SUCCEEDED);
+        assertThat(ledger.expiredDepositLegStatus()).isEqualTo(TransferLedger.LegStatus.UNKNOWN);
+
+        ledger.expire("서버 종료");
+
+        assertThat(ledger.getStatus()).isEqualTo(TransferLedger.Status.NEEDS_REVIEW);
+        assertThat(ledger.getWithdrawLegStatus()).isEqualTo(TransferLedger.LegStatus.SUCCEEDED);
+        assertThat(ledger.getDepositLegStatus()).isEqualTo(TransferLedger.LegStatus.UNKNOWN);
+    }
+
+    private TransferLedger ledger() {
+        return TransferLedger.builder()
+                .ledgerId(1L)
+                .transferType(TransferLedger.TransferType.WITHDRAW)
+                .userSeqNo("U001")
+                .bankTranId("M202500001U000000001")
+                .accountNumber("110-123-456789")
+                .amount(new BigDecimal("50000"))
+                .requestFingerprint("fingerprint")
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.marry1q.marry1qbe.domain.account.repository;
+
+import com.marry1q.marry1qbe.domain.account.entity.CoupleAccountTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CoupleAccountTransactionBatchRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private TransactionStatus batchSavepoint;
+    private TransactionStatus rowSavepoint;
+    private CoupleAccountTransactionBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        batchSavepoint = mock(TransactionStatus.class);
+        rowSavepoint = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class)))
+                .thenReturn(batchSavepoint, rowSavepoint);
+        repository = new CoupleAccountTransactionBatchRepository(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("배치 중간 행이 실패하면 세이브포인트로 되돌린 뒤 건별 저장하고 실패한 행만 제외한다")
+    @SuppressWarnings("unchecked")
+    void batchInsert_rollsBackToSavepointBeforeRowByRowRetry() {
+        List<CoupleAccountTransaction> rows = List.of(transaction("T001"), transaction("T002"), transaction("T003"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'T002' for key 'tran_id'"));
+        AtomicInteger call = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            if (call.getAndIncrement() == 1) {
+                throw new DuplicateKeyException("Duplicate entry 'T002' for key 'tran_id'");
+            }
+            return 1;
+        });
+
+        int inserted = repository.batchInsert(rows, 100);
+
+        assertThat(inserted).isEqualTo(2);
+        InOrder inOrder = inOrder(transactionManager, jdbcTemplate);
+        inOrder.verify(transactionManager).rollback(batchSavepoint);
+        inOrder.verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+        verify(transactionManager, never()).commit(batchSavepoint);
+        verify(transactionManager).rollback(rowSavepoint);
+    }
+
+    @Test
+    @DisplayName("배치가 성공하면 건별 저장을 하지 않는다")
+    @SuppressWarnings("unchecked")
+    void batchInsert_successDoesNotRetry() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+
+        int inserted = repository.batchInsert(List.of(transaction("T001"), transaction("T002")), 100);
+
+        assertThat(inserted).isEqualTo(2);
+        verify(transactionManager).commit(batchSavepoint);
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    private CoupleAccountTransaction transaction(String tranId) {
+        return CoupleAccountTransaction.builder()
+                .tranId(tranId)
+                .type(CoupleAccountTransaction.TransactionType.DEPOSIT)
+                .amount(new BigDecimal("50000"))
+                .transactionDate(LocalDate.of(2025, 5, 10))
+                .transactionTime(LocalTime.of(14, 30))
+                .accountNumber("110-123-456789")
+                .accountId(1L)
+                .balanceAfterTransaction(new BigDecimal("150000"))
+                .isSafeAccountDeposit("N")
+                .build();
+    }
+}
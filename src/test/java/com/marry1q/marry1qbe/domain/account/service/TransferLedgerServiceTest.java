@@ -0,0 +1,140 @@
+package com.marry1q.marry1qbe.domain.account.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.marry1q.marry1qbe.domain.account.dto.response.WithdrawResponse;
+import com.marry1q.marry1qbe.domain.account.entity.TransferLedger;
+import com.marry1q.marry1qbe.domain.account.exception.TransferIdempotencyException;
+import com.marry1q.marry1qbe.domain.account.exception.WithdrawTransferException;
+import com.marry1q.marry1qbe.domain.account.repository.TransferLedgerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TransferLedgerServiceTest {
+
+    private static final String USER_SEQ_NO = "U001";
+    private static final String IDEMPOTENCY_KEY = "key-1";
+    private static final String FINGERPRINT = "fingerprint";
+
+    private TransferLedgerRepository transferLedgerRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TransferLedgerService service;
+
+    @BeforeEach
+    void setUp() {
+        transferLedgerRepository = mock(TransferLedgerRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TransferLedgerService(transferLedgerRepository, new ObjectMapper(), 600000, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 키로 내용이 다른 요청을 보내면 거절한다")
+    void findReplay_rejectsFingerprintMismatch() {
+        when(transferLedgerRepository.findByUserSeqNoAndIdempotencyKey(USER_SEQ_NO, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(ledger(TransferLedger.Status.COMPLETED, LocalDateTime.now())));
+
+        assertThatThrownBy(() -> service.findReplay(USER_SEQ_NO, IDEMPOTENCY_KEY, TransferLedger.TransferType.WITHDRAW,
+                "other-fingerprint", WithdrawResponse.class))
+                .isInstanceOf(TransferIdempotencyException.class)
+                .hasMessage("같은 요청 키로 다른 거래를 요청할 수 없습니다.");
+        verify(transferLedgerRepository, never()).expireInProgress(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("오래된 처리 중 요청은 확인 필요로 정리한 뒤 다시 요청하지 말라고 안내한다")
+    void findReplay_expiresStaleInProgress() {
+        TransferLedger stale = ledger(TransferLedger.Status.IN_PROGRESS, LocalDateTime.now().minusHours(1));
+        when(transferLedgerRepository.findByUserSeqNoAndIdempotencyKey(USER_SEQ_NO, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(stale));
+        when(transferLedgerRepository.expireInProgress(eq(1L), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(1);
+        when(transferLedgerRepository.findById(1L)).thenReturn(Optional.of(expired()));
+
+        assertThatThrownBy(() -> service.findReplay(USER_SEQ_NO, IDEMPOTENCY_KEY, TransferLedger.TransferType.WITHDRAW,
+                FINGERPRINT, WithdrawResponse.class))
+                .isInstanceOf(WithdrawTransferException.class)
+                .hasMessageContaining("출금 처리 결과를 확인하지 못했습니다");
+        verify(transferLedgerRepository).expireInProgress(eq(1L),
+                eq(TransferLedger.Status.IN_PROGRESS), eq(TransferLedger.Status.NEEDS_REVIEW),
+                eq(TransferLedger.LegStatus.PENDING), eq(TransferLedger.LegStatus.PENDING),
+                eq(TransferLedger.LegStatus.UNKNOWN), eq(TransferLedger.LegStatus.SKIPPED),
+                anyString(), any(LocalDateTime.class));
+        assertThat(needsReviewCount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("처리 중 요청이 아직 오래되지 않았으면 정리하지 않고 처리 중으로 안내한다")
+    void findReplay_freshInProgressIsNotExpired() {
+        when(transferLedgerRepository.findByUserSeqNoAndIdempotencyKey(USER_SEQ_NO, IDEMPOTENCY_KEY))
+                .thenReturn(Optional.of(ledger(TransferLedger.Status.IN_PROGRESS, LocalDateTime.now())));
+
+        assertThatThrownBy(() -> service.findReplay(USER_SEQ_NO, IDEMPOTENCY_KEY, TransferLedger.TransferType.WITHDRAW,
+                FINGERPRINT, WithdrawResponse.class))
+                .isInstanceOf(TransferIdempotencyException.class)
+                .hasMessageContaining("아직 처리 중");
+        verify(transferLedgerRepository, never()).expireInProgress(any(), any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 서버가 같은 처리 중 이체를 정리해도 실제로 정리한 서버만 집계한다")
+    void expireStaleInProgress_countsOnlyRowsThisNodeUpdated() {
+        TransferLedger first = ledger(TransferLedger.Status.IN_PROGRESS, LocalDateTime.now().minusHours(1));
+        TransferLedger second = ledger(2L, TransferLedger.Status.IN_PROGRESS, LocalDateTime.now().minusHours(1));
+        when(transferLedgerRepository.findByStatusAndUpdatedAtBefore(eq(TransferLedger.Status.IN_PROGRESS),
+                any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(transferLedgerRepository.expireInProgress(eq(1L), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(1);
+        // 다른 서버가 먼저 정리함
+        when(transferLedgerRepository.expireInProgress(eq(2L), any(), any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(0);
+
+        service.expireStaleInProgress();
+
+        assertThat(needsReviewCount()).isEqualTo(1.0);
+        // 조건부 UPDATE 로만 반영하고 읽어 온 엔티티는 바꾸지 않음 (커밋 시 덮어쓰기 방지)
+        assertThat(second.getStatus()).isEqualTo(TransferLedger.Status.IN_PROGRESS);
+    }
+
+    private double needsReviewCount() {
+        return meterRegistry.get("account.transfer.ledger.needs.review").counter().count();
+    }
+
+    private TransferLedger ledger(TransferLedger.Status status, LocalDateTime updatedAt) {
+        return ledger(1L, status, updatedAt);
+    }
+
+    private TransferLedger ledger(Long ledgerId, TransferLedger.Status status, LocalDateTime updatedAt) {
+        return TransferLedger.builder()
+                .ledgerId(ledgerId)
+                .idempotencyKey(IDEMPOTENCY_KEY)
+                .transferType(TransferLedger.TransferType.WITHDRAW)
+                .userSeqNo(USER_SEQ_NO)
+                .bankTranId("M202500001U00000000" + ledgerId)
+                .accountNumber("110-123-456789")
+                .amount(new BigDecimal("50000"))
+                .requestFingerprint(FINGERPRINT)
+                .status(status)
+                .responsePayload("{}")
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private TransferLedger expired() {
+        TransferLedger ledger = ledger(TransferLedger.Status.IN_PROGRESS, LocalDateTime.now());
+        ledger.expire("처리 중 서버 종료 등으로 이체 결과를 확인하지 못했습니다.");
+        return ledger;
+    }
+}
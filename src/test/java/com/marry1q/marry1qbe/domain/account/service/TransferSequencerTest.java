@@ -0,0 +1,125 @@
+package com.marry1q.marry1qbe.domain.account.service;
+
+import com.marry1q.marry1qbe.domain.account.repository.AccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class TransferSequencerTest {
+
+    private static final String ACCOUNT_NUMBER = "110-123-456789";
+
+    private DataSource dataSource;
+    private Connection connection;
+    private PreparedStatement insertStatement;
+    private PreparedStatement lockStatement;
+    private SimpleMeterRegistry meterRegistry;
+    private TransferSequencer sequencer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        insertStatement = mock(PreparedStatement.class);
+        lockStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(startsWith("INSERT IGNORE"))).thenReturn(insertStatement);
+        when(connection.prepareStatement(startsWith("SELECT"))).thenReturn(lockStatement);
+        when(connection.createStatement()).thenReturn(mock(Statement.class));
+        when(lockStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+
+        meterRegistry = new SimpleMeterRegistry();
+        sequencer = new TransferSequencer(mock(AccountRepository.class), dataSource, 10000, 10, true, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 afterCompletion 에서 DB 잠금 커넥션을 먼저 반납한 뒤 계좌 락을 푼다")
+    void execute_releasesDbLockBeforeLaneAfterCompletion() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        AtomicReference<Double> runningWhenClosed = new AtomicReference<>();
+        doAnswer(invocation -> {
+            runningWhenClosed.set(running());
+            return null;
+        }).when(connection).close();
+
+        String result = sequencer.execute(ACCOUNT_NUMBER, () -> "이체 완료");
+
+        assertThat(result).isEqualTo("이체 완료");
+        verify(connection, never()).close();
+        assertThat(running()).isEqualTo(1.0);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).close();
+        assertThat(runningWhenClosed.get()).isEqualTo(1.0);
+        assertThat(running()).isEqualTo(0.0);
+        assertThat(meterRegistry.get("account.transfer.sequencer.accounts").gauge().value()).isEqualTo(0.0);
+        assertThat(meterRegistry.get("account.transfer.sequencer.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 이체가 끝나자마자 DB 잠금과 계좌 락을 반납한다")
+    void execute_releasesImmediatelyWithoutTransaction() throws SQLException {
+        sequencer.execute(ACCOUNT_NUMBER, () -> "이체 완료");
+
+        verify(lockStatement).setString(1, ACCOUNT_NUMBER);
+        verify(connection).close();
+        assertThat(running()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("다른 서버의 이체로 잠금 대기 시간이 초과되면 바로 거절하고 계좌 락을 푼다")
+    void execute_rejectsOnLockWaitTimeout() throws SQLException {
+        when(lockStatement.executeQuery())
+                .thenThrow(new SQLException("Lock wait timeout exceeded", "HY000", 1205));
+
+        assertThatThrownBy(() -> sequencer.execute(ACCOUNT_NUMBER, () -> "이체 완료"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("다른 거래가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+
+        verify(connection).close();
+        assertThat(running()).isEqualTo(0.0);
+        assertThat(meterRegistry.get("account.transfer.sequencer.rejected").tag("reason", "timeout").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("account.transfer.sequencer.wait").timer().count()).isEqualTo(1);
+
+        // 락이 풀렸으므로 다음 이체는 바로 실행됨
+        reset(lockStatement);
+        when(lockStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+        assertThat(sequencer.execute(ACCOUNT_NUMBER, () -> "이체 완료")).isEqualTo("이체 완료");
+    }
+
+    private double running() {
+        return meterRegistry.get("account.transfer.sequencer.running").gauge().value();
+    }
+}
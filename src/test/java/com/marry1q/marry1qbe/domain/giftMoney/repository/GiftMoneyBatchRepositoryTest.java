@@ -0,0 +1,96 @@
+package com.marry1q.marry1qbe.domain.giftMoney.repository;
+
+import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.Relationship;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GiftMoneyBatchRepositoryTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private TransactionStatus batchSavepoint;
+    private TransactionStatus rowSavepoint;
+    private GiftMoneyBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        batchSavepoint = mock(TransactionStatus.class);
+        rowSavepoint = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any(TransactionDefinition.class)))
+                .thenReturn(batchSavepoint, rowSavepoint);
+        repository = new GiftMoneyBatchRepository(jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("배치 중간 행이 실패하면 세이브포인트로 되돌린 뒤 건별 저장하고 실패한 행만 제외한다")
+    @SuppressWarnings("unchecked")
+    void batchInsert_rollsBackToSavepointBeforeRowByRowRetry() {
+        List<GiftMoney> rows = List.of(giftMoney("김철수"), giftMoney("잘못된 행"), giftMoney("이영희"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("Data too long for column 'name'"));
+        AtomicInteger call = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            if (call.getAndIncrement() == 1) {
+                throw new DataIntegrityViolationException("Data too long for column 'name'");
+            }
+            return 1;
+        });
+
+        Map<Integer, String> failures = repository.batchInsert(rows);
+
+        assertThat(failures).containsOnlyKeys(1);
+        InOrder inOrder = inOrder(transactionManager, jdbcTemplate);
+        inOrder.verify(transactionManager).rollback(batchSavepoint);
+        inOrder.verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+        verify(transactionManager, never()).commit(batchSavepoint);
+    }
+
+    @Test
+    @DisplayName("배치가 성공하면 건별 저장을 하지 않는다")
+    @SuppressWarnings("unchecked")
+    void batchInsert_successDoesNotRetry() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+
+        Map<Integer, String> failures = repository.batchInsert(List.of(giftMoney("김철수"), giftMoney("이영희")));
+
+        assertThat(failures).isEmpty();
+        verify(transactionManager).commit(batchSavepoint);
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    private GiftMoney giftMoney(String name) {
+        return GiftMoney.builder()
+                .name(name)
+                .amount(new BigDecimal("50000"))
+                .relationship(Relationship.values()[0])
+                .source(Source.values()[0])
+                .giftDate(LocalDate.of(2025, 5, 10))
+                .thanksSent(false)
+                .coupleId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.marry1q.marry1qbe.domain.giftMoney.repository;
+
+import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
+import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoneyStats;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.Relationship;
+import com.marry1q.marry1qbe.domain.giftMoney.enums.Source;
+import com.marry1q.marry1qbe.grobal.config.QuerydslConfig;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static com.marry1q.marry1qbe.domain.giftMoney.entity.QGiftMoney.giftMoney;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 축의금 통계 전체 재계산 성능 비교 (./gradlew benchmarkTest)
+ * - 기존 방식: 합계/건수/감사 미발송/관계별 쿼리 + 전체 엔티티 로딩 후 금액대 분류 + 최고 후원자 엔티티 조회
+ * - 현재 방식: calculateAndUpdateStatistics 의 관계별 1회 집계 쿼리
+ * 내장 H2 기준 수치라 MySQL 운영 수치와 절대값은 다르며, 두 방식의 상대 비교와 결과 일치 확인이 목적이다.
+ */
+@DataJpaTest
+@Import(QuerydslConfig.class)
+@Tag("benchmark")
+class GiftMoneyStatisticsBenchmarkTest {
+
+    private static final Long COUPLE_ID = 1L;
+    private static final Long OTHER_COUPLE_ID = 2L;
+    private static final int ROW_COUNT = 12_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 10;
+
+    private static final long[] AMOUNTS = {
+            10_000, 29_999, 30_000, 50_000, 70_000, 100_000, 150_000, 200_000, 300_000, 500_000, 500_001, 1_000_000
+    };
+
+    private static final String INSERT_SQL = """
+            INSERT INTO gift_money (name, amount, relationship, source, gift_date, thanks_sent, couple_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    @Autowired
+    private GiftMoneyRepository giftMoneyRepository;
+
+    @Autowired
+    private JPAQueryFactory queryFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final int[] expectedRangeCounts = new int[6];
+    private BigDecimal expectedTotalAmount = BigDecimal.ZERO;
+    private int expectedThanksNotSent;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(20240601L);
+        LocalDate weddingDate = LocalDate.of(2024, 6, 1);
+        Relationship[] relationships = Relationship.values();
+
+        List<Object[]> rows = new ArrayList<>(ROW_COUNT * 2);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            long amount = AMOUNTS[random.nextInt(AMOUNTS.length)];
+            boolean thanksSent = random.nextInt(10) < 7;
+            rows.add(row("하객" + i, amount, relationships[random.nextInt(relationships.length)],
+                    weddingDate.minusDays(random.nextInt(30)), thanksSent, COUPLE_ID));
+
+            expectedTotalAmount = expectedTotalAmount.add(BigDecimal.valueOf(amount));
+            expectedRangeCounts[rangeIndex(amount)]++;
+            if (!thanksSent) {
+                expectedThanksNotSent++;
+            }
+        }
+        // 다른 커플 데이터 (coupleId 조건이 실제로 걸러내는지 확인용)
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(row("다른하객" + i, AMOUNTS[random.nextInt(AMOUNTS.length)], relationships[random.nextInt(relationships.length)],
+                    weddingDate, true, OTHER_COUPLE_ID));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Test
+    @DisplayName("12,000건 기준 관계별 1회 집계가 엔티티 전체 로딩 방식과 같은 통계를 더 적은 비용으로 계산한다")
+    void calculateAndUpdateStatistics_groupedAggregationVsEntityLoading() {
+        double legacyMillis = measure(() -> legacyCalculate(COUPLE_ID));
+        double groupedMillis = measure(() -> giftMoneyRepository.calculateAndUpdateStatistics(COUPLE_ID));
+
+        System.out.printf("축의금 통계 재계산 (%,d건, %d회 평균) - 기존: %.2fms, 집계 1회: %.2fms, 배율: %.1fx%n",
+                ROW_COUNT, MEASURE_ROUNDS, legacyMillis, groupedMillis, legacyMillis / groupedMillis);
+
+        GiftMoneyStats legacy = legacyCalculate(COUPLE_ID);
+        entityManager.clear();
+        GiftMoneyStats grouped = giftMoneyRepository.calculateAndUpdateStatistics(COUPLE_ID);
+
+        for (GiftMoneyStats stats : List.of(legacy, grouped)) {
+            assertThat(stats.getTotalCount()).isEqualTo(ROW_COUNT);
+            assertThat(stats.getTotalAmount()).isEqualByComparingTo(expectedTotalAmount);
+            assertThat(stats.getThanksNotSentCount()).isEqualTo(expectedThanksNotSent);
+            assertThat(rangeCounts(stats)).containsExactly(expectedRangeCounts);
+            assertThat(stats.getTopDonorAmount()).isEqualByComparingTo(BigDecimal.valueOf(1_000_000));
+        }
+        assertThat(grouped.getFamilyCount() + grouped.getRelativeCount() + grouped.getFriendCount()
+                + grouped.getColleagueCount() + grouped.getAcquaintanceCount() + grouped.getOtherCount())
+                .isEqualTo(ROW_COUNT);
+    }
+
+    // 워밍업 후 회차별로 영속성 컨텍스트를 비워 매번 DB 조회/엔티티 생성 비용이 포함되도록 측정
+    private double measure(Supplier<GiftMoneyStats> task) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runClean(task);
+        }
+        long totalNanos = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            runClean(task);
+            totalNanos += System.nanoTime() - start;
+        }
+        return totalNanos / 1_000_000.0 / MEASURE_ROUNDS;
+    }
+
+    private void runClean(Supplier<GiftMoneyStats> task) {
+        entityManager.flush();
+        entityManager.clear();
+        task.get();
+        entityManager.flush();
+    }
+
+    // 관계별 1회 집계 도입 전 calculateAndUpdateStatistics 의 조회 방식
+    private GiftMoneyStats legacyCalculate(Long coupleId) {
+        GiftMoneyStats stats = GiftMoneyStats.builder().coupleId(coupleId).build();
+
+        BigDecimal totalAmount = queryFactory
+                .select(giftMoney.amount.sum().coalesce(BigDecimal.ZERO))
+                .from(giftMoney)
+                .where(giftMoney.coupleId.eq(coupleId))
+                .fetchOne();
+        Long totalCount = queryFactory
+                .select(giftMoney.count())
+                .from(giftMoney)
+                .where(giftMoney.coupleId.eq(coupleId))
+                .fetchOne();
+        Long thanksNotSentCount = queryFactory
+                .select(giftMoney.count())
+                .from(giftMoney)
+                .where(giftMoney.coupleId.eq(coupleId)
+                        .and(giftMoney.thanksSent.eq(false)))
+                .fetchOne();
+        List<Tuple> relationshipStats = queryFactory
+                .select(giftMoney.relationship, giftMoney.amount.sum().coalesce(BigDecimal.ZERO), giftMoney.count())
+                .from(giftMoney)
+                .where(giftMoney.coupleId.eq(coupleId))
+                .groupBy(giftMoney.relationship)
+                .fetch();
+
+        stats.setTotalAmount(totalAmount);
+        stats.setTotalCount(totalCount.intValue());
+        stats.setThanksNotSentCount(thanksNotSentCount.intValue());
+        assertThat(relationshipStats).isNotEmpty();
+
+        GiftMoney topDonor = queryFactory
+                .selectFrom(giftMoney)
+                .where(giftMoney.coupleId.eq(coupleId))
+                .orderBy(giftMoney.amount.desc())
+                .fetchFirst();
+        stats.setTopDonorAmount(topDonor.getAmount());
+
+        List<GiftMoney> allGiftMoney = queryFactory
+                .selectFrom(giftMoney)
+                .where(giftMoney.coupleId.eq(coupleId))
+                .fetch();
+        int[] counts = new int[6];
+        for (GiftMoney gift : allGiftMoney) {
+            counts[rangeIndex(gift.getAmount().longValue())]++;
+        }
+        stats.setAmountUnder30kCount(counts[0]);
+        stats.setAmount30kTo50kCount(counts[1]);
+        stats.setAmount50kTo100kCount(counts[2]);
+        stats.setAmount100kTo200kCount(counts[3]);
+        stats.setAmount200kTo500kCount(counts[4]);
+        stats.setAmountOver500kCount(counts[5]);
+        return stats;
+    }
+
+    private static Object[] row(String name, long amount, Relationship relationship, LocalDate giftDate,
+                                boolean thanksSent, Long coupleId) {
+        return new Object[]{name, BigDecimal.valueOf(amount), relationship.name(), Source.CASH.name(),
+                Date.valueOf(giftDate), thanksSent, coupleId};
+    }
+
+    // 30k 미만 / 30k~50k 미만 / 50k~100k 미만 / 100k~200k 미만 / 200k~500k 이하 / 500k 초과
+    private static int rangeIndex(long amount) {
+        if (amount < 30_000) return 0;
+        if (amount < 50_000) return 1;
+        if (amount < 100_000) return 2;
+        if (amount < 200_000) return 3;
+        if (amount <= 500_000) return 4;
+        return 5;
+    }
+
+    private static int[] rangeCounts(GiftMoneyStats stats) {
+        return new int[]{
+                stats.getAmountUnder30kCount(), stats.getAmount30kTo50kCount(), stats.getAmount50kTo100kCount(),
+                stats.getAmount100kTo200kCount(), stats.getAmount200kTo500kCount(), stats.getAmountOver500kCount()
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package com.marry1q.marry1qbe.domain.giftMoney.service;
+
+import com.marry1q.marry1qbe.domain.giftMoney.dto.response.GiftMoneyImportResponse;
+import com.marry1q.marry1qbe.domain.giftMoney.entity.GiftMoney;
+import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyBatchRepository;
+import com.marry1q.marry1qbe.domain.giftMoney.repository.GiftMoneyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GiftMoneyImportServiceTest {
+
+    private static final Long COUPLE_ID = 1L;
+
+    private GiftMoneyBatchRepository giftMoneyBatchRepository;
+    private List<String> insertedNames;
+    private GiftMoneyImportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        giftMoneyBatchRepository = mock(GiftMoneyBatchRepository.class);
+        insertedNames = new ArrayList<>();
+        // 배치 목록은 저장 후 비워지므로 호출 시점에 이름을 기록
+        when(giftMoneyBatchRepository.batchInsert(anyList())).thenAnswer(invocation -> {
+            invocation.<List<GiftMoney>>getArgument(0).forEach(giftMoney -> insertedNames.add(giftMoney.getName()));
+            return Map.of();
+        });
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+
+        service = new GiftMoneyImportService(giftMoneyBatchRepository, mock(GiftMoneyRepository.class),
+                mock(GiftMoneyStatisticsCache.class), mock(GiftMoneyLiveFeed.class), transactionTemplate);
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        ReflectionTestUtils.setField(service, "maxRows", 5000);
+    }
+
+    @Test
+    @DisplayName("파일 중간에서 읽기가 실패하면 이미 등록한 건수와 실패한 행을 결과로 돌려준다")
+    void importCsv_returnsPartialReportOnMidFileReadFailure() {
+        String csv = "이름,금액,관계,받은방법,날짜\n"
+                + "김철수,50000,친구,현금,2025-05-10\n"
+                + "이영희,100000,가족,계좌이체,2025-05-10\n"
+                + "박민수,\"" + "1".repeat(10001) + "\",친구,현금,2025-05-10\n"
+                + "최지은,30000,지인,현금,2025-05-10\n";
+        MockMultipartFile file = new MockMultipartFile("file", "gift.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        GiftMoneyImportResponse response = service.importCsv(file, COUPLE_ID);
+
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getTotalRows()).isEqualTo(3);
+        assertThat(response.getFailedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getRowNumber()).isEqualTo(4);
+                    assertThat(error.getMessage()).contains("이후 행은 처리하지 않았습니다");
+                });
+        assertThat(insertedNames).containsExactly("김철수", "이영희");
+    }
+
+    @Test
+    @DisplayName("읽기 실패 전에 읽은 행은 배치 크기를 채우지 못해도 저장한다")
+    void importCsv_flushesPendingBatchBeforeReadFailure() {
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        String csv = "이름,금액,관계,받은방법,날짜\n"
+                + "김철수,50000,친구,현금,2025-05-10\n"
+                + "박민수,\"" + "1".repeat(10001) + "\",친구,현금,2025-05-10\n";
+        MockMultipartFile file = new MockMultipartFile("file", "gift.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        GiftMoneyImportResponse response = service.importCsv(file, COUPLE_ID);
+
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).hasSize(1);
+        assertThat(insertedNames).containsExactly("김철수");
+    }
+}
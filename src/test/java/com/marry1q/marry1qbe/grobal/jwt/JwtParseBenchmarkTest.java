@@ -0,0 +1,87 @@
+package com.marry1q.marry1qbe.grobal.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 인증 필터 경로의 토큰 검증 비용 비교 (./gradlew benchmarkTest)
+ * - 기존 방식: 요청마다 서명 키/파서 생성, validateToken 후 getUserSeqNoFromToken 으로 두 번 파싱
+ * - 현재 방식: 시작 시 만든 파서를 재사용하고 parseValidClaims 로 한 번만 파싱
+ */
+@Tag("benchmark")
+class JwtParseBenchmarkTest {
+
+    private static final String SECRET = "marry1q-benchmark-secret-key-0123456789abcdef";
+    private static final String USER_SEQ_NO = "1000000001";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 50_000;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpiration", 3600L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpiration", 86400L);
+        jwtTokenProvider.init();
+        token = jwtTokenProvider.generateAccessToken(USER_SEQ_NO);
+    }
+
+    @Test
+    @DisplayName("파서 재사용 + 1회 파싱이 요청마다 파서 생성 + 2회 파싱과 같은 사용자를 더 적은 비용으로 추출한다")
+    void parseValidClaims_reusedParserVsPerRequestParser() {
+        Function<String, String> perRequest = JwtParseBenchmarkTest::parseWithNewParserTwice;
+        Function<String, String> parseOnce = t -> jwtTokenProvider.parseValidClaims(t)
+                .map(Claims::getSubject)
+                .orElse(null);
+
+        assertThat(perRequest.apply(token)).isEqualTo(USER_SEQ_NO);
+        assertThat(parseOnce.apply(token)).isEqualTo(USER_SEQ_NO);
+
+        double perRequestNanos = measure(perRequest);
+        double parseOnceNanos = measure(parseOnce);
+
+        System.out.printf("JWT 검증 (%,d회 평균) - 요청마다 파서 생성/2회 파싱: %.0fns, 파서 재사용/1회 파싱: %.0fns, 배율: %.1fx%n",
+                MEASURE_ITERATIONS, perRequestNanos, parseOnceNanos, perRequestNanos / parseOnceNanos);
+    }
+
+    // 파서 재사용 도입 전 JwtAuthenticationFilter 경로 (validateToken + getUserSeqNoFromToken)
+    private static String parseWithNewParserTwice(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        JwtParser validateParser = Jwts.parser().verifyWith(key).build();
+        validateParser.parseSignedClaims(token);
+
+        SecretKey subjectKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        JwtParser subjectParser = Jwts.parser().verifyWith(subjectKey).build();
+        return subjectParser.parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    // 결과를 누적해 JIT 가 호출을 제거하지 못하게 하고, 1회당 평균 나노초 반환
+    private double measure(Function<String, String> task) {
+        int sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += task.apply(token).length();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink += task.apply(token).length();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertThat(sink).isEqualTo(USER_SEQ_NO.length() * (WARMUP_ITERATIONS + MEASURE_ITERATIONS));
+        return (double) elapsed / MEASURE_ITERATIONS;
+    }
+}